@@ -0,0 +1,35 @@
+/*
+ * Copyright 2025 Georgi Vanev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jvanev.jxconfig.benchmark;
+
+/**
+ * A record with 10 components of mixed primitive and reference types.
+ * <p>
+ * Only single-slot types are used, as a constructor cannot declare more than 255 parameter slots.
+ */
+public record Components10(
+    int c0,
+    String c1,
+    boolean c2,
+    Integer c3,
+    char c4,
+    int c5,
+    String c6,
+    boolean c7,
+    Integer c8,
+    char c9
+) {
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2025 Georgi Vanev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jvanev.jxconfig.benchmark;
+
+/**
+ * A record with 200 components of mixed primitive and reference types.
+ * <p>
+ * Only single-slot types are used, as a constructor cannot declare more than 255 parameter slots.
+ */
+public record Components200(
+    int c0,
+    String c1,
+    boolean c2,
+    Integer c3,
+    char c4,
+    int c5,
+    String c6,
+    boolean c7,
+    Integer c8,
+    char c9,
+    int c10,
+    String c11,
+    boolean c12,
+    Integer c13,
+    char c14,
+    int c15,
+    String c16,
+    boolean c17,
+    Integer c18,
+    char c19,
+    int c20,
+    String c21,
+    boolean c22,
+    Integer c23,
+    char c24,
+    int c25,
+    String c26,
+    boolean c27,
+    Integer c28,
+    char c29,
+    int c30,
+    String c31,
+    boolean c32,
+    Integer c33,
+    char c34,
+    int c35,
+    String c36,
+    boolean c37,
+    Integer c38,
+    char c39,
+    int c40,
+    String c41,
+    boolean c42,
+    Integer c43,
+    char c44,
+    int c45,
+    String c46,
+    boolean c47,
+    Integer c48,
+    char c49,
+    int c50,
+    String c51,
+    boolean c52,
+    Integer c53,
+    char c54,
+    int c55,
+    String c56,
+    boolean c57,
+    Integer c58,
+    char c59,
+    int c60,
+    String c61,
+    boolean c62,
+    Integer c63,
+    char c64,
+    int c65,
+    String c66,
+    boolean c67,
+    Integer c68,
+    char c69,
+    int c70,
+    String c71,
+    boolean c72,
+    Integer c73,
+    char c74,
+    int c75,
+    String c76,
+    boolean c77,
+    Integer c78,
+    char c79,
+    int c80,
+    String c81,
+    boolean c82,
+    Integer c83,
+    char c84,
+    int c85,
+    String c86,
+    boolean c87,
+    Integer c88,
+    char c89,
+    int c90,
+    String c91,
+    boolean c92,
+    Integer c93,
+    char c94,
+    int c95,
+    String c96,
+    boolean c97,
+    Integer c98,
+    char c99,
+    int c100,
+    String c101,
+    boolean c102,
+    Integer c103,
+    char c104,
+    int c105,
+    String c106,
+    boolean c107,
+    Integer c108,
+    char c109,
+    int c110,
+    String c111,
+    boolean c112,
+    Integer c113,
+    char c114,
+    int c115,
+    String c116,
+    boolean c117,
+    Integer c118,
+    char c119,
+    int c120,
+    String c121,
+    boolean c122,
+    Integer c123,
+    char c124,
+    int c125,
+    String c126,
+    boolean c127,
+    Integer c128,
+    char c129,
+    int c130,
+    String c131,
+    boolean c132,
+    Integer c133,
+    char c134,
+    int c135,
+    String c136,
+    boolean c137,
+    Integer c138,
+    char c139,
+    int c140,
+    String c141,
+    boolean c142,
+    Integer c143,
+    char c144,
+    int c145,
+    String c146,
+    boolean c147,
+    Integer c148,
+    char c149,
+    int c150,
+    String c151,
+    boolean c152,
+    Integer c153,
+    char c154,
+    int c155,
+    String c156,
+    boolean c157,
+    Integer c158,
+    char c159,
+    int c160,
+    String c161,
+    boolean c162,
+    Integer c163,
+    char c164,
+    int c165,
+    String c166,
+    boolean c167,
+    Integer c168,
+    char c169,
+    int c170,
+    String c171,
+    boolean c172,
+    Integer c173,
+    char c174,
+    int c175,
+    String c176,
+    boolean c177,
+    Integer c178,
+    char c179,
+    int c180,
+    String c181,
+    boolean c182,
+    Integer c183,
+    char c184,
+    int c185,
+    String c186,
+    boolean c187,
+    Integer c188,
+    char c189,
+    int c190,
+    String c191,
+    boolean c192,
+    Integer c193,
+    char c194,
+    int c195,
+    String c196,
+    boolean c197,
+    Integer c198,
+    char c199
+) {
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 Georgi Vanev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jvanev.jxconfig.benchmark;
+
+/**
+ * A record with 50 components of mixed primitive and reference types.
+ * <p>
+ * Only single-slot types are used, as a constructor cannot declare more than 255 parameter slots.
+ */
+public record Components50(
+    int c0,
+    String c1,
+    boolean c2,
+    Integer c3,
+    char c4,
+    int c5,
+    String c6,
+    boolean c7,
+    Integer c8,
+    char c9,
+    int c10,
+    String c11,
+    boolean c12,
+    Integer c13,
+    char c14,
+    int c15,
+    String c16,
+    boolean c17,
+    Integer c18,
+    char c19,
+    int c20,
+    String c21,
+    boolean c22,
+    Integer c23,
+    char c24,
+    int c25,
+    String c26,
+    boolean c27,
+    Integer c28,
+    char c29,
+    int c30,
+    String c31,
+    boolean c32,
+    Integer c33,
+    char c34,
+    int c35,
+    String c36,
+    boolean c37,
+    Integer c38,
+    char c39,
+    int c40,
+    String c41,
+    boolean c42,
+    Integer c43,
+    char c44,
+    int c45,
+    String c46,
+    boolean c47,
+    Integer c48,
+    char c49
+) {
+}
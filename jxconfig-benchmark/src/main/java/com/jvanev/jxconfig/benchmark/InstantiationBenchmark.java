@@ -0,0 +1,96 @@
+/*
+ * Copyright 2025 Georgi Vanev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jvanev.jxconfig.benchmark;
+
+import com.jvanev.jxconfig.internal.Instantiator;
+import java.lang.reflect.Constructor;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the reflective {@link Constructor#newInstance(Object...)} path against the
+ * method handle based {@link Instantiator} for records with 10, 50 and 200 components.
+ * <p>
+ * Run with {@code java -jar jxconfig-benchmark/target/benchmarks.jar InstantiationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class InstantiationBenchmark {
+    @Param({"10", "50", "200"})
+    private int components;
+
+    private Constructor<?> constructor;
+
+    private Instantiator instantiator;
+
+    private Object[] arguments;
+
+    @Setup
+    public void setUp() {
+        var type = switch (components) {
+            case 10 -> Components10.class;
+            case 50 -> Components50.class;
+            case 200 -> Components200.class;
+            default -> throw new IllegalArgumentException("Unsupported component count: " + components);
+        };
+
+        constructor = type.getDeclaredConstructors()[0];
+        instantiator = Instantiator.of(constructor);
+
+        var parameterTypes = constructor.getParameterTypes();
+        arguments = new Object[parameterTypes.length];
+
+        for (var i = 0; i < parameterTypes.length; i++) {
+            var parameterType = parameterTypes[i];
+
+            if (parameterType == int.class) {
+                arguments[i] = i;
+            } else if (parameterType == Integer.class) {
+                arguments[i] = Integer.valueOf(i);
+            } else if (parameterType == boolean.class) {
+                arguments[i] = i % 2 == 0;
+            } else if (parameterType == char.class) {
+                arguments[i] = (char) ('a' + i % 26);
+            } else {
+                arguments[i] = "Value" + i;
+            }
+        }
+    }
+
+    @Benchmark
+    public Object constructorNewInstance() throws ReflectiveOperationException {
+        return constructor.newInstance(arguments);
+    }
+
+    @Benchmark
+    public Object methodHandleInstantiator() throws ReflectiveOperationException {
+        return instantiator.newInstance(arguments);
+    }
+}
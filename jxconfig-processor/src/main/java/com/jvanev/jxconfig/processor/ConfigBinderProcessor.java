@@ -0,0 +1,826 @@
+/*
+ * Copyright 2025 Georgi Vanev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jvanev.jxconfig.processor;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * Generates a reflection-free binder for every type annotated with {@code @ConfigFile},
+ * and for every namespace type reachable from it.
+ * <p>
+ * A binder provides the parameter metadata read from the annotations at compile time,
+ * calls the constructor directly, and inlines the conversions of primitives, their boxed
+ * counterparts, strings and enums. At runtime, the configuration factory uses the binder
+ * of a type if one exists, and falls back to reflection otherwise.
+ * <p>
+ * Binders are not generated for declarations that cannot be bound from generated code
+ * (e.g., private types and constructors, generic type variables or wildcards), nor for
+ * invalid declarations; these types are handled (and reported) by the reflective path at runtime.
+ * <p>
+ * The processor also writes the GraalVM reachability metadata ({@code reflect-config.json} and
+ * {@code resource-config.json}) of all configuration types, namespace types and configuration containers
+ * it encounters, so that they can be used in native images without additional setup.
+ * The metadata is written to {@value #DEFAULT_NATIVE_IMAGE_DIRECTORY} unless another directory is specified
+ * through the {@value #NATIVE_IMAGE_DIRECTORY_OPTION} option, and can be disabled by setting
+ * the {@value #NATIVE_IMAGE_OPTION} option to {@code false}.
+ */
+@SupportedAnnotationTypes(ConfigBinderProcessor.CONFIG_FILE)
+@SupportedOptions({ConfigBinderProcessor.NATIVE_IMAGE_OPTION, ConfigBinderProcessor.NATIVE_IMAGE_DIRECTORY_OPTION})
+public final class ConfigBinderProcessor extends AbstractProcessor {
+    static final String CONFIG_FILE = "com.jvanev.jxconfig.annotation.ConfigFile";
+
+    static final String NATIVE_IMAGE_OPTION = "jxconfig.nativeImage";
+
+    static final String NATIVE_IMAGE_DIRECTORY_OPTION = "jxconfig.nativeImage.directory";
+
+    static final String DEFAULT_NATIVE_IMAGE_DIRECTORY = "META-INF/native-image/com.jvanev.jxconfig/generated";
+
+    private static final String CONFIG_PROPERTY = "com.jvanev.jxconfig.annotation.ConfigProperty";
+
+    private static final String CONFIG_NAMESPACE = "com.jvanev.jxconfig.annotation.ConfigNamespace";
+
+    private static final String DEPENDS_ON_PROPERTY = "com.jvanev.jxconfig.annotation.DependsOnProperty";
+
+    private static final String DEPENDS_ON_KEY = "com.jvanev.jxconfig.annotation.DependsOnKey";
+
+    private static final String DELIMITERS = "com.jvanev.jxconfig.annotation.Delimiters";
+
+    private static final String MODIFIER = "com.jvanev.jxconfig.annotation.Modifier";
+
+    private static final String MODIFIERS = "com.jvanev.jxconfig.modifier.internal.Modifiers";
+
+    /**
+     * Must match {@code com.jvanev.jxconfig.internal.ConfigBinder#BINDER_SUFFIX}.
+     */
+    private static final String BINDER_SUFFIX = "_ConfigBinder";
+
+    /**
+     * The qualified names of the types whose binders have already been handled, across all rounds.
+     */
+    private final Set<String> processedTypes = new HashSet<>();
+
+    /**
+     * The reachability metadata of all processed types, written once processing is over.
+     */
+    private final NativeImageMetadata metadata = new NativeImageMetadata();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        var configFile = processingEnv.getElementUtils().getTypeElement(CONFIG_FILE);
+
+        if (configFile == null) {
+            return false;
+        }
+
+        for (var element : roundEnv.getElementsAnnotatedWith(configFile)) {
+            if (element instanceof TypeElement type) {
+                var filename = getString(getAnnotation(type, CONFIG_FILE), "filename");
+
+                metadata.registerResource(filename);
+                processType(type);
+            }
+        }
+
+        for (var type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            registerContainers(type);
+        }
+
+        if (roundEnv.processingOver() && !"false".equals(processingEnv.getOptions().get(NATIVE_IMAGE_OPTION))) {
+            var directory = processingEnv.getOptions()
+                .getOrDefault(NATIVE_IMAGE_DIRECTORY_OPTION, DEFAULT_NATIVE_IMAGE_DIRECTORY);
+
+            try {
+                metadata.write(processingEnv.getFiler(), directory);
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(
+                    Diagnostic.Kind.ERROR, "Failed to write native image metadata: " + e.getMessage()
+                );
+            }
+        }
+
+        // Other processors may be interested in @ConfigFile as well
+        return false;
+    }
+
+    /**
+     * Registers the metadata of the specified type and generates its binder, then does the same
+     * for all namespace types reachable from it.
+     *
+     * @param type The configuration or namespace type
+     */
+    private void processType(TypeElement type) {
+        if (!processedTypes.add(type.getQualifiedName().toString())) {
+            return;
+        }
+
+        // The reflective path is still used when no binder can be generated
+        metadata.registerConstructors(getBinaryName(type));
+
+        for (var constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            for (var parameter : constructor.getParameters()) {
+                for (var modifier : getModifiers(parameter)) {
+                    metadata.registerNoArgsConstructor(getBinaryName(modifier));
+                }
+
+                if (getAnnotation(parameter, CONFIG_NAMESPACE) != null) {
+                    // Namespace types are not annotated with @ConfigFile, but they're bound the same way
+                    if (parameter.asType() instanceof DeclaredType namespaceType) {
+                        processType((TypeElement) namespaceType.asElement());
+                    }
+                } else {
+                    registerConversion(parameter.asType());
+                }
+            }
+        }
+
+        generateBinder(type);
+    }
+
+    /**
+     * Registers the reachability metadata of the conversion of values to the specified type.
+     *
+     * @param type The target type of the conversion
+     */
+    private void registerConversion(TypeMirror type) {
+        if (!(type instanceof DeclaredType declaredType)) {
+            return;
+        }
+
+        var element = (TypeElement) declaredType.asElement();
+        var name = element.getQualifiedName().toString();
+
+        switch (name) {
+            case "java.lang.String", "java.lang.Byte", "java.lang.Short", "java.lang.Integer", "java.lang.Long",
+                 "java.lang.Float", "java.lang.Double", "java.lang.Boolean", "java.lang.Character" -> {
+            }
+            case "java.util.List", "java.util.Set", "java.util.Map",
+                 "java.util.function.Supplier", "com.jvanev.jxconfig.Lazy" -> {
+                for (var typeArgument : declaredType.getTypeArguments()) {
+                    registerConversion(typeArgument);
+                }
+            }
+            default -> metadata.registerValueOf(getBinaryName(element), element.getKind() == ElementKind.ENUM);
+        }
+    }
+
+    /**
+     * Registers the specified type, and the types nested in it, as configuration containers
+     * if their only constructor accepts configuration types exclusively.
+     *
+     * @param type The candidate type
+     */
+    private void registerContainers(TypeElement type) {
+        var constructors = ElementFilter.constructorsIn(type.getEnclosedElements());
+
+        if (constructors.size() == 1 && !constructors.get(0).getParameters().isEmpty()) {
+            var isContainer = true;
+
+            for (var parameter : constructors.get(0).getParameters()) {
+                isContainer &= parameter.asType() instanceof DeclaredType parameterType &&
+                    getAnnotation(parameterType.asElement(), CONFIG_FILE) != null;
+            }
+
+            if (isContainer) {
+                metadata.registerConstructors(getBinaryName(type));
+            }
+        }
+
+        for (var nestedType : ElementFilter.typesIn(type.getEnclosedElements())) {
+            registerContainers(nestedType);
+        }
+    }
+
+    /**
+     * Generates the binder of the specified type, if it can be bound from generated code.
+     *
+     * @param type The type to be bound
+     */
+    private void generateBinder(TypeElement type) {
+        var packageElement = processingEnv.getElementUtils().getPackageOf(type);
+        var reason = getUnsupportedReason(type, packageElement);
+
+        if (reason != null) {
+            note(type, "No binder generated for " + type.getQualifiedName() + ": " + reason);
+
+            return;
+        }
+
+        var constructor = ElementFilter.constructorsIn(type.getEnclosedElements()).get(0);
+        var parameters = new ArrayList<String>();
+
+        for (var parameter : constructor.getParameters()) {
+            var descriptor = describeParameter(parameter, packageElement);
+
+            if (descriptor == null) {
+                note(
+                    type,
+                    "No binder generated for " + type.getQualifiedName() + ": parameter " +
+                        parameter.getSimpleName() + " cannot be bound from generated code"
+                );
+
+                return;
+            }
+
+            parameters.add(descriptor);
+        }
+
+        writeBinder(type, packageElement, constructor, parameters);
+    }
+
+    /**
+     * Returns the reason the specified type cannot be bound from generated code.
+     *
+     * @param type           The type to be checked
+     * @param packageElement The package of the generated binder
+     *
+     * @return The reason, or {@code null} if the type can be bound.
+     */
+    private String getUnsupportedReason(TypeElement type, PackageElement packageElement) {
+        if (type.getKind() != ElementKind.CLASS && type.getKind() != ElementKind.RECORD) {
+            return "only classes and records are supported";
+        }
+
+        if (type.getModifiers().contains(javax.lang.model.element.Modifier.ABSTRACT)) {
+            return "abstract types cannot be instantiated";
+        }
+
+        if (!type.getTypeParameters().isEmpty()) {
+            return "generic types are not supported";
+        }
+
+        if (type.getNestingKind().isNested() &&
+            type.getKind() == ElementKind.CLASS &&
+            !type.getModifiers().contains(javax.lang.model.element.Modifier.STATIC)) {
+            return "inner classes are not supported";
+        }
+
+        if (!isAccessible(type, packageElement)) {
+            return "the type is not accessible";
+        }
+
+        var constructors = ElementFilter.constructorsIn(type.getEnclosedElements());
+
+        if (constructors.size() != 1) {
+            return "the type must declare exactly one constructor";
+        }
+
+        if (constructors.get(0).getModifiers().contains(javax.lang.model.element.Modifier.PRIVATE)) {
+            return "the constructor is private";
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the source code creating the {@code ParameterDescriptor} of the specified parameter.
+     *
+     * @param parameter      The constructor parameter
+     * @param packageElement The package of the generated binder
+     *
+     * @return The source code, or {@code null} if the parameter cannot be bound from generated code.
+     */
+    private String describeParameter(VariableElement parameter, PackageElement packageElement) {
+        var type = parameter.asType();
+        var typeExpression = getTypeExpression(type, packageElement);
+
+        if (typeExpression == null) {
+            return null;
+        }
+
+        var property = getAnnotation(parameter, CONFIG_PROPERTY);
+        var namespace = getAnnotation(parameter, CONFIG_NAMESPACE);
+        var dependsOnProperty = getAnnotation(parameter, DEPENDS_ON_PROPERTY);
+        var dependsOnKey = getAnnotation(parameter, DEPENDS_ON_KEY);
+
+        if (property == null && namespace == null || dependsOnProperty != null && dependsOnKey != null) {
+            // Invalid declarations are reported by the reflective path
+            return null;
+        }
+
+        if (namespace != null && type.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+
+        String dependency = "null";
+
+        if (dependsOnProperty != null || dependsOnKey != null) {
+            var dependencyAnnotation = dependsOnProperty != null ? dependsOnProperty : dependsOnKey;
+
+            dependency = "new com.jvanev.jxconfig.internal.ReflectionUtil.DependencyInfo(" +
+                literal(getString(dependencyAnnotation, "name")) + ", " +
+                literal(getString(dependencyAnnotation, "operator")) + ", " +
+                literal(getString(dependencyAnnotation, "value")) + ", " +
+                (dependsOnKey != null) + ")";
+        }
+
+        var modifiers = getModifiers(parameter);
+
+        for (var modifier : modifiers) {
+            if (!isAccessible(modifier, packageElement)) {
+                return null;
+            }
+        }
+
+        var modifierExpressions = modifiers.stream().map(modifier -> modifier.getQualifiedName() + ".class").toList();
+        var modifierList = "java.util.List.of(" + String.join(", ", modifierExpressions) + ")";
+
+        if (namespace != null) {
+            return "new com.jvanev.jxconfig.internal.ParameterDescriptor(" +
+                literal(parameter.getSimpleName().toString()) + ", " +
+                typeExpression + ", null, null, null, " +
+                literal(getString(namespace, "value")) + ", " +
+                dependency + ", " +
+                modifierList + ", null, ',', ':')";
+        }
+
+        var delimiters = getAnnotation(parameter, DELIMITERS);
+        var entryDelimiter = delimiters != null ? (char) getValue(delimiters, "entries").getValue() : ',';
+        var keyValueDelimiter = delimiters != null ? (char) getValue(delimiters, "keyValue").getValue() : ':';
+
+        return "new com.jvanev.jxconfig.internal.ParameterDescriptor(" +
+            literal(parameter.getSimpleName().toString()) + ", " +
+            typeExpression + ", " +
+            literal(getString(property, "key")) + ", " +
+            literal(getString(property, "defaultKey")) + ", " +
+            literal(getString(property, "defaultValue")) + ", null, " +
+            dependency + ", " +
+            modifierList + ", " +
+            getConversion(type, packageElement) + ", " +
+            literal(entryDelimiter) + ", " +
+            literal(keyValueDelimiter) + ")";
+    }
+
+    /**
+     * Returns the source code of the built-in conversion of the specified type, inlined into the binder.
+     * The conversions mirror the semantics of the library's value converter.
+     *
+     * @param type           The target type of the conversion
+     * @param packageElement The package of the generated binder
+     *
+     * @return The source code of a {@code Function<String, Object>}, or {@code "null"} if the conversion
+     * cannot be inlined.
+     */
+    private String getConversion(TypeMirror type, PackageElement packageElement) {
+        var name = type.getKind().isPrimitive() || type.getKind() == TypeKind.DECLARED ? getErasedName(type) : "";
+
+        var primitiveConversion = switch (name) {
+            case "byte", "java.lang.Byte" -> "return java.lang.Byte.decode(value);";
+            case "short", "java.lang.Short" -> "return java.lang.Short.decode(value);";
+            case "int", "java.lang.Integer" -> "return java.lang.Integer.decode(value);";
+            case "long", "java.lang.Long" -> "return java.lang.Long.decode(value);";
+            case "float", "java.lang.Float" -> "return java.lang.Float.parseFloat(value);";
+            case "double", "java.lang.Double" -> "return java.lang.Double.parseDouble(value);";
+            case "boolean", "java.lang.Boolean" -> "return java.lang.Boolean.parseBoolean(value);";
+            case "char", "java.lang.Character" -> """
+                if (value.length() != 1) {
+                    throw new java.lang.IllegalArgumentException(
+                        "Cannot convert '" + value + "' to char. Expected single character."
+                    );
+                }
+
+                return value.charAt(0);""";
+            default -> null;
+        };
+
+        if (primitiveConversion != null) {
+            var simpleName = name.substring(name.lastIndexOf('.') + 1);
+            var body = """
+                if (value.isEmpty()) {
+                    throw new java.lang.IllegalArgumentException(
+                        "Cannot convert an empty string to a primitive of type %s"
+                    );
+                }
+
+                %s""".formatted(simpleName, primitiveConversion);
+
+            return "value -> {\n" + body.indent(24).replaceAll("(?m)^ +$", "") + "                    }";
+        }
+
+        if (name.equals("java.lang.String")) {
+            return "value -> value";
+        }
+
+        if (type.getKind() == TypeKind.DECLARED) {
+            var element = (TypeElement) ((DeclaredType) type).asElement();
+
+            if (element.getKind() == ElementKind.ENUM && isAccessible(element, packageElement)) {
+                return element.getQualifiedName() + "::valueOf";
+            }
+        }
+
+        return "null";
+    }
+
+    /**
+     * Returns the source code creating the {@code java.lang.reflect.Type} equal to the specified type.
+     *
+     * @param type           The type to be represented
+     * @param packageElement The package of the generated binder
+     *
+     * @return The source code, or {@code null} if the type cannot be represented (e.g., it's a type variable,
+     * a wildcard, or is not accessible from the generated binder).
+     */
+    private String getTypeExpression(TypeMirror type, PackageElement packageElement) {
+        if (type.getKind().isPrimitive()) {
+            return type.getKind().name().toLowerCase() + ".class";
+        }
+
+        if (type instanceof ArrayType arrayType) {
+            var componentType = arrayType.getComponentType();
+
+            // Generic array types are represented by GenericArrayType, which is not supported
+            if (componentType instanceof DeclaredType declaredType && !declaredType.getTypeArguments().isEmpty()) {
+                return null;
+            }
+
+            var component = getTypeExpression(componentType, packageElement);
+
+            return component == null ? null : getErasedName(type) + ".class";
+        }
+
+        if (type instanceof DeclaredType declaredType) {
+            var element = (TypeElement) declaredType.asElement();
+
+            if (!isAccessible(element, packageElement)) {
+                return null;
+            }
+
+            var rawType = getErasedName(type) + ".class";
+
+            if (declaredType.getTypeArguments().isEmpty()) {
+                return rawType;
+            }
+
+            var arguments = new ArrayList<String>();
+
+            for (var typeArgument : declaredType.getTypeArguments()) {
+                var argument = getTypeExpression(typeArgument, packageElement);
+
+                if (argument == null || typeArgument.getKind().isPrimitive()) {
+                    return null;
+                }
+
+                arguments.add(argument);
+            }
+
+            return "com.jvanev.jxconfig.internal.ReflectionUtil.getParameterizedType(" +
+                rawType + ", " + String.join(", ", arguments) + ")";
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the name of the erasure of the specified type, as it's written in source code.
+     * <p>
+     * The name is built from the declared elements rather than {@link TypeMirror#toString()}, which includes
+     * type-use annotations (e.g., {@code @NonNull java.lang.String}) that are not allowed in class literals.
+     *
+     * @param type The primitive, array or declared type
+     *
+     * @return The name of the erased type.
+     */
+    private String getErasedName(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return type.getKind().name().toLowerCase();
+        }
+
+        if (type instanceof ArrayType arrayType) {
+            return getErasedName(arrayType.getComponentType()) + "[]";
+        }
+
+        if (type instanceof DeclaredType declaredType) {
+            return ((TypeElement) declaredType.asElement()).getQualifiedName().toString();
+        }
+
+        return processingEnv.getTypeUtils().erasure(type).toString();
+    }
+
+    /**
+     * Writes the source file of the binder of the specified type.
+     *
+     * @param type           The bound type
+     * @param packageElement The package of the bound type
+     * @param constructor    The constructor of the bound type
+     * @param parameters     The source code creating the descriptors of the constructor parameters
+     */
+    private void writeBinder(
+        TypeElement type,
+        PackageElement packageElement,
+        ExecutableElement constructor,
+        List<String> parameters
+    ) {
+        var packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+        var binderName = getFlatName(type) + BINDER_SUFFIX;
+        var qualifiedBinderName = packageName.isEmpty() ? binderName : packageName + "." + binderName;
+        var parameterTypes = new ArrayList<String>();
+        var arguments = new ArrayList<String>();
+
+        for (var i = 0; i < constructor.getParameters().size(); i++) {
+            var parameterType = getErasedName(constructor.getParameters().get(i).asType());
+
+            parameterTypes.add(parameterType + ".class");
+            arguments.add("(" + parameterType + ") arguments[" + i + "]");
+        }
+
+        metadata.registerNoArgsConstructor(qualifiedBinderName);
+
+        var source = new StringBuilder();
+
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+
+        source
+            .append("/**\n")
+            .append(" * Binds {@link ").append(type.getQualifiedName()).append("} without reflection.\n")
+            .append(" */\n")
+            .append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n")
+            .append("public final class ").append(binderName)
+            .append(" implements com.jvanev.jxconfig.internal.ConfigBinder {\n")
+            .append("    private static final java.lang.Class<?>[] PARAMETER_TYPES = {")
+            .append(String.join(", ", parameterTypes))
+            .append("};\n\n")
+            .append("    @Override\n")
+            .append("    @SuppressWarnings(\"unchecked\")\n")
+            .append("    public com.jvanev.jxconfig.internal.TypeDescriptor describe() {\n")
+            .append("        return new com.jvanev.jxconfig.internal.TypeDescriptor(\n")
+            .append("            ").append(type.getQualifiedName()).append(".class,\n")
+            .append("            arguments -> {\n")
+            .append("                com.jvanev.jxconfig.internal.Instantiator")
+            .append(".checkArguments(PARAMETER_TYPES, arguments);\n\n")
+            .append("                try {\n")
+            .append("                    return new ").append(type.getQualifiedName()).append("(");
+
+        if (!arguments.isEmpty()) {
+            source.append("\n                        ")
+                .append(String.join(",\n                        ", arguments))
+                .append("\n                    ");
+        }
+
+        source
+            .append(");\n")
+            .append("                } catch (java.lang.Error e) {\n")
+            .append("                    throw e;\n")
+            .append("                } catch (java.lang.Throwable e) {\n")
+            .append("                    throw new java.lang.reflect.InvocationTargetException(e);\n")
+            .append("                }\n")
+            .append("            },\n")
+            .append("            java.util.List.of(");
+
+        if (!parameters.isEmpty()) {
+            source.append("\n                ")
+                .append(String.join(",\n                ", parameters))
+                .append("\n            ");
+        }
+
+        source
+            .append(")\n")
+            .append("        );\n")
+            .append("    }\n")
+            .append("}\n");
+
+        try (var writer = processingEnv.getFiler().createSourceFile(qualifiedBinderName, type).openWriter()) {
+            writer.write(source.toString());
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(
+                Diagnostic.Kind.ERROR, "Failed to write binder " + qualifiedBinderName + ": " + e.getMessage(), type
+            );
+        }
+    }
+
+    /**
+     * Determines whether the specified type can be referenced from the specified package.
+     *
+     * @param type           The type to be referenced
+     * @param packageElement The package referencing the type
+     *
+     * @return {@code true} if the type is accessible, {@code false} otherwise.
+     */
+    private boolean isAccessible(TypeElement type, PackageElement packageElement) {
+        var samePackage = processingEnv.getElementUtils().getPackageOf(type).equals(packageElement);
+
+        for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            var modifiers = element.getModifiers();
+
+            if (modifiers.contains(javax.lang.model.element.Modifier.PRIVATE)) {
+                return false;
+            }
+
+            if (!samePackage && !modifiers.contains(javax.lang.model.element.Modifier.PUBLIC)) {
+                return false;
+            }
+        }
+
+        // Local and anonymous classes cannot be referenced by name
+        for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            if (!(element.getEnclosingElement() instanceof TypeElement) &&
+                !(element.getEnclosingElement() instanceof PackageElement)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the name of the specified type relative to its package, with the names of nested types
+     * separated by underscores (e.g., {@code Outer_Inner}). Underscores in the simple names are doubled,
+     * so a nested type {@code Outer.Inner} and a top-level type {@code Outer_Inner} have distinct flat names.
+     * The encoding must match {@code ConfigBinder.getBinderName(Class)}.
+     *
+     * @param type The type whose name should be returned
+     *
+     * @return The flat name of the type.
+     */
+    private static String getFlatName(TypeElement type) {
+        var name = type.getSimpleName().toString().replace("_", "__");
+
+        for (var element = type.getEnclosingElement(); element instanceof TypeElement enclosing;
+             element = enclosing.getEnclosingElement()) {
+            name = enclosing.getSimpleName().toString().replace("_", "__") + "_" + name;
+        }
+
+        return name;
+    }
+
+    /**
+     * Returns the annotation of the specified type declared on the specified element.
+     *
+     * @param element        The annotated element
+     * @param annotationName The qualified name of the annotation type
+     *
+     * @return The annotation mirror, or {@code null} if the element is not annotated with the specified annotation.
+     */
+    private static AnnotationMirror getAnnotation(Element element, String annotationName) {
+        for (var mirror : element.getAnnotationMirrors()) {
+            if (getName(mirror).equals(annotationName)) {
+                return mirror;
+            }
+        }
+
+        return null;
+    }
+
+    private static String getName(AnnotationMirror mirror) {
+        return ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    /**
+     * Returns the value of the specified element of the specified annotation, including default values.
+     *
+     * @param mirror  The annotation
+     * @param element The name of the annotation element
+     *
+     * @return The value of the annotation element.
+     */
+    private AnnotationValue getValue(AnnotationMirror mirror, String element) {
+        Map<? extends ExecutableElement, ? extends AnnotationValue> values =
+            processingEnv.getElementUtils().getElementValuesWithDefaults(mirror);
+
+        for (var entry : values.entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(element)) {
+                return entry.getValue();
+            }
+        }
+
+        throw new IllegalStateException("Annotation " + getName(mirror) + " has no element " + element);
+    }
+
+    private String getString(AnnotationMirror mirror, String element) {
+        return (String) getValue(mirror, element).getValue();
+    }
+
+    private TypeElement getClassValue(AnnotationMirror mirror) {
+        var type = (DeclaredType) getValue(mirror, "value").getValue();
+
+        return (TypeElement) type.asElement();
+    }
+
+    /**
+     * Returns the modifier types applied to the specified parameter, in order of application.
+     *
+     * @param parameter The constructor parameter
+     *
+     * @return The modifier types.
+     */
+    private List<TypeElement> getModifiers(VariableElement parameter) {
+        var modifiers = new ArrayList<TypeElement>();
+
+        for (var mirror : parameter.getAnnotationMirrors()) {
+            var name = getName(mirror);
+
+            if (name.equals(MODIFIER)) {
+                modifiers.add(getClassValue(mirror));
+            } else if (name.equals(MODIFIERS)) {
+                for (var value : getList(mirror)) {
+                    modifiers.add(getClassValue((AnnotationMirror) value.getValue()));
+                }
+            }
+        }
+
+        return modifiers;
+    }
+
+    private String getBinaryName(TypeElement type) {
+        return processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<? extends AnnotationValue> getList(AnnotationMirror mirror) {
+        return (List<? extends AnnotationValue>) getValue(mirror, "value").getValue();
+    }
+
+    private void note(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, message, element);
+    }
+
+    /**
+     * Returns the specified value as a Java char expression.
+     *
+     * @param value The value to be quoted
+     *
+     * @return A char literal if the value is printable, a cast of its code point otherwise.
+     */
+    private static String literal(char value) {
+        if (value < 0x20 || value > 0x7E || value == '\'' || value == '\\') {
+            return "(char) " + (int) value;
+        }
+
+        return "'" + value + "'";
+    }
+
+    /**
+     * Returns the specified value as a Java string literal.
+     *
+     * @param value The value to be quoted
+     *
+     * @return The string literal.
+     */
+    private static String literal(String value) {
+        var literal = new StringBuilder(value.length() + 2).append('"');
+
+        for (var i = 0; i < value.length(); i++) {
+            var c = value.charAt(i);
+
+            switch (c) {
+                case '"' -> literal.append("\\\"");
+                case '\\' -> literal.append("\\\\");
+                case '\n' -> literal.append("\\n");
+                case '\r' -> literal.append("\\r");
+                case '\t' -> literal.append("\\t");
+                default -> {
+                    if (c < 0x20 || c > 0x7E) {
+                        literal.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        literal.append(c);
+                    }
+                }
+            }
+        }
+
+        return literal.append('"').toString();
+    }
+}
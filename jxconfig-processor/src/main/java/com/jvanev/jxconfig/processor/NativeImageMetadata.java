@@ -0,0 +1,202 @@
+/*
+ * Copyright 2025 Georgi Vanev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jvanev.jxconfig.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import javax.annotation.processing.Filer;
+import javax.tools.StandardLocation;
+
+/**
+ * Collects the GraalVM reachability metadata of the configuration types seen by the processor,
+ * and writes it as {@code reflect-config.json} and {@code resource-config.json}.
+ * <p>
+ * The metadata covers everything the library accesses reflectively: the constructors of configuration types,
+ * namespace types and containers (used when no binder exists), the no-argument constructors of binders and
+ * value modifiers, the {@code valueOf(String)} methods used by the value converter, and the configuration
+ * files loaded from the classpath.
+ */
+final class NativeImageMetadata {
+    private static final String VALUE_OF = "{\"name\":\"valueOf\",\"parameterTypes\":[\"java.lang.String\"]}";
+
+    private static final String VALUES = "{\"name\":\"values\",\"parameterTypes\":[]}";
+
+    private static final String NO_ARGS_CONSTRUCTOR = "{\"name\":\"<init>\",\"parameterTypes\":[]}";
+
+    /**
+     * The binary names of the registered types, mapped to their registration flags.
+     */
+    private final Map<String, Registration> types = new TreeMap<>();
+
+    /**
+     * The names of the configuration files loaded from the classpath.
+     */
+    private final Set<String> resources = new TreeSet<>();
+
+    /**
+     * Accumulates the reflective access required for a single type.
+     */
+    private static final class Registration {
+        private boolean allDeclaredConstructors;
+
+        private final Set<String> methods = new TreeSet<>();
+    }
+
+    /**
+     * Registers a type whose constructor and its parameter annotations are read reflectively
+     * (i.e., configuration types, namespace types and containers).
+     *
+     * @param binaryName The binary name of the type
+     */
+    void registerConstructors(String binaryName) {
+        types.computeIfAbsent(binaryName, name -> new Registration()).allDeclaredConstructors = true;
+    }
+
+    /**
+     * Registers a type instantiated through its public no-argument constructor (i.e., binders and modifiers).
+     *
+     * @param binaryName The binary name of the type
+     */
+    void registerNoArgsConstructor(String binaryName) {
+        types.computeIfAbsent(binaryName, name -> new Registration()).methods.add(NO_ARGS_CONSTRUCTOR);
+    }
+
+    /**
+     * Registers a type converted through its static {@code valueOf(String)} method.
+     *
+     * @param binaryName The binary name of the type
+     * @param isEnum     Whether the type is an enum, whose constants are looked up through {@code values()}
+     */
+    void registerValueOf(String binaryName, boolean isEnum) {
+        var methods = types.computeIfAbsent(binaryName, name -> new Registration()).methods;
+
+        methods.add(VALUE_OF);
+
+        if (isEnum) {
+            methods.add(VALUES);
+        }
+    }
+
+    /**
+     * Registers a configuration file loaded from the classpath.
+     *
+     * @param filename The name of the configuration file
+     */
+    void registerResource(String filename) {
+        resources.add(filename);
+    }
+
+    /**
+     * Writes the collected metadata into the specified directory of the class output.
+     *
+     * @param filer     The filer of the processing environment
+     * @param directory The directory of the metadata, relative to the class output
+     *
+     * @throws IOException If the metadata cannot be written.
+     */
+    void write(Filer filer, String directory) throws IOException {
+        if (types.isEmpty() && resources.isEmpty()) {
+            return;
+        }
+
+        try (var writer = filer.createResource(StandardLocation.CLASS_OUTPUT, "", directory + "/reflect-config.json")
+            .openWriter()) {
+            writeReflectConfig(writer);
+        }
+
+        try (var writer = filer.createResource(StandardLocation.CLASS_OUTPUT, "", directory + "/resource-config.json")
+            .openWriter()) {
+            writeResourceConfig(writer);
+        }
+    }
+
+    private void writeReflectConfig(Writer writer) throws IOException {
+        writer.write("[");
+
+        var first = true;
+
+        for (var entry : types.entrySet()) {
+            var registration = entry.getValue();
+
+            writer.write(first ? "\n" : ",\n");
+            writer.write("  {\n    \"name\": " + quote(entry.getKey()));
+
+            if (registration.allDeclaredConstructors) {
+                writer.write(",\n    \"allDeclaredConstructors\": true");
+            }
+
+            if (!registration.methods.isEmpty()) {
+                writer.write(",\n    \"methods\": [\n      ");
+                writer.write(String.join(",\n      ", registration.methods));
+                writer.write("\n    ]");
+            }
+
+            writer.write("\n  }");
+            first = false;
+        }
+
+        writer.write("\n]\n");
+    }
+
+    private void writeResourceConfig(Writer writer) throws IOException {
+        writer.write("{\n  \"resources\": {\n    \"includes\": [");
+
+        var first = true;
+
+        for (var filename : resources) {
+            // The classpath directory is only known at runtime, so the file (and its snapshot, if shipped)
+            // is matched in any directory
+            writer.write(first ? "\n" : ",\n");
+            writer.write("      {\"pattern\": " + quote("(.*/)?\\Q" + filename + "\\E(\\.snapshot)?") + "}");
+            first = false;
+        }
+
+        writer.write("\n    ]\n  }\n}\n");
+    }
+
+    /**
+     * Returns the specified value as a JSON string.
+     *
+     * @param value The value to be quoted
+     *
+     * @return The JSON string.
+     */
+    private static String quote(String value) {
+        var quoted = new StringBuilder(value.length() + 2).append('"');
+
+        for (var i = 0; i < value.length(); i++) {
+            var c = value.charAt(i);
+
+            switch (c) {
+                case '"' -> quoted.append("\\\"");
+                case '\\' -> quoted.append("\\\\");
+                default -> {
+                    if (c < 0x20) {
+                        quoted.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        quoted.append(c);
+                    }
+                }
+            }
+        }
+
+        return quoted.append('"').toString();
+    }
+}
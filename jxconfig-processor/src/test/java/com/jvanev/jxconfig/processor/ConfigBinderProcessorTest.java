@@ -0,0 +1,400 @@
+/*
+ * Copyright 2025 Georgi Vanev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jvanev.jxconfig.processor;
+
+import com.jvanev.jxconfig.ConfigFactory;
+import com.jvanev.jxconfig.annotation.ConfigFile;
+import com.jvanev.jxconfig.annotation.ConfigNamespace;
+import com.jvanev.jxconfig.annotation.ConfigProperty;
+import com.jvanev.jxconfig.annotation.Delimiters;
+import com.jvanev.jxconfig.annotation.DependsOnKey;
+import com.jvanev.jxconfig.annotation.DependsOnProperty;
+import com.jvanev.jxconfig.annotation.Modifier;
+import com.jvanev.jxconfig.exception.ConfigurationBuildException;
+import com.jvanev.jxconfig.internal.ConfigBinder;
+import com.jvanev.jxconfig.internal.TypeDescriptor;
+import com.jvanev.jxconfig.modifier.ValueModifier;
+import java.io.IOException;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigBinderProcessorTest {
+    private static final String TEST_PATH = "config";
+
+    private final ConfigFactory factory = ConfigFactory.builder()
+        .withClasspathDir(TEST_PATH)
+        .build();
+
+    public enum Level {
+        LOW, HIGH
+    }
+
+    public static final class UpperCaseModifier implements ValueModifier {
+        @Override
+        public Object modify(Object value) {
+            return ((String) value).toUpperCase();
+        }
+    }
+
+    public static final class ReverseModifier implements ValueModifier {
+        @Override
+        public Object modify(Object value) {
+            return new StringBuilder((String) value).reverse().toString();
+        }
+    }
+
+    @ConfigFile(filename = "BinderTestConfiguration.properties")
+    public record BoundConfiguration(
+        @ConfigProperty(key = "EnableNetwork")
+        boolean enableNetwork,
+
+        @ConfigProperty(key = "MaxConnections")
+        int maxConnections,
+
+        @ConfigProperty(key = "Ratio")
+        double ratio,
+
+        @ConfigProperty(key = "Separator")
+        char separator,
+
+        @ConfigProperty(key = "Level")
+        Level level,
+
+        @ConfigProperty(key = "Name")
+        @Modifier(UpperCaseModifier.class)
+        @Modifier(ReverseModifier.class)
+        String name,
+
+        @ConfigProperty(key = "Greeting", defaultValue = "say \"hi\"\\")
+        String greeting,
+
+        @ConfigProperty(key = "Hosts")
+        List<String> hosts,
+
+        @ConfigProperty(key = "Ports")
+        @Delimiters(entries = ';')
+        int[] ports,
+
+        @ConfigProperty(key = "DebugPort", defaultValue = "5005")
+        @DependsOnKey(name = "Environment", value = "prod")
+        Integer debugPort,
+
+        @ConfigNamespace("Network")
+        @DependsOnProperty(name = "EnableNetwork")
+        NetworkConfiguration network
+    ) {
+        public record NetworkConfiguration(
+            @ConfigProperty(key = "Timeout", defaultValue = "30")
+            long timeout,
+
+            @ConfigProperty(key = "Retries", defaultValue = "1")
+            short retries
+        ) {
+        }
+    }
+
+    @Target(ElementType.TYPE_USE)
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface NonNull {
+    }
+
+    // The binder of this type does not compile if the type-use annotations are copied into it
+    @ConfigFile(filename = "BinderTestConfiguration.properties")
+    public record AnnotatedTypeConfiguration(
+        @ConfigProperty(key = "Name")
+        @NonNull String name,
+
+        @ConfigProperty(key = "MaxConnections")
+        @NonNull Integer maxConnections,
+
+        @ConfigProperty(key = "Hosts")
+        List<@NonNull String> hosts,
+
+        @ConfigProperty(key = "Ports")
+        @Delimiters(entries = ';')
+        int @NonNull [] ports
+    ) {
+    }
+
+    public static final class Outer {
+        @ConfigFile(filename = "BinderTestConfiguration.properties")
+        public record Inner(
+            @ConfigProperty(key = "MaxConnections")
+            int maxConnections
+        ) {
+        }
+    }
+
+    // Flattened naively, the binders of Outer.Inner and Outer_Inner would have the same name
+    @ConfigFile(filename = "BinderTestConfiguration.properties")
+    public record Outer_Inner(
+        @ConfigProperty(key = "Name")
+        String name
+    ) {
+    }
+
+    @ConfigFile(filename = "BinderTestConfiguration.properties")
+    public record FailingConfiguration(
+        @ConfigProperty(key = "MaxConnections")
+        int maxConnections
+    ) {
+        public FailingConfiguration {
+            if (maxConnections < 0) {
+                throw new StackOverflowError("Negative connections");
+            }
+
+            if (maxConnections == 0) {
+                throw new IllegalStateException("No connections");
+            }
+        }
+    }
+
+    // Not bound by the processor; see ConfigBinderProcessorTest_ForeignBinder_ConfigBinder
+    public record ForeignBinder(
+        @ConfigProperty(key = "Name")
+        String name
+    ) {
+    }
+
+    @ConfigFile(filename = "BinderTestConfiguration.properties")
+    private record PrivateConfiguration(
+        @ConfigProperty(key = "MaxConnections")
+        int maxConnections
+    ) {
+    }
+
+    public record BoundContainer(BoundConfiguration bound) {
+    }
+
+    @Nested
+    class BinderGenerationTests {
+        @Test
+        void configurationTypes_ShouldHaveGeneratedBinders() throws ClassNotFoundException {
+            var binder = Class.forName(ConfigBinder.getBinderName(BoundConfiguration.class));
+            var namespaceBinder = Class.forName(
+                ConfigBinder.getBinderName(BoundConfiguration.NetworkConfiguration.class)
+            );
+
+            assertAll(
+                () -> assertEquals(
+                    "com.jvanev.jxconfig.processor.ConfigBinderProcessorTest_BoundConfiguration_ConfigBinder",
+                    binder.getName()
+                ),
+                () -> assertTrue(ConfigBinder.class.isAssignableFrom(binder)),
+                () -> assertTrue(ConfigBinder.class.isAssignableFrom(namespaceBinder))
+            );
+        }
+
+        @Test
+        void generatedDescriptor_ShouldMatchReflectiveMetadata() throws ReflectiveOperationException {
+            var constructor = BoundConfiguration.class.getDeclaredConstructors()[0];
+            var parameters = TypeDescriptor.of(BoundConfiguration.class).parameters();
+
+            assertEquals(constructor.getParameterCount(), parameters.size());
+
+            for (var i = 0; i < parameters.size(); i++) {
+                assertEquals(constructor.getParameters()[i].getParameterizedType(), parameters.get(i).type());
+                assertEquals(constructor.getParameters()[i].getName(), parameters.get(i).name());
+            }
+
+            var name = parameters.get(5);
+            var greeting = parameters.get(6);
+            var debugPort = parameters.get(9);
+            var network = parameters.get(10);
+
+            assertAll(
+                () -> assertEquals(List.of(UpperCaseModifier.class, ReverseModifier.class), name.modifiers()),
+                () -> assertEquals("say \"hi\"\\", greeting.defaultValue()),
+                () -> assertTrue(debugPort.dependency().isKeyDependency()),
+                () -> assertEquals("Environment", debugPort.dependency().name()),
+                () -> assertEquals("Network", network.namespace()),
+                () -> assertFalse(network.dependency().isKeyDependency()),
+                () -> assertNull(parameters.get(7).conversion()),
+                () -> assertEquals(',', parameters.get(7).entryDelimiter()),
+                () -> assertEquals(';', parameters.get(8).entryDelimiter()),
+                () -> assertInstanceOf(Level.class, parameters.get(4).conversion().apply("LOW"))
+            );
+        }
+
+        @Test
+        void similarlyNamedTypes_ShouldHaveDistinctBinders() {
+            assertAll(
+                () -> assertEquals(
+                    "com.jvanev.jxconfig.processor.ConfigBinderProcessorTest_Outer_Inner_ConfigBinder",
+                    ConfigBinder.getBinderName(Outer.Inner.class)
+                ),
+                () -> assertEquals(
+                    "com.jvanev.jxconfig.processor.ConfigBinderProcessorTest_Outer__Inner_ConfigBinder",
+                    ConfigBinder.getBinderName(Outer_Inner.class)
+                ),
+                () -> assertEquals(Outer.Inner.class, TypeDescriptor.of(Outer.Inner.class).type()),
+                () -> assertEquals(Outer_Inner.class, TypeDescriptor.of(Outer_Inner.class).type()),
+                () -> assertEquals(32, factory.createConfig(Outer.Inner.class).maxConnections()),
+                () -> assertEquals("server", factory.createConfig(Outer_Inner.class).name())
+            );
+        }
+
+        @Test
+        void generatedInstantiator_ShouldReportFailuresLikeReflectiveInstantiator() {
+            var instantiator = TypeDescriptor.of(FailingConfiguration.class).instantiator();
+
+            assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> instantiator.newInstance(new Object[] {null})),
+                () -> assertThrows(IllegalArgumentException.class, () -> instantiator.newInstance(new Object[] {"1"})),
+                () -> assertThrows(StackOverflowError.class, () -> instantiator.newInstance(new Object[] {-1})),
+                () -> assertInstanceOf(
+                    IllegalStateException.class,
+                    assertThrows(
+                        InvocationTargetException.class, () -> instantiator.newInstance(new Object[] {0})
+                    ).getCause()
+                )
+            );
+        }
+
+        @Test
+        void binderOfAnotherType_ShouldBeIgnored() {
+            assertEquals(ForeignBinder.class, TypeDescriptor.of(ForeignBinder.class).type());
+        }
+
+        @Test
+        void privateConfigurationTypes_ShouldNotHaveGeneratedBinders() {
+            assertThrows(
+                ClassNotFoundException.class,
+                () -> Class.forName(ConfigBinder.getBinderName(PrivateConfiguration.class))
+            );
+        }
+    }
+
+    @Nested
+    class NativeImageMetadataTests {
+        private static final String METADATA_DIR = "META-INF/native-image/com.jvanev.jxconfig/generated/";
+
+        private String readMetadata(String filename) throws IOException {
+            try (var stream = getClass().getClassLoader().getResourceAsStream(METADATA_DIR + filename)) {
+                assertNotNull(stream, "Missing " + filename);
+
+                return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+            }
+        }
+
+        @Test
+        void reflectConfig_ShouldRegisterReflectivelyAccessedTypes() throws IOException {
+            var reflectConfig = readMetadata("reflect-config.json");
+
+            assertAll(
+                () -> assertTrue(reflectConfig.contains("\"" + BoundConfiguration.class.getName() + "\"")),
+                () -> assertTrue(
+                    reflectConfig.contains("\"" + BoundConfiguration.NetworkConfiguration.class.getName() + "\"")
+                ),
+                () -> assertTrue(reflectConfig.contains("\"" + PrivateConfiguration.class.getName() + "\"")),
+                () -> assertTrue(reflectConfig.contains("\"" + BoundContainer.class.getName() + "\"")),
+                () -> assertTrue(reflectConfig.contains("\"" + UpperCaseModifier.class.getName() + "\"")),
+                () -> assertTrue(reflectConfig.contains("\"" + Level.class.getName() + "\"")),
+                () -> assertTrue(
+                    reflectConfig.contains("\"" + ConfigBinder.getBinderName(BoundConfiguration.class) + "\"")
+                ),
+                () -> assertFalse(reflectConfig.contains("\"name\": \"java.lang.String\""))
+            );
+        }
+
+        @Test
+        void resourceConfig_ShouldIncludeConfigurationFiles() throws IOException {
+            var resourceConfig = readMetadata("resource-config.json");
+
+            assertTrue(resourceConfig.contains("\\\\QBinderTestConfiguration.properties\\\\E"));
+        }
+    }
+
+    @Nested
+    class BoundConfigurationTests {
+        @Test
+        void generatedBinder_ShouldBuildConfiguration() {
+            var config = factory.createConfig(BoundConfiguration.class);
+
+            assertAll(
+                () -> assertTrue(config.enableNetwork()),
+                () -> assertEquals(32, config.maxConnections()),
+                () -> assertEquals(0.75, config.ratio()),
+                () -> assertEquals(';', config.separator()),
+                () -> assertEquals(Level.HIGH, config.level()),
+                () -> assertEquals("REVRES", config.name()),
+                () -> assertEquals("say \"hi\"\\", config.greeting()),
+                () -> assertEquals(List.of("alpha", "beta"), config.hosts()),
+                () -> assertArrayEquals(new int[] {80, 443}, config.ports()),
+                () -> assertEquals(5005, config.debugPort()),
+                () -> assertEquals(15, config.network().timeout()),
+                () -> assertEquals(3, config.network().retries())
+            );
+        }
+
+        @Test
+        void typeUseAnnotatedParameters_ShouldBeBound() throws ClassNotFoundException {
+            var config = factory.createConfig(AnnotatedTypeConfiguration.class);
+
+            assertAll(
+                () -> assertTrue(
+                    ConfigBinder.class.isAssignableFrom(
+                        Class.forName(ConfigBinder.getBinderName(AnnotatedTypeConfiguration.class))
+                    )
+                ),
+                () -> assertEquals("server", config.name()),
+                () -> assertEquals(32, config.maxConnections()),
+                () -> assertEquals(List.of("alpha", "beta"), config.hosts()),
+                () -> assertArrayEquals(new int[] {80, 443}, config.ports())
+            );
+        }
+
+        @Test
+        void customConverter_ShouldTakePrecedenceOverInlinedConversion() {
+            var customFactory = ConfigFactory.builder()
+                .withClasspathDir(TEST_PATH)
+                .withValueConverter(int.class, (converter, type, typeArgs, value) -> -1)
+                .build();
+
+            var config = customFactory.createConfig(BoundConfiguration.class);
+
+            assertEquals(-1, config.maxConnections());
+        }
+
+        @Test
+        void privateConfigurationType_ShouldFallBackToReflection() {
+            // The reflective path reports inaccessible types exactly as it would without the processor
+            var exception = assertThrows(
+                ConfigurationBuildException.class,
+                () -> factory.createConfig(PrivateConfiguration.class)
+            );
+
+            assertInstanceOf(IllegalAccessException.class, exception.getCause());
+        }
+    }
+}
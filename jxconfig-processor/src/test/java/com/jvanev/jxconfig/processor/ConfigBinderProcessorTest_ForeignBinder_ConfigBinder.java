@@ -0,0 +1,29 @@
+/*
+ * Copyright 2025 Georgi Vanev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jvanev.jxconfig.processor;
+
+import com.jvanev.jxconfig.internal.ConfigBinder;
+import com.jvanev.jxconfig.internal.TypeDescriptor;
+
+/**
+ * A binder found by the name of {@link ConfigBinderProcessorTest.ForeignBinder} which describes another type.
+ */
+public final class ConfigBinderProcessorTest_ForeignBinder_ConfigBinder implements ConfigBinder {
+    @Override
+    public TypeDescriptor describe() {
+        return TypeDescriptor.of(ConfigBinderProcessorTest.BoundConfiguration.class);
+    }
+}
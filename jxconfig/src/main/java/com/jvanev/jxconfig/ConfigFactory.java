@@ -16,30 +16,53 @@
 package com.jvanev.jxconfig;
 
 import com.jvanev.jxconfig.annotation.ConfigFile;
-import com.jvanev.jxconfig.annotation.ConfigNamespace;
-import com.jvanev.jxconfig.annotation.Modifier;
 import com.jvanev.jxconfig.converter.ValueConverter;
 import com.jvanev.jxconfig.converter.internal.Converter;
 import com.jvanev.jxconfig.exception.ConfigurationBuildException;
 import com.jvanev.jxconfig.exception.InvalidDeclarationException;
-import com.jvanev.jxconfig.exception.ModifierInstantiationException;
 import com.jvanev.jxconfig.exception.ValueConversionException;
-import com.jvanev.jxconfig.internal.ReflectionUtil;
+import com.jvanev.jxconfig.internal.BindingPlan;
+import com.jvanev.jxconfig.internal.DeferredValue;
+import com.jvanev.jxconfig.internal.Instantiator;
+import com.jvanev.jxconfig.internal.KeyIndex;
 import com.jvanev.jxconfig.modifier.ValueModifier;
+import com.jvanev.jxconfig.properties.KeyMapper;
+import com.jvanev.jxconfig.properties.ValueOrigin;
+import com.jvanev.jxconfig.properties.internal.KeyFilter;
+import com.jvanev.jxconfig.properties.internal.OverrideIndex;
+import com.jvanev.jxconfig.properties.internal.PropertiesCache;
+import com.jvanev.jxconfig.properties.internal.PropertiesLoader;
+import com.jvanev.jxconfig.properties.internal.PropertiesParser;
+import com.jvanev.jxconfig.properties.internal.PropertyMap;
+import com.jvanev.jxconfig.properties.internal.PropertyOverrides;
 import com.jvanev.jxconfig.resolver.DependencyChecker;
 import com.jvanev.jxconfig.resolver.internal.ValueResolver;
 import com.jvanev.jxconfig.validator.ConfigurationValidator;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.lang.reflect.Parameter;
-import java.nio.file.Files;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A type-safe configuration factory responsible for producing fully initialized configuration objects.
@@ -51,9 +74,7 @@ import java.util.concurrent.ConcurrentHashMap;
  * default values, and value resolution.
  */
 public final class ConfigFactory {
-    private final String classpathDirectory;
-
-    private final Path configurationDirectory;
+    private final PropertiesLoader propertiesLoader;
 
     private final Converter valueConverter;
 
@@ -61,23 +82,156 @@ public final class ConfigFactory {
 
     private final ConfigurationValidator configurationValidator;
 
+    /**
+     * The executor creating the configuration types of containers concurrently, or {@code null}
+     * if they're created sequentially.
+     */
+    private final Executor containerExecutor;
+
+    /**
+     * The executor running the asynchronous builds of this factory.
+     */
+    private final Executor asyncExecutor;
+
+    /**
+     * The pool building namespace subtrees in parallel, or {@code null} if they're built sequentially.
+     */
+    private final ForkJoinPool namespacePool;
+
+    /**
+     * The minimum number of namespaces in a tree for its namespace subtrees to be built in parallel.
+     */
+    private final int namespaceThreshold;
+
+    /**
+     * Whether configuration files are loaded with only the keys referenced by the created configuration types.
+     */
+    private final boolean keyFiltering;
+
+    /**
+     * The index of the override layers consulted before configuration files.
+     */
+    private final OverrideIndex overrideIndex;
+
+    /**
+     * The period without changes after which reloadable configurations are rebuilt.
+     */
+    private final Duration reloadDebounce;
+
+    /**
+     * Whether reloadable configurations rebuild only the namespace subtrees affected by a change.
+     */
+    private final boolean incrementalReload;
+
+    /**
+     * The window within which successive changes of reloadable configurations are merged into a single event.
+     */
+    private final Duration changeCoalescing;
+
     private final Map<Class<?>, ValueModifier> valueModifiers = new ConcurrentHashMap<>();
 
+    /**
+     * The instantiators of the configuration containers created by this factory.
+     */
+    private final ClassValue<Instantiator> containerInstantiators = new ClassValue<>() {
+        @Override
+        protected Instantiator computeValue(Class<?> type) {
+            return Instantiator.of(type.getDeclaredConstructors()[0]);
+        }
+    };
+
+    /**
+     * The compiled binding plans of the configuration types created by this factory.
+     * Plans are compiled on first use and reused by every subsequent build of the same type.
+     */
+    private final ClassValue<BindingPlan> bindingPlans = new ClassValue<>() {
+        @Override
+        protected BindingPlan computeValue(Class<?> type) {
+            return BindingPlan.compile(type, ConfigFactory.this::getValueModifier, valueConverter);
+        }
+    };
+
+    /**
+     * The filters of the keys referenced by the configuration types created by this factory,
+     * used only if key filtering is enabled.
+     */
+    private final ClassValue<KeyFilter> keyFilters = new ClassValue<>() {
+        @Override
+        protected KeyFilter computeValue(Class<?> type) {
+            return new KeyFilter(bindingPlans.get(type).keys());
+        }
+    };
+
+    /**
+     * The reverse key indexes of the reloadable configuration types created by this factory.
+     */
+    private final ClassValue<KeyIndex> keyIndexes = new ClassValue<>() {
+        @Override
+        protected KeyIndex computeValue(Class<?> type) {
+            return KeyIndex.of(bindingPlans.get(type));
+        }
+    };
+
+    /**
+     * The reverse key indexes of reloadable configuration containers, combining the indexes of their members.
+     */
+    private final ClassValue<KeyIndex> containerKeyIndexes = new ClassValue<>() {
+        @Override
+        protected KeyIndex computeValue(Class<?> type) {
+            var members = new HashMap<String, KeyIndex>();
+
+            for (var parameter : getContainerParameters(type)) {
+                members.put(parameter.getName(), keyIndexes.get(parameter.getType()));
+            }
+
+            return KeyIndex.ofContainer(members);
+        }
+    };
+
+    /**
+     * The overrides of the keys referenced by the configuration types created by this factory.
+     * Overrides are resolved once per type, so builds never consult the override layers directly.
+     */
+    private final ClassValue<PropertyOverrides> propertyOverrides = new ClassValue<>() {
+        @Override
+        protected PropertyOverrides computeValue(Class<?> type) {
+            if (overrideIndex.isEmpty()) {
+                return PropertyOverrides.NONE;
+            }
+
+            return overrideIndex.resolve(bindingPlans.get(type).keys());
+        }
+    };
+
     // Instances of the factory are obtained through the dedicated builder
     private ConfigFactory(
-        String classpathDirectory,
-        String configurationDirectory,
+        PropertiesLoader propertiesLoader,
         Converter valueConverter,
         DependencyChecker dependencyChecker,
-        ConfigurationValidator configurationValidator
+        ConfigurationValidator configurationValidator,
+        Executor containerExecutor,
+        Executor asyncExecutor,
+        ForkJoinPool namespacePool,
+        int namespaceThreshold,
+        boolean keyFiltering,
+        OverrideIndex overrideIndex,
+        Duration reloadDebounce,
+        boolean incrementalReload,
+        Duration changeCoalescing
     ) {
-        this.classpathDirectory = classpathDirectory.isBlank() ? classpathDirectory : classpathDirectory.endsWith("/")
-            ? classpathDirectory
-            : classpathDirectory + "/";
-        this.configurationDirectory = Path.of(configurationDirectory);
+        this.propertiesLoader = propertiesLoader;
         this.valueConverter = valueConverter;
         this.dependencyChecker = dependencyChecker;
         this.configurationValidator = configurationValidator;
+        this.containerExecutor = containerExecutor;
+        this.asyncExecutor = asyncExecutor;
+        this.namespacePool = namespacePool;
+        this.namespaceThreshold = namespaceThreshold;
+        this.keyFiltering = keyFiltering;
+        this.overrideIndex = overrideIndex;
+        this.reloadDebounce = reloadDebounce;
+        this.incrementalReload = incrementalReload;
+        this.changeCoalescing = changeCoalescing;
     }
 
     /**
@@ -85,6 +239,9 @@ public final class ConfigFactory {
      * <p>
      * This method's purpose is to instantiate multiple configuration types at once;
      * therefore, all parameters of the constructor must be of types annotated with {@link ConfigFile}.
+     * <p>
+     * If the factory has been built with {@link Builder#withConcurrentContainerBuild()}, the configuration types
+     * are created concurrently; otherwise, they're created one after another in declaration order.
      *
      * @param type The configuration container to be created
      *
@@ -93,23 +250,87 @@ public final class ConfigFactory {
      * @throws InvalidDeclarationException If the specified container type is not correctly set up.
      * @throws ConfigurationBuildException If an error occurs while building the configuration container.
      */
-    @SuppressWarnings("unchecked")
     public <T> T createConfigContainer(Class<T> type) {
         Objects.requireNonNull(type, "The configuration container type must not be null");
 
+        var parameters = getContainerParameters(type);
+        var arguments = containerExecutor == null
+            ? createContainerArguments(type, parameters)
+            : createContainerArgumentsConcurrently(type, parameters);
+
+        return newContainer(type, arguments);
+    }
+
+    /**
+     * Asynchronously creates a new, fully initialized instance of the specified configuration container
+     * on the asynchronous executor of this factory. The configuration types of the container are created
+     * concurrently, and the container is created once all of them are complete.
+     *
+     * @param type The configuration container to be created
+     *
+     * @return A future completed with a fully initialized instance of the configuration container,
+     * or completed exceptionally with an {@link InvalidDeclarationException} if the container type
+     * is not correctly set up, or a {@link ConfigurationBuildException} if an error occurs while building it.
+     *
+     * @see Builder#withAsyncExecutor(Executor)
+     */
+    public <T> CompletableFuture<T> createConfigContainerAsync(Class<T> type) {
+        Objects.requireNonNull(type, "The configuration container type must not be null");
+
+        Parameter[] parameters;
+
+        try {
+            parameters = getContainerParameters(type);
+        } catch (InvalidDeclarationException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        var arguments = CompletableFuture.completedFuture(new Object[parameters.length]);
+
+        for (var i = 0; i < parameters.length; i++) {
+            var index = i;
+            var parameter = parameters[i];
+            var argument = createConfigAsync(parameter.getType()).handle((result, exception) -> {
+                if (exception != null) {
+                    throw parameterFailure(type, parameter, unwrap(exception));
+                }
+
+                return result;
+            });
+
+            // When several parameters fail, the failure of the first one in declaration order is reported
+            arguments = arguments.thenCombine(argument, (values, value) -> {
+                values[index] = value;
+
+                return values;
+            });
+        }
+
+        return arguments.thenApplyAsync(values -> newContainer(type, values), asyncExecutor);
+    }
+
+    /**
+     * Returns the parameters of the specified configuration container's constructor.
+     * <p>
+     * Every parameter is validated before any file is loaded, so declaration errors don't depend on build order.
+     *
+     * @param type The configuration container
+     *
+     * @return The parameters of the container's constructor.
+     *
+     * @throws InvalidDeclarationException If the specified container type is not correctly set up.
+     */
+    private static Parameter[] getContainerParameters(Class<?> type) {
         if (type.getDeclaredConstructors().length != 1) {
             throw new InvalidDeclarationException(
                 "Configuration container " + type.getSimpleName() + " must declare exactly one constructor"
             );
         }
 
-        var constructor = type.getDeclaredConstructors()[0];
-        var parameters = constructor.getParameters();
-        var arguments = new Object[parameters.length];
+        var parameters = type.getDeclaredConstructors()[0].getParameters();
         var processedParameters = new HashMap<String, String>();
 
-        for (var i = 0; i < parameters.length; i++) {
-            var parameter = parameters[i];
+        for (var parameter : parameters) {
             var parameterType = parameter.getType();
             var config = parameterType.getDeclaredAnnotation(ConfigFile.class);
 
@@ -131,20 +352,25 @@ public final class ConfigFactory {
                         )
                 );
             }
-
-            try {
-                arguments[i] = createConfig(parameterType);
-            } catch (Exception e) {
-                throw new ConfigurationBuildException(
-                    "Failed to initialize parameter %s of configuration container %s"
-                        .formatted(parameter.getName(), type.getSimpleName()),
-                    e
-                );
-            }
         }
 
+        return parameters;
+    }
+
+    /**
+     * Creates a new instance of the specified configuration container.
+     *
+     * @param type      The configuration container
+     * @param arguments The arguments of the container's constructor
+     *
+     * @return The new instance of the configuration container.
+     *
+     * @throws ConfigurationBuildException If the container cannot be instantiated.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T newContainer(Class<T> type, Object[] arguments) {
         try {
-            return (T) constructor.newInstance(arguments);
+            return (T) containerInstantiators.get(type).newInstance(arguments);
         } catch (Exception e) {
             throw new ConfigurationBuildException(
                 "Failed to create an instance of configuration container " + type.getSimpleName(), e
@@ -153,262 +379,1124 @@ public final class ConfigFactory {
     }
 
     /**
-     * Creates and returns a new, fully initialized instance of the specified configuration type.
-     * <p>
-     * This method loads property values from the configuration file specified by the {@link ConfigFile}
-     * annotation on the specified type, applying default values and resolving dependencies as needed.
+     * Creates the configuration types of a container's parameters one after another.
      *
-     * @param type The configuration type to be created
+     * @param type       The configuration container
+     * @param parameters The parameters of the container's constructor
      *
-     * @return A fully initialized instance of the specified configuration type.
+     * @return The arguments of the container's constructor.
      *
-     * @throws InvalidDeclarationException If the specified type is not correctly set up.
-     * @throws ConfigurationBuildException If an error occurs while creating the configuration type.
+     * @throws ConfigurationBuildException If an error occurs while creating a configuration type.
      */
-    public <T> T createConfig(Class<T> type) {
-        Objects.requireNonNull(type, "The configuration type must not be null");
-
-        var configFile = type.getDeclaredAnnotation(ConfigFile.class);
+    private Object[] createContainerArguments(Class<?> type, Parameter[] parameters) {
+        var arguments = new Object[parameters.length];
 
-        if (configFile == null) {
-            throw new InvalidDeclarationException(
-                "Class " + type.getSimpleName() + " must be annotated with @ConfigFile"
-            );
+        for (var i = 0; i < arguments.length; i++) {
+            try {
+                arguments[i] = createConfig(parameters[i].getType());
+            } catch (Exception e) {
+                throw parameterFailure(type, parameters[i], e);
+            }
         }
 
-        try {
-            var properties = getProperties(configFile.filename());
-            var mainContext = new BuildContext(properties, "", true);
-
-            return buildConfigurationTree(type, mainContext);
-        } catch (Exception e) {
-            throw new ConfigurationBuildException(
-                "Failed to create an instance of configuration type " + type.getSimpleName(), e
-            );
-        }
+        return arguments;
     }
 
     /**
-     * Constructs and populates a configuration objects tree based on the specified type and context.
+     * Creates the configuration types of a container's parameters concurrently on the container executor.
+     * <p>
+     * The reported failure is always the one of the first failing parameter in declaration order, exactly as
+     * if the types were created sequentially. Once a parameter fails, the parameters declared after it
+     * are cancelled, while the ones declared before it are awaited, as their failures take precedence.
      *
-     * @param type    The type of the configuration object (or namespace) to be built
-     * @param context The context within which the configuration object will be built
+     * @param type       The configuration container
+     * @param parameters The parameters of the container's constructor
      *
-     * @return A fully initialized instance of the specified type.
+     * @return The arguments of the container's constructor.
      *
-     * @throws InvalidDeclarationException If the type is not correctly set up.
-     * @throws ValueConversionException    If a parameter's resolved string value cannot be converted
-     *                                     to its target type.
+     * @throws ConfigurationBuildException If an error occurs while creating a configuration type.
      */
-    @SuppressWarnings("unchecked")
-    private <T> T buildConfigurationTree(Class<T> type, BuildContext context) throws ReflectiveOperationException {
-        if (type.getDeclaredConstructors().length != 1) {
-            throw new InvalidDeclarationException(
-                "Configuration type " + type.getSimpleName() + " must declare exactly one constructor"
-            );
+    private Object[] createContainerArgumentsConcurrently(Class<?> type, Parameter[] parameters) {
+        @SuppressWarnings("unchecked")
+        var tasks = (CompletableFuture<Object>[]) new CompletableFuture<?>[parameters.length];
+
+        // The cancellation of the following tasks is set up before any task is started
+        for (var i = 0; i < tasks.length; i++) {
+            var nextIndex = i + 1;
+
+            tasks[i] = new CompletableFuture<>();
+            tasks[i].whenComplete((result, exception) -> {
+                if (exception != null) {
+                    cancel(tasks, nextIndex);
+                }
+            });
         }
 
-        var constructor = type.getDeclaredConstructors()[0];
-        var parameters = constructor.getParameters();
-        var arguments = new Object[parameters.length];
-        var valueResolver = new ValueResolver(
-            context.properties(),
-            type,
-            context.namespace(),
-            parameters,
-            dependencyChecker
-        );
-        var processedParameters = new HashMap<String, String>();
-
-        for (var i = 0; i < parameters.length; i++) {
-            var parameter = parameters[i];
-
-            if (ReflectionUtil.isConfigNamespace(parameter)) {
-                var newContext = context.fromNamespace(
-                    parameter,
-                    valueResolver.isNamespaceDependencySatisfied(parameter)
-                );
-                arguments[i] = buildConfigurationTree(parameter.getType(), newContext);
-            } else {
-                var property = ReflectionUtil.getConfigProperty(type, parameter);
-
-                if (processedParameters.putIfAbsent(property.key(), parameter.getName()) != null) {
-                    throw new InvalidDeclarationException(
-                        "Configuration property '%s' declared on parameter %s.%s is also declared on parameter %s.%s"
-                            .formatted(
-                                property.key(),
-                                type.getSimpleName(), parameter.getName(),
-                                type.getSimpleName(), processedParameters.get(property.key())
-                            )
-                    );
-                }
+        for (var i = 0; i < tasks.length; i++) {
+            var task = tasks[i];
+            var parameterType = parameters[i].getType();
 
-                var resolvedValue = context.isDependencySatisfied()
-                    ? valueResolver.resolveValue(parameter)
-                    : valueResolver.getDefaultValue(parameter);
-                Object convertedValue;
+            try {
+                containerExecutor.execute(() -> {
+                    if (task.isDone()) {
+                        return;
+                    }
 
-                try {
-                    convertedValue = valueConverter.convert(parameter.getParameterizedType(), resolvedValue.trim());
-                } catch (Exception e) {
-                    throw new ValueConversionException(
-                        "Failed to convert the resolved value for configuration property %s (%s.%s)"
-                            .formatted(property.key(), type.getSimpleName(), parameter.getName()),
-                        e
-                    );
-                }
+                    try {
+                        task.complete(createConfig(parameterType));
+                    } catch (Throwable e) {
+                        task.completeExceptionally(e);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                cancel(tasks, 0);
 
-                arguments[i] = modify(type, parameter, convertedValue);
+                throw parameterFailure(type, parameters[i], e);
             }
         }
 
-        var configurationObject = (T) constructor.newInstance(arguments);
+        var arguments = new Object[tasks.length];
 
-        // Use the registered validator, if exists, to validate the product
-        if (configurationValidator != null) {
-            configurationValidator.validate(configurationObject);
+        for (var i = 0; i < arguments.length; i++) {
+            try {
+                arguments[i] = tasks[i].join();
+            } catch (CompletionException e) {
+                throw parameterFailure(type, parameters[i], e.getCause());
+            }
         }
 
-        return configurationObject;
+        return arguments;
     }
 
     /**
-     * Returns the specified value with all modifiers of the specified parameter applied to it.
-     *
-     * @param type      The type declaring the specified parameter
-     * @param parameter The parameter to which the specified value will be passed
-     * @param value     The value to be modified
+     * Cancels the specified tasks, starting from the specified index. Tasks which haven't started yet
+     * will not be run; tasks which are already running are left to finish, and their results are discarded.
      *
-     * @return The specified value after all modifiers the specified parameter is annotated with
-     * have been applied to it.
+     * @param tasks The tasks to be cancelled
+     * @param from  The index of the first task to be cancelled
      */
-    private Object modify(Class<?> type, Parameter parameter, Object value) {
-        var modifiedValue = value;
-
-        for (var modifier : parameter.getAnnotationsByType(Modifier.class)) {
-            var valueModifier = valueModifiers.computeIfAbsent(
-                modifier.value(), key -> {
-                    try {
-                        return modifier.value().getConstructor().newInstance();
-                    } catch (ReflectiveOperationException e) {
-                        var property = ReflectionUtil.getConfigProperty(type, parameter);
-
-                        throw new ModifierInstantiationException(
-                            "Failed to instantiate modifier %s applied to parameter %s.%s (%s)"
-                                .formatted(
-                                    key.getSimpleName(),
-                                    type.getSimpleName(),
-                                    parameter.getName(),
-                                    property.key()
-                                ),
-                            e
-                        );
-                    }
-                }
-            );
-            modifiedValue = valueModifier.modify(modifiedValue);
+    private static void cancel(CompletableFuture<?>[] tasks, int from) {
+        for (var i = from; i < tasks.length; i++) {
+            tasks[i].cancel(false);
         }
+    }
 
-        return modifiedValue;
+    /**
+     * Returns the exception reporting that the specified parameter of a configuration container
+     * cannot be initialized.
+     *
+     * @param container The configuration container
+     * @param parameter The failed parameter
+     * @param cause     The cause of the failure
+     *
+     * @return The exception to be thrown.
+     */
+    private static ConfigurationBuildException parameterFailure(
+        Class<?> container,
+        Parameter parameter,
+        Throwable cause
+    ) {
+        return new ConfigurationBuildException(
+            "Failed to initialize parameter %s of configuration container %s"
+                .formatted(parameter.getName(), container.getSimpleName()),
+            cause
+        );
     }
 
     /**
-     * Represents the current context in the recursive method responsible for building the configuration tree.
+     * Creates and returns a new, fully initialized instance of the specified configuration type.
+     * <p>
+     * This method loads property values from the configuration file specified by the {@link ConfigFile}
+     * annotation on the specified type, applying default values and resolving dependencies as needed.
      *
-     * @param properties            The key-value map of configuration properties for this context
-     * @param namespace             The namespace of this context
-     * @param isDependencySatisfied Whether the dependency conditions for the current context
-     *                              and all of its parents are satisfied
+     * @param type The configuration type to be created
+     *
+     * @return A fully initialized instance of the specified configuration type.
+     *
+     * @throws InvalidDeclarationException If the specified type is not correctly set up.
+     * @throws ConfigurationBuildException If an error occurs while creating the configuration type.
      */
-    private record BuildContext(Properties properties, String namespace, boolean isDependencySatisfied) {
-        /**
-         * Returns a new context based on this context and the specified arguments.
-         *
-         * @param parameter                      The parameter annotated with {@link ConfigNamespace}
-         * @param isNamespaceDependencySatisfied Whether the dependency of the new namespace is satisfied
-         *
-         * @return A new context built in the context of this context.
-         */
-        BuildContext fromNamespace(Parameter parameter, boolean isNamespaceDependencySatisfied) {
-            var parameterNamespace = ReflectionUtil.getConfigNamespace(parameter);
+    public <T> T createConfig(Class<T> type) {
+        Objects.requireNonNull(type, "The configuration type must not be null");
 
-            // The new namespace (if defined) is always one level deeper than the previous
-            var newNamespace = parameterNamespace.value().isBlank() ? namespace : namespace.isBlank()
-                ? parameterNamespace.value()
-                : namespace + "." + parameterNamespace.value();
+        var configFile = getConfigFile(type);
 
-            // Satisfied if, and only if, this namespace's dependency
-            // and the dependencies of all upstream context entries are satisfied
-            var isNewContextDependencySatisfied = isDependencySatisfied && isNamespaceDependencySatisfied;
+        try {
+            var plan = bindingPlans.get(type);
+            var properties = propertiesLoader.load(configFile.filename(), getKeyFilter(type));
 
-            return new BuildContext(properties, newNamespace, isNewContextDependencySatisfied);
+            return type.cast(build(plan, properties));
+        } catch (Exception e) {
+            throw buildFailure(type, e);
         }
     }
 
     /**
-     * Loads and returns a {@link Properties} object populated with the contents of the file with the specified name.
-     * The file is expected to be located in the {@link #classpathDirectory} and/or {@link #configurationDirectory}.
+     * Asynchronously creates a new, fully initialized instance of the specified configuration type
+     * on the asynchronous executor of this factory.
      * <p>
-     * If the file exists in both locations, both files will be loaded and their contents will be merged.
-     * The content of the file in the filesystem will override the matching keys in the file on the classpath.
-     *
-     * @param filename The name of the configuration file, including its extension (e.g., {@code Network.properties}).
+     * The configuration file is read without blocking where possible (see {@link Builder#withAsyncExecutor}),
+     * while its parsing and the building of the configuration type run on the executor.
      *
-     * @return A {@link Properties} object containing the key-value pairs from the file.
+     * @param type The configuration type to be created
      *
-     * @throws IOException If the file does not exist or an I/O error occurs during loading.
+     * @return A future completed with a fully initialized instance of the specified configuration type,
+     * or completed exceptionally with an {@link InvalidDeclarationException} if the type is not correctly set up,
+     * or a {@link ConfigurationBuildException} if an error occurs while creating it.
      */
-    private Properties getProperties(String filename) throws IOException {
-        var properties = new Properties();
-        var defaultConfigFound = false;
-
-        var classpathConfig = classpathDirectory + filename;
+    public <T> CompletableFuture<T> createConfigAsync(Class<T> type) {
+        Objects.requireNonNull(type, "The configuration type must not be null");
 
-        try (var stream = Thread.currentThread().getContextClassLoader().getResourceAsStream(classpathConfig)) {
-            if (stream != null) {
-                defaultConfigFound = true;
+        ConfigFile configFile;
 
-                properties.load(stream);
-            }
+        try {
+            configFile = getConfigFile(type);
+        } catch (InvalidDeclarationException e) {
+            return CompletableFuture.failedFuture(e);
         }
 
-        var filesystemConfig = configurationDirectory.resolve(filename);
-
-        if (Files.isRegularFile(filesystemConfig)) {
-            try (var stream = Files.newInputStream(filesystemConfig)) {
-                properties.load(stream);
-            }
-        } else if (!defaultConfigFound) {
-            throw new FileNotFoundException(
-                "Could not find configuration file " + filename + ". Attempted classpath lookup for " +
-                    classpathConfig + ", and filesystem lookup for " + configurationDirectory
-            );
-        }
+        return CompletableFuture.supplyAsync(() -> bindingPlans.get(type), asyncExecutor)
+            .thenCompose(plan -> propertiesLoader.loadAsync(configFile.filename(), getKeyFilter(type), asyncExecutor)
+                .thenApplyAsync(properties -> {
+                    try {
+                        return type.cast(build(plan, properties));
+                    } catch (ReflectiveOperationException e) {
+                        throw new CompletionException(e);
+                    }
+                }, asyncExecutor))
+            .handle((result, exception) -> {
+                if (exception != null) {
+                    throw buildFailure(type, unwrap(exception));
+                }
 
-        return properties;
+                return result;
+            });
     }
 
     /**
-     * Returns a new builder object responsible for building a new instance of {@link ConfigFactory}.
+     * Creates a new, fully initialized instance of the specified configuration type, and records the layer
+     * each of its values originates from (e.g., an environment variable overriding the configuration file).
      *
-     * @return A new {@link Builder} for constructing a {@link ConfigFactory}.
+     * @param type The configuration type to be created
+     *
+     * @return The configuration object along with the origins of its values.
+     *
+     * @throws InvalidDeclarationException If the specified type is not correctly set up.
+     * @throws ConfigurationBuildException If an error occurs while creating the configuration type.
      */
-    public static Builder builder() {
-        return new Builder();
+    public <T> TracedConfig<T> createTracedConfig(Class<T> type) {
+        Objects.requireNonNull(type, "The configuration type must not be null");
+
+        var configFile = getConfigFile(type);
+
+        try {
+            var plan = bindingPlans.get(type);
+            var properties = propertiesLoader.load(configFile.filename(), getKeyFilter(type));
+            // Namespace subtrees may be built in parallel
+            var origins = new ConcurrentHashMap<String, ValueOrigin>();
+            var config = type.cast(build(plan, properties, origins));
+
+            return new TracedConfig<>(config, Collections.unmodifiableMap(new TreeMap<>(origins)));
+        } catch (Exception e) {
+            throw buildFailure(type, e);
+        }
     }
 
     /**
-     * This class is responsible for building immutable instances of {@link ConfigFactory}.
+     * A configuration object along with the origins of its values.
+     *
+     * @param config  The configuration object
+     * @param origins The origins of the values of the configuration object and its namespaces, mapped to their
+     *                fully qualified keys, in key order
      */
-    public static class Builder {
-        private String classpathDirectory = "";
-
-        private String configurationDirectory = "./";
-
-        private DependencyChecker dependencyChecker;
+    public record TracedConfig<T>(T config, Map<String, ValueOrigin> origins) {
+    }
+
+    /**
+     * Creates a new, fully initialized instance of the specified configuration type, which is rebuilt whenever
+     * its configuration file changes, either in the configuration directory or in a classpath directory.
+     * Configuration files packaged in archives are not watched.
+     *
+     * @param type The configuration type to be created
+     *
+     * @return A handle to the current instance of the configuration type.
+     *
+     * @throws InvalidDeclarationException If the specified type is not correctly set up.
+     * @throws ConfigurationBuildException If an error occurs while creating the configuration type,
+     *                                     or its configuration file cannot be watched.
+     *
+     * @see Builder#withReloadDebounce(Duration)
+     * @see Builder#withChangeCoalescing(Duration)
+     */
+    public <T> ReloadableConfig<T> createReloadableConfig(Class<T> type) {
+        Objects.requireNonNull(type, "The configuration type must not be null");
+
+        var configFile = getConfigFile(type);
+
+        try {
+            return new ReloadableConfig<>(
+                previous -> reload(type, configFile, previous),
+                () -> keyIndexes.get(type),
+                propertiesLoader.getSourcePaths(configFile.filename()),
+                reloadDebounce,
+                changeCoalescing,
+                asyncExecutor,
+                "jxconfig-reload-" + type.getSimpleName()
+            );
+        } catch (IOException e) {
+            throw buildFailure(type, e);
+        }
+    }
+
+    /**
+     * Builds a new snapshot of a reloadable configuration from the current contents of its configuration file.
+     * If incremental reloads are enabled, only the subtrees of the previous snapshot reading changed keys
+     * are rebuilt.
+     *
+     * @param type       The configuration type
+     * @param configFile The configuration file of the type
+     * @param previous   The previous snapshot, or {@code null} if this is the initial build
+     *
+     * @return The new snapshot.
+     *
+     * @throws InvalidDeclarationException If the specified type is not correctly set up.
+     * @throws ConfigurationBuildException If an error occurs while creating the configuration type.
+     */
+    private <T> ReloadableConfig.Snapshot<T> reload(
+        Class<T> type,
+        ConfigFile configFile,
+        ReloadableConfig.Snapshot<T> previous
+    ) {
+        try {
+            var properties = propertiesLoader.load(configFile.filename(), getKeyFilter(type));
+
+            return rebuild(type, properties, previous != null ? previous.state() : null, null);
+        } catch (Exception e) {
+            throw buildFailure(type, e);
+        }
+    }
+
+    /**
+     * Builds a new snapshot of a reloadable configuration from the specified properties.
+     *
+     * @param type           The configuration type
+     * @param properties     The current properties of the configuration file
+     * @param previousState  The state of the previous snapshot, or {@code null} if this is the initial build
+     * @param previousConfig The configuration object of the previous snapshot, reused if no key has changed;
+     *                       or {@code null} if the configuration object should be rebuilt regardless
+     *
+     * @return The new snapshot.
+     *
+     * @throws ReflectiveOperationException If a configuration object cannot be instantiated.
+     */
+    private <T> ReloadableConfig.Snapshot<T> rebuild(
+        Class<T> type,
+        PropertyMap properties,
+        Object previousState,
+        Object previousConfig
+    ) throws ReflectiveOperationException {
+        var plan = bindingPlans.get(type);
+        var overrides = propertyOverrides.get(type);
+        var state = (ReloadState) previousState;
+        var changedKeys = state != null
+            ? getChangedKeys(plan.keys(), overrides, state.properties(), properties)
+            : Set.<String>of();
+
+        if (previousConfig != null && changedKeys.isEmpty()) {
+            return new ReloadableConfig.Snapshot<>(type.cast(previousConfig), state, changedKeys);
+        }
+
+        if (!incrementalReload) {
+            var config = type.cast(build(plan, properties));
+
+            return new ReloadableConfig.Snapshot<>(config, new ReloadState(properties, null), changedKeys);
+        }
+
+        var tree = rebuildConfigurationTree(
+            plan,
+            new BuildContext(properties, overrides, null, true),
+            state != null ? state.tree() : null,
+            changedKeys
+        );
+        var config = type.cast(tree.configuration());
+
+        return new ReloadableConfig.Snapshot<>(config, new ReloadState(properties, tree), changedKeys);
+    }
+
+    /**
+     * Creates a new, fully initialized instance of the specified configuration container, which is rebuilt
+     * whenever the configuration files of its members change, as with {@link #createReloadableConfig(Class)}.
+     * <p>
+     * Reloads are all-or-nothing: every file is loaded before any member is rebuilt, only the members whose keys
+     * have changed are rebuilt (the others are reused as they are), and the new container is validated through
+     * the factory's validator, if any, along with the rebuilt members. The new container is published through
+     * a single reference swap only if all of this succeeds, so readers observe either the previous container or
+     * the new one, never a mix of their members.
+     * <p>
+     * The keys of the handle (i.e., the keys of key listeners and change events) are qualified by the names of
+     * the container's parameters (e.g., {@code database.Pool.Size}).
+     *
+     * @param type The configuration container to be created
+     *
+     * @return A handle to the current instance of the configuration container.
+     *
+     * @throws InvalidDeclarationException If the specified container type is not correctly set up.
+     * @throws ConfigurationBuildException If an error occurs while building the configuration container,
+     *                                     or its configuration files cannot be watched.
+     *
+     * @see Builder#withReloadDebounce(Duration)
+     * @see Builder#withChangeCoalescing(Duration)
+     */
+    public <T> ReloadableConfig<T> createReloadableConfigContainer(Class<T> type) {
+        Objects.requireNonNull(type, "The configuration container type must not be null");
+
+        var parameters = getContainerParameters(type);
+        var files = new ArrayList<Path>();
+
+        for (var parameter : parameters) {
+            files.addAll(propertiesLoader.getSourcePaths(getConfigFile(parameter.getType()).filename()));
+        }
+
+        try {
+            return new ReloadableConfig<>(
+                previous -> reloadContainer(type, parameters, previous),
+                () -> containerKeyIndexes.get(type),
+                files,
+                reloadDebounce,
+                changeCoalescing,
+                asyncExecutor,
+                "jxconfig-reload-" + type.getSimpleName()
+            );
+        } catch (IOException e) {
+            throw new ConfigurationBuildException(
+                "Failed to watch the configuration files of configuration container " + type.getSimpleName(), e
+            );
+        }
+    }
+
+    /**
+     * Builds a new snapshot of a reloadable configuration container from the current contents of the configuration
+     * files of its members. Only the members whose keys have changed since the previous snapshot are rebuilt.
+     *
+     * @param type       The configuration container
+     * @param parameters The parameters of the container's constructor
+     * @param previous   The previous snapshot, or {@code null} if this is the initial build
+     *
+     * @return The new snapshot, or the previous one if no key has changed.
+     *
+     * @throws ConfigurationBuildException If an error occurs while building the container or any of its members.
+     */
+    private <T> ReloadableConfig.Snapshot<T> reloadContainer(
+        Class<T> type,
+        Parameter[] parameters,
+        ReloadableConfig.Snapshot<T> previous
+    ) {
+        var previousMembers = previous != null ? ((ContainerReloadState) previous.state()).members() : null;
+        var properties = new PropertyMap[parameters.length];
+
+        // Every file is loaded before any member is rebuilt, so no member is built from a later change than another
+        for (var i = 0; i < parameters.length; i++) {
+            var memberType = parameters[i].getType();
+
+            try {
+                properties[i] = propertiesLoader.load(getConfigFile(memberType).filename(), getKeyFilter(memberType));
+            } catch (Exception e) {
+                throw parameterFailure(type, parameters[i], buildFailure(memberType, e));
+            }
+        }
+
+        var members = new ReloadableConfig.Snapshot<?>[parameters.length];
+        var arguments = new Object[parameters.length];
+        var changedKeys = new HashSet<String>();
+
+        for (var i = 0; i < parameters.length; i++) {
+            var memberType = parameters[i].getType();
+            var previousMember = previousMembers != null ? previousMembers[i] : null;
+
+            try {
+                members[i] = previousMember != null
+                    ? rebuild(memberType, properties[i], previousMember.state(), previousMember.config())
+                    : rebuild(memberType, properties[i], null, null);
+            } catch (Exception e) {
+                throw parameterFailure(type, parameters[i], buildFailure(memberType, e));
+            }
+
+            arguments[i] = members[i].config();
+
+            for (var key : members[i].changedKeys()) {
+                changedKeys.add(parameters[i].getName() + "." + key);
+            }
+        }
+
+        if (previous != null && changedKeys.isEmpty()) {
+            return new ReloadableConfig.Snapshot<>(previous.config(), previous.state(), Set.of());
+        }
+
+        var container = newContainer(type, arguments);
+
+        if (configurationValidator != null) {
+            try {
+                configurationValidator.validate(container);
+            } catch (RuntimeException e) {
+                throw new ConfigurationBuildException(
+                    "Failed to validate configuration container " + type.getSimpleName(), e
+                );
+            }
+        }
+
+        return new ReloadableConfig.Snapshot<>(container, new ContainerReloadState(members), changedKeys);
+    }
+
+    /**
+     * Returns the keys whose values differ between the specified properties. Overridden keys are never changed,
+     * since their values don't originate from the properties.
+     *
+     * @param keys      The keys to be compared
+     * @param overrides The overridden values of the keys
+     * @param previous  The previous properties
+     * @param current   The current properties
+     *
+     * @return The changed keys.
+     */
+    private static Set<String> getChangedKeys(
+        Set<String> keys,
+        PropertyOverrides overrides,
+        PropertyMap previous,
+        PropertyMap current
+    ) {
+        var changedKeys = new HashSet<String>();
+
+        for (var key : keys) {
+            if (overrides.get(key) == null && !Objects.equals(previous.get(key), current.get(key))) {
+                changedKeys.add(key);
+            }
+        }
+
+        return changedKeys;
+    }
+
+    /**
+     * The state of a reloadable configuration.
+     *
+     * @param properties The properties the configuration has been built from
+     * @param tree       The built configuration objects tree, or {@code null} if reloads are not incremental
+     */
+    private record ReloadState(PropertyMap properties, BuiltTree tree) {
+    }
+
+    /**
+     * The state of a reloadable configuration container.
+     *
+     * @param members The snapshots of the container's members, indexed by parameter
+     */
+    private record ContainerReloadState(ReloadableConfig.Snapshot<?>[] members) {
+    }
+
+    /**
+     * Returns the {@link ConfigFile} annotation of the specified configuration type.
+     *
+     * @param type The configuration type
+     *
+     * @return The annotation of the configuration type.
+     *
+     * @throws InvalidDeclarationException If the specified type is not annotated with {@link ConfigFile}.
+     */
+    private static ConfigFile getConfigFile(Class<?> type) {
+        var configFile = type.getDeclaredAnnotation(ConfigFile.class);
+
+        if (configFile == null) {
+            throw new InvalidDeclarationException(
+                "Class " + type.getSimpleName() + " must be annotated with @ConfigFile"
+            );
+        }
+
+        return configFile;
+    }
+
+    /**
+     * Returns the filter of the keys referenced by the specified configuration type.
+     *
+     * @param type The configuration type
+     *
+     * @return The key filter of the type, or {@code null} if key filtering is disabled.
+     */
+    private KeyFilter getKeyFilter(Class<?> type) {
+        return keyFiltering ? keyFilters.get(type) : null;
+    }
+
+    /**
+     * Builds the configuration object of the specified plan from the specified properties.
+     *
+     * @param plan       The plan of the configuration type
+     * @param properties The properties of the configuration file
+     *
+     * @return A fully initialized instance of the plan's type.
+     *
+     * @throws ReflectiveOperationException If a configuration object cannot be instantiated.
+     */
+    private Object build(BindingPlan plan, PropertyMap properties) throws ReflectiveOperationException {
+        return build(plan, properties, null);
+    }
+
+    /**
+     * Builds the configuration object of the specified plan from the specified properties, recording
+     * the origins of the resolved values into the specified map.
+     *
+     * @param plan       The plan of the configuration type
+     * @param properties The properties of the configuration file
+     * @param origins    The map receiving the origins of the resolved values, mapped to their fully qualified
+     *                   keys, or {@code null} if the origins should not be recorded
+     *
+     * @return A fully initialized instance of the plan's type.
+     *
+     * @throws ReflectiveOperationException If a configuration object cannot be instantiated.
+     */
+    private Object build(
+        BindingPlan plan,
+        PropertyMap properties,
+        Map<String, ValueOrigin> origins
+    ) throws ReflectiveOperationException {
+        var mainContext = new BuildContext(properties, propertyOverrides.get(plan.type()), origins, true);
+
+        if (isParallel(plan)) {
+            var task = new NamespaceTask(plan, mainContext);
+
+            namespacePool.invoke(task);
+
+            return task.getResult();
+        }
+
+        return buildConfigurationTree(plan, mainContext);
+    }
+
+    /**
+     * Returns the exception reporting that the specified configuration type cannot be created.
+     *
+     * @param type  The configuration type
+     * @param cause The cause of the failure
+     *
+     * @return The exception to be thrown.
+     */
+    private static ConfigurationBuildException buildFailure(Class<?> type, Throwable cause) {
+        return new ConfigurationBuildException(
+            "Failed to create an instance of configuration type " + type.getSimpleName(), cause
+        );
+    }
+
+    /**
+     * Returns the cause of the specified exception if it was wrapped by a {@link CompletableFuture} stage.
+     *
+     * @param exception The exception a stage completed with
+     *
+     * @return The original exception.
+     */
+    private static Throwable unwrap(Throwable exception) {
+        return exception instanceof CompletionException && exception.getCause() != null
+            ? exception.getCause()
+            : exception;
+    }
+
+    /**
+     * Constructs and populates a configuration objects tree based on the specified plan and context.
+     *
+     * @param plan    The plan of the configuration object (or namespace) to be built
+     * @param context The context within which the configuration object will be built
+     *
+     * @return A fully initialized instance of the plan's type.
+     *
+     * @throws InvalidDeclarationException If the type is not correctly set up.
+     * @throws ValueConversionException    If a parameter's resolved string value cannot be converted
+     *                                     to its target type.
+     */
+    private Object buildConfigurationTree(BindingPlan plan, BuildContext context) throws ReflectiveOperationException {
+        var bindings = plan.bindings();
+        var arguments = new Object[bindings.size()];
+        var valueResolver = new ValueResolver(
+            context.properties(), context.overrides(), plan.resolutionPlan(), dependencyChecker
+        );
+        var namespaceTasks = isParallel(plan) && ForkJoinTask.getPool() == namespacePool
+            ? new NamespaceTask[arguments.length]
+            : null;
+
+        try {
+            for (var i = 0; i < arguments.length; i++) {
+                var binding = bindings.get(i);
+                var parameter = binding.parameter();
+
+                if (binding instanceof BindingPlan.NamespaceBinding namespaceBinding) {
+                    var newContext = context.fromNamespace(
+                        valueResolver.isNamespaceDependencySatisfied(i, parameter)
+                    );
+
+                    if (namespaceTasks != null) {
+                        // Each subtree creates its own resolvers, so it shares nothing mutable with this one
+                        namespaceTasks[i] = new NamespaceTask(namespaceBinding.plan(), newContext);
+                        namespaceTasks[i].fork();
+                    } else {
+                        arguments[i] = buildConfigurationTree(namespaceBinding.plan(), newContext);
+                    }
+                } else {
+                    arguments[i] = resolveProperty(
+                        plan, (BindingPlan.PropertyBinding) binding, i, valueResolver, context
+                    );
+                }
+            }
+        } catch (RuntimeException e) {
+            // The failures of namespaces declared before the failing parameter take precedence, as in sequential builds
+            if (namespaceTasks != null) {
+                joinNamespaces(namespaceTasks, arguments);
+            }
+
+            throw e;
+        }
+
+        if (namespaceTasks != null) {
+            joinNamespaces(namespaceTasks, arguments);
+        }
+
+        return instantiate(plan, arguments);
+    }
+
+    /**
+     * Rebuilds a configuration objects tree based on the specified plan and context, reusing the subtrees of
+     * the previous tree which read none of the changed keys. Reused subtrees are neither reconverted nor
+     * revalidated, and their configuration objects are reused by identity.
+     *
+     * @param plan        The plan of the configuration object (or namespace) to be built
+     * @param context     The context within which the configuration object will be built
+     * @param previous    The previously built tree, or {@code null} if the tree should be built from scratch
+     * @param changedKeys The keys whose values have changed since the previous tree was built
+     *
+     * @return The rebuilt tree.
+     *
+     * @throws InvalidDeclarationException If the type is not correctly set up.
+     * @throws ValueConversionException    If a parameter's resolved string value cannot be converted
+     *                                     to its target type.
+     */
+    private BuiltTree rebuildConfigurationTree(
+        BindingPlan plan,
+        BuildContext context,
+        BuiltTree previous,
+        Set<String> changedKeys
+    ) throws ReflectiveOperationException {
+        if (previous != null && !containsAny(plan.keys(), changedKeys)) {
+            return previous;
+        }
+
+        var bindings = plan.bindings();
+        var arguments = new Object[bindings.size()];
+        var namespaces = new BuiltTree[arguments.length];
+        var valueResolver = new ValueResolver(
+            context.properties(), context.overrides(), plan.resolutionPlan(), dependencyChecker
+        );
+
+        for (var i = 0; i < arguments.length; i++) {
+            var binding = bindings.get(i);
+
+            if (binding instanceof BindingPlan.NamespaceBinding namespaceBinding) {
+                var newContext = context.fromNamespace(
+                    valueResolver.isNamespaceDependencySatisfied(i, binding.parameter())
+                );
+                // The subtree of a namespace whose dependency outcome may have changed is built from scratch,
+                // while the outcomes of its ancestors are unchanged, or this tree wouldn't have been reused
+                var previousNamespace = previous == null || plan.resolutionPlan().dependsOnAny(i, changedKeys)
+                    ? null
+                    : previous.namespaces()[i];
+
+                namespaces[i] = rebuildConfigurationTree(
+                    namespaceBinding.plan(), newContext, previousNamespace, changedKeys
+                );
+                arguments[i] = namespaces[i].configuration();
+            } else {
+                arguments[i] = resolveProperty(
+                    plan, (BindingPlan.PropertyBinding) binding, i, valueResolver, context
+                );
+            }
+        }
+
+        return new BuiltTree(instantiate(plan, arguments), namespaces);
+    }
+
+    /**
+     * Determines whether the specified keys contain any of the specified changed keys.
+     *
+     * @param keys        The keys to be checked
+     * @param changedKeys The changed keys
+     *
+     * @return {@code true} if any of the changed keys is contained, {@code false} otherwise.
+     */
+    private static boolean containsAny(Set<String> keys, Set<String> changedKeys) {
+        for (var key : changedKeys) {
+            if (keys.contains(key)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Resolves, converts and modifies the value of the specified property parameter.
+     * <p>
+     * The values of parameters declared as {@link Lazy} (or {@code Supplier}), and the values of interface types,
+     * are resolved, but their conversion and modification are deferred until they're first accessed.
+     *
+     * @param plan          The plan of the configuration object declaring the parameter
+     * @param binding       The binding of the parameter
+     * @param index         The index of the parameter
+     * @param valueResolver The resolver of the configuration object's values
+     * @param context       The context within which the configuration object is built
+     *
+     * @return The final value of the parameter, or a {@link DeferredValue} computing it for the proxy
+     * of an interface type.
+     *
+     * @throws ValueConversionException If the resolved value cannot be converted to the parameter's type.
+     */
+    private Object resolveProperty(
+        BindingPlan plan,
+        BindingPlan.PropertyBinding binding,
+        int index,
+        ValueResolver valueResolver,
+        BuildContext context
+    ) {
+        var parameter = binding.parameter();
+        var resolvedValue = context.isDependencySatisfied()
+            ? valueResolver.resolveValue(index)
+            : valueResolver.getDefaultValue(index);
+
+        if (context.origins() != null) {
+            var key = plan.namespace().isBlank()
+                ? parameter.key()
+                : plan.namespace() + "." + parameter.key();
+
+            context.origins().put(key, context.isDependencySatisfied()
+                ? valueResolver.getValueOrigin(index)
+                : valueResolver.getDefaultValueOrigin(index));
+        }
+
+        if (binding.deferred()) {
+            return Lazy.of(() -> convertProperty(plan, binding, resolvedValue));
+        }
+
+        if (plan.type().isInterface()) {
+            return new DeferredValue(() -> convertProperty(plan, binding, resolvedValue));
+        }
+
+        return convertProperty(plan, binding, resolvedValue);
+    }
+
+    /**
+     * Converts and modifies the resolved value of the specified property parameter.
+     *
+     * @param plan          The plan of the configuration object declaring the parameter
+     * @param binding       The binding of the parameter
+     * @param resolvedValue The resolved string value of the parameter
+     *
+     * @return The final value of the parameter.
+     *
+     * @throws ValueConversionException If the resolved value cannot be converted to the parameter's type.
+     */
+    private Object convertProperty(BindingPlan plan, BindingPlan.PropertyBinding binding, String resolvedValue) {
+        var parameter = binding.parameter();
+        Object convertedValue;
+
+        try {
+            convertedValue = binding.conversion().apply(resolvedValue.trim());
+        } catch (Exception e) {
+            throw new ValueConversionException(
+                "Failed to convert the resolved value for configuration property %s (%s.%s)"
+                    .formatted(parameter.key(), plan.type().getSimpleName(), parameter.name()),
+                e
+            );
+        }
+
+        return modify(binding, convertedValue);
+    }
+
+    /**
+     * Creates the configuration object of the specified plan, and validates it through the registered
+     * validator, if any.
+     *
+     * @param plan      The plan of the configuration object
+     * @param arguments The constructor arguments of the configuration object
+     *
+     * @return The validated configuration object.
+     *
+     * @throws ReflectiveOperationException If the configuration object cannot be instantiated.
+     */
+    private Object instantiate(BindingPlan plan, Object[] arguments) throws ReflectiveOperationException {
+        var configurationObject = plan.instantiator().newInstance(arguments);
+
+        // Use the registered validator, if exists, to validate the product
+        if (configurationValidator != null) {
+            configurationValidator.validate(configurationObject);
+        }
+
+        return configurationObject;
+    }
+
+    /**
+     * A built configuration objects tree, retained by reloadable configurations to rebuild only the subtrees
+     * affected by a change.
+     *
+     * @param configuration The configuration object at the root of the tree
+     * @param namespaces    The trees of the object's namespaces, indexed by parameter;
+     *                      {@code null} for property parameters
+     */
+    private record BuiltTree(Object configuration, BuiltTree[] namespaces) {
+    }
+
+    /**
+     * Waits for the specified namespace tasks to complete and stores their results into the specified arguments.
+     *
+     * @param tasks     The namespace tasks, indexed by parameter; {@code null} for non-namespace parameters
+     * @param arguments The constructor arguments of the parent configuration object
+     *
+     * @throws ReflectiveOperationException If the build of a namespace failed with this exception.
+     */
+    private static void joinNamespaces(NamespaceTask[] tasks, Object[] arguments) throws ReflectiveOperationException {
+        // Every task is joined before any failure is reported, so the reported failure doesn't depend on timing
+        for (var task : tasks) {
+            if (task != null) {
+                task.join();
+            }
+        }
+
+        for (var i = 0; i < tasks.length; i++) {
+            if (tasks[i] != null) {
+                arguments[i] = tasks[i].getResult();
+            }
+        }
+    }
+
+    /**
+     * Determines whether the namespace subtrees of the specified plan should be built in parallel.
+     *
+     * @param plan The plan to be checked
+     *
+     * @return {@code true} if parallel namespace builds are enabled and the tree of the plan
+     * contains at least as many namespaces as the threshold, {@code false} otherwise.
+     */
+    private boolean isParallel(BindingPlan plan) {
+        return namespacePool != null && plan.namespaceCount() >= namespaceThreshold;
+    }
+
+    /**
+     * Builds a configuration objects tree on the namespace pool. The outcome of the build is retained
+     * by the task, so failures are reported exactly as they were thrown.
+     */
+    private final class NamespaceTask extends RecursiveAction {
+        private final BindingPlan plan;
+
+        private final BuildContext context;
+
+        private Object result;
+
+        private Throwable failure;
+
+        NamespaceTask(BindingPlan plan, BuildContext context) {
+            this.plan = plan;
+            this.context = context;
+        }
+
+        @Override
+        protected void compute() {
+            try {
+                result = buildConfigurationTree(plan, context);
+            } catch (Throwable e) {
+                failure = e;
+            }
+        }
+
+        /**
+         * Returns the built configuration object. Must be called after the task has been joined.
+         *
+         * @return The built configuration object.
+         *
+         * @throws ReflectiveOperationException If the build failed with this exception.
+         */
+        Object getResult() throws ReflectiveOperationException {
+            if (failure instanceof ReflectiveOperationException e) {
+                throw e;
+            }
+
+            if (failure instanceof RuntimeException e) {
+                throw e;
+            }
+
+            if (failure instanceof Error e) {
+                throw e;
+            }
+
+            return result;
+        }
+    }
+
+    /**
+     * Returns the specified value with all modifiers of the specified binding applied to it.
+     *
+     * @param binding The binding of the parameter to which the specified value will be passed
+     * @param value   The value to be modified
+     *
+     * @return The specified value after all modifiers the bound parameter is annotated with
+     * have been applied to it.
+     */
+    private static Object modify(BindingPlan.PropertyBinding binding, Object value) {
+        var modifiedValue = value;
+
+        for (var valueModifier : binding.modifiers()) {
+            modifiedValue = valueModifier.modify(modifiedValue);
+        }
+
+        return modifiedValue;
+    }
+
+    /**
+     * Returns the shared instance of the specified modifier type, instantiating it on first use.
+     *
+     * @param modifier The type of the modifier
+     *
+     * @return The modifier instance.
+     *
+     * @throws ReflectiveOperationException If the modifier cannot be instantiated.
+     */
+    private ValueModifier getValueModifier(Class<? extends ValueModifier> modifier)
+        throws ReflectiveOperationException {
+        var valueModifier = valueModifiers.get(modifier);
+
+        if (valueModifier == null) {
+            var newValueModifier = modifier.getConstructor().newInstance();
+
+            valueModifier = valueModifiers.putIfAbsent(modifier, newValueModifier);
+
+            if (valueModifier == null) {
+                valueModifier = newValueModifier;
+            }
+        }
+
+        return valueModifier;
+    }
+
+    /**
+     * Represents the current context in the recursive method responsible for building the configuration tree.
+     *
+     * @param properties            The key-value map of configuration properties for this context
+     * @param overrides             The overridden values of the configuration properties
+     * @param origins               The map receiving the origins of the resolved values,
+     *                              or {@code null} if the origins are not recorded
+     * @param isDependencySatisfied Whether the dependency conditions for the current context
+     *                              and all of its parents are satisfied
+     */
+    private record BuildContext(
+        PropertyMap properties,
+        PropertyOverrides overrides,
+        Map<String, ValueOrigin> origins,
+        boolean isDependencySatisfied
+    ) {
+        /**
+         * Returns a new context based on this context and the specified arguments.
+         *
+         * @param isNamespaceDependencySatisfied Whether the dependency of the new namespace is satisfied
+         *
+         * @return A new context built in the context of this context.
+         */
+        BuildContext fromNamespace(boolean isNamespaceDependencySatisfied) {
+            // Satisfied if, and only if, this namespace's dependency
+            // and the dependencies of all upstream context entries are satisfied
+            var isNewContextDependencySatisfied = isDependencySatisfied && isNamespaceDependencySatisfied;
+
+            return new BuildContext(properties, overrides, origins, isNewContextDependencySatisfied);
+        }
+    }
+
+    /**
+     * Returns the statistics of the file cache of this factory.
+     *
+     * @return The statistics of the file cache, or {@code null} if the factory doesn't cache files.
+     *
+     * @see Builder#withFileCache(int, long)
+     */
+    public FileCacheStatistics getFileCacheStatistics() {
+        var cache = propertiesLoader.getCache();
+
+        if (cache == null) {
+            return null;
+        }
+
+        return new FileCacheStatistics(cache.getHits(), cache.getMisses(), cache.getEvictions());
+    }
+
+    /**
+     * The statistics of a factory's file cache.
+     *
+     * @param hits      The number of configuration builds which reused a cached file
+     * @param misses    The number of configuration builds which had to load a file
+     * @param evictions The number of files evicted to keep the cache within its bounds
+     */
+    public record FileCacheStatistics(long hits, long misses, long evictions) {
+    }
+
+    /**
+     * Returns a new builder object responsible for building a new instance of {@link ConfigFactory}.
+     *
+     * @return A new {@link Builder} for constructing a {@link ConfigFactory}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * This class is responsible for building immutable instances of {@link ConfigFactory}.
+     */
+    public static class Builder {
+        private static final long DEFAULT_MEMORY_MAPPING_THRESHOLD = 8 * 1024 * 1024;
+
+        private static final Duration DEFAULT_RELOAD_DEBOUNCE = Duration.ofMillis(100);
+
+        private String classpathDirectory = "";
+
+        private String configurationDirectory = "./";
+
+        private Charset charset = StandardCharsets.ISO_8859_1;
+
+        private long memoryMappingThreshold = DEFAULT_MEMORY_MAPPING_THRESHOLD;
+
+        private int fileCacheEntries;
+
+        private long fileCacheBytes;
+
+        private boolean fileCacheChecksums;
+
+        private boolean softFileCache;
+
+        private boolean snapshots;
+
+        private boolean keyFiltering;
+
+        private KeyMapper systemPropertyMapper;
+
+        private KeyMapper environmentMapper;
+
+        private Duration reloadDebounce = DEFAULT_RELOAD_DEBOUNCE;
+
+        private boolean incrementalReload;
+
+        private Duration changeCoalescing = Duration.ZERO;
+
+        private DependencyChecker dependencyChecker;
 
         private ConfigurationValidator configurationValidator;
 
+        private boolean concurrentContainerBuild;
+
+        private Executor containerExecutor;
+
+        private Executor asyncExecutor;
+
+        private ForkJoinPool namespacePool;
+
+        private int namespaceThreshold;
+
         private final Map<Class<?>, ValueConverter> valueConverters = new LinkedHashMap<>();
 
         // Instantiable by the builder method only
@@ -441,6 +1529,363 @@ public final class ConfigFactory {
             return this;
         }
 
+        /**
+         * Specifies the charset of the configuration files, either {@link StandardCharsets#ISO_8859_1}
+         * (the default, as used by {@link java.util.Properties#load(java.io.InputStream)}) or
+         * {@link StandardCharsets#UTF_8}.
+         * <p>
+         * UTF-8 files are read as-is, so non-ASCII characters don't need to be written as escape sequences.
+         * A leading byte order mark is ignored.
+         *
+         * @param charset The charset of the configuration files
+         *
+         * @return This builder.
+         *
+         * @throws IllegalArgumentException If the charset is neither ISO 8859-1 nor UTF-8.
+         */
+        public Builder withCharset(Charset charset) {
+            Objects.requireNonNull(charset, "The charset cannot be null");
+
+            if (!PropertiesParser.isSupported(charset)) {
+                throw new IllegalArgumentException("Unsupported configuration file charset " + charset);
+            }
+
+            this.charset = charset;
+
+            return this;
+        }
+
+        /**
+         * Specifies the size, in bytes, from which configuration files in the filesystem are memory-mapped
+         * and parsed in place, instead of being copied into memory first. Defaults to 8 MiB.
+         * <p>
+         * Mapping has a fixed setup cost, so it only pays off for large files. Configuration files on the classpath
+         * are always read as streams.
+         *
+         * @param threshold The minimum size of memory-mapped files, or {@link Long#MAX_VALUE} to disable mapping
+         *
+         * @return This builder.
+         *
+         * @throws IllegalArgumentException If the threshold is negative.
+         */
+        public Builder withMemoryMappingThreshold(long threshold) {
+            if (threshold < 0) {
+                throw new IllegalArgumentException("The memory mapping threshold cannot be negative");
+            }
+
+            this.memoryMappingThreshold = threshold;
+
+            return this;
+        }
+
+        /**
+         * Enables caching of loaded configuration files, so configuration types sharing a file, or built repeatedly,
+         * reuse the already loaded file instead of loading it again.
+         * <p>
+         * A cached file is reused only while the last modification time and size of its sources remain the same.
+         * Once the cache exceeds either bound, the least recently used files are evicted.
+         *
+         * @param maxEntries The maximum number of cached files
+         * @param maxBytes   The maximum estimated memory footprint of the cached files, in bytes
+         *
+         * @return This builder.
+         *
+         * @throws IllegalArgumentException If either bound is not positive.
+         */
+        public Builder withFileCache(int maxEntries, long maxBytes) {
+            if (maxEntries <= 0 || maxBytes <= 0) {
+                throw new IllegalArgumentException("The file cache bounds must be positive");
+            }
+
+            this.fileCacheEntries = maxEntries;
+            this.fileCacheBytes = maxBytes;
+
+            return this;
+        }
+
+        /**
+         * Additionally verifies the contents of cached files through CRC32C checksums, for filesystems where
+         * modification times are too coarse or unreliable. Verifying a file requires reading it, but not parsing it.
+         * Requires the file cache to be enabled.
+         *
+         * @return This builder.
+         *
+         * @see #withFileCache(int, long)
+         */
+        public Builder withFileCacheChecksums() {
+            this.fileCacheChecksums = true;
+
+            return this;
+        }
+
+        /**
+         * Retains the files evicted from the file cache through soft references, so they can still be reused until
+         * the garbage collector needs to reclaim their memory. Requires the file cache to be enabled.
+         *
+         * @return This builder.
+         *
+         * @see #withFileCache(int, long)
+         */
+        public Builder withSoftFileCache() {
+            this.softFileCache = true;
+
+            return this;
+        }
+
+        /**
+         * Enables loading configuration files from their binary snapshots, produced through
+         * {@link com.jvanev.jxconfig.properties.SnapshotWriter}. A snapshot is located next to its file, both on
+         * the classpath and in the filesystem, and is loaded only if it matches the current contents of the file;
+         * otherwise, the file is parsed as usual.
+         * <p>
+         * Matching a snapshot requires reading its file, but neither lexing it nor unescaping its values.
+         *
+         * @return This builder.
+         */
+        public Builder withSnapshots() {
+            this.snapshots = true;
+
+            return this;
+        }
+
+        /**
+         * Loads configuration files with only the keys referenced by the configuration type being created,
+         * including the keys of its namespaces, the keys referenced by
+         * {@link com.jvanev.jxconfig.annotation.DependsOnKey} and the keys of property default values.
+         * The entries of any other key are skipped while the file is lexed, without materializing their keys
+         * or values.
+         * <p>
+         * Since skipped entries are never unescaped, malformed escape sequences within them are not reported.
+         * If the file cache is enabled, a file is cached separately for each distinct set of referenced keys.
+         *
+         * @return This builder.
+         */
+        public Builder withKeyFiltering() {
+            this.keyFiltering = true;
+
+            return this;
+        }
+
+        /**
+         * Enables overriding configuration values through system properties with the same names as their
+         * fully qualified keys (e.g., {@code -DPool.Size=16}).
+         *
+         * @return This builder.
+         *
+         * @see #withSystemPropertyOverrides(KeyMapper)
+         */
+        public Builder withSystemPropertyOverrides() {
+            return withSystemPropertyOverrides(KeyMapper.IDENTITY);
+        }
+
+        /**
+         * Enables overriding configuration values through system properties, whose names are obtained by mapping
+         * the fully qualified keys through the specified mapper.
+         * <p>
+         * System properties take precedence over environment variables and configuration files, and are read once,
+         * when the factory is built; later changes to them are not observed by the factory.
+         *
+         * @param mapper The mapper of configuration keys to the names of system properties
+         *
+         * @return This builder.
+         */
+        public Builder withSystemPropertyOverrides(KeyMapper mapper) {
+            this.systemPropertyMapper = Objects.requireNonNull(mapper, "The key mapper cannot be null");
+
+            return this;
+        }
+
+        /**
+         * Enables overriding configuration values through environment variables named after their fully qualified
+         * keys by {@link KeyMapper#ENVIRONMENT} (e.g., {@code POOL_SIZE=16} overrides {@code Pool.Size}).
+         *
+         * @return This builder.
+         *
+         * @see #withEnvironmentOverrides(KeyMapper)
+         */
+        public Builder withEnvironmentOverrides() {
+            return withEnvironmentOverrides(KeyMapper.ENVIRONMENT);
+        }
+
+        /**
+         * Enables overriding configuration values through environment variables, whose names are obtained by
+         * mapping the fully qualified keys through the specified mapper.
+         * <p>
+         * Environment variables take precedence over configuration files, but not over system properties,
+         * and are read once, when the factory is built.
+         *
+         * @param mapper The mapper of configuration keys to the names of environment variables
+         *
+         * @return This builder.
+         */
+        public Builder withEnvironmentOverrides(KeyMapper mapper) {
+            this.environmentMapper = Objects.requireNonNull(mapper, "The key mapper cannot be null");
+
+            return this;
+        }
+
+        /**
+         * Sets the period without changes after which reloadable configurations are rebuilt, so a burst of writes
+         * to their files results in a single rebuild. Defaults to 100 milliseconds.
+         *
+         * @param debounce The period without changes
+         *
+         * @return This builder.
+         *
+         * @throws IllegalArgumentException If the period is negative.
+         *
+         * @see ConfigFactory#createReloadableConfig(Class)
+         */
+        public Builder withReloadDebounce(Duration debounce) {
+            if (Objects.requireNonNull(debounce, "The reload debounce cannot be null").isNegative()) {
+                throw new IllegalArgumentException("The reload debounce cannot be negative");
+            }
+
+            this.reloadDebounce = debounce;
+
+            return this;
+        }
+
+        /**
+         * Enables incremental reloads of reloadable configurations: the values of the keys read by a configuration
+         * type are compared with their values at the previous build, and only the namespaces reading changed keys
+         * (directly, through property default values, or through the dependencies gating them) are rebuilt, along
+         * with their ancestors. The configuration objects of unaffected namespaces are reused by identity,
+         * and are neither reconverted nor revalidated.
+         * <p>
+         * Registered converters, modifiers and validators must therefore be deterministic: a namespace is rebuilt
+         * only if the values it reads have changed.
+         *
+         * @return This builder.
+         *
+         * @see ConfigFactory#createReloadableConfig(Class)
+         */
+        public Builder withIncrementalReload() {
+            this.incrementalReload = true;
+
+            return this;
+        }
+
+        /**
+         * Sets the window within which successive changes of reloadable configurations are merged into a single
+         * change event, so subscribers observe a burst of rebuilds as one change. The window starts with the first
+         * change, and the merged event carries the configuration object preceding the first change, the one
+         * following the last change, and all keys changed in between. Defaults to zero, publishing every change
+         * as soon as it's made.
+         *
+         * @param window The coalescing window
+         *
+         * @return This builder.
+         *
+         * @throws IllegalArgumentException If the window is negative.
+         *
+         * @see ReloadableConfig#changes()
+         */
+        public Builder withChangeCoalescing(Duration window) {
+            if (Objects.requireNonNull(window, "The coalescing window cannot be null").isNegative()) {
+                throw new IllegalArgumentException("The coalescing window cannot be negative");
+            }
+
+            this.changeCoalescing = window;
+
+            return this;
+        }
+
+        /**
+         * Enables concurrent creation of the configuration types of configuration containers, so the loading
+         * and building of each type overlaps with the others. The types are created on virtual threads if
+         * the runtime supports them (Java 21+), and on a shared pool of daemon threads otherwise.
+         * <p>
+         * Registered converters, modifiers, dependency checkers and validators may be invoked concurrently.
+         *
+         * @return This builder.
+         *
+         * @see #withConcurrentContainerBuild(Executor)
+         */
+        public Builder withConcurrentContainerBuild() {
+            this.concurrentContainerBuild = true;
+
+            return this;
+        }
+
+        /**
+         * Enables concurrent creation of the configuration types of configuration containers
+         * on the specified executor.
+         *
+         * @param executor The executor creating the configuration types
+         *
+         * @return This builder.
+         *
+         * @see #withConcurrentContainerBuild()
+         */
+        public Builder withConcurrentContainerBuild(Executor executor) {
+            this.containerExecutor = Objects.requireNonNull(executor, "The container executor cannot be null");
+            this.concurrentContainerBuild = true;
+
+            return this;
+        }
+
+        /**
+         * Specifies the executor running the asynchronous builds of the factory, i.e., the ones started through
+         * {@link ConfigFactory#createConfigAsync(Class)} and {@link ConfigFactory#createConfigContainerAsync(Class)}.
+         * If not set, virtual threads are used if the runtime supports them (Java 21+), and a shared pool of daemon
+         * threads otherwise.
+         * <p>
+         * Configuration files in the filesystem are read through an {@link java.nio.channels.AsynchronousFileChannel}
+         * unless they're cached or memory-mapped; every other stage of a build runs on the executor.
+         *
+         * @param executor The executor running the asynchronous builds
+         *
+         * @return This builder.
+         */
+        public Builder withAsyncExecutor(Executor executor) {
+            this.asyncExecutor = Objects.requireNonNull(executor, "The async executor cannot be null");
+
+            return this;
+        }
+
+        /**
+         * Enables parallel building of the namespace subtrees of configuration types on the common fork-join pool.
+         *
+         * @param threshold The minimum number of namespaces in a tree for its subtrees to be built in parallel
+         *
+         * @return This builder.
+         *
+         * @throws IllegalArgumentException If the threshold is not positive.
+         *
+         * @see #withParallelNamespaceBuild(ForkJoinPool, int)
+         */
+        public Builder withParallelNamespaceBuild(int threshold) {
+            return withParallelNamespaceBuild(ForkJoinPool.commonPool(), threshold);
+        }
+
+        /**
+         * Enables parallel building of the namespace subtrees of configuration types on the specified pool.
+         * <p>
+         * Sibling namespaces are built as separate fork-join tasks, and the built namespaces are passed to the
+         * constructor of their parent once all of them are complete. Forking has a cost of its own, so trees
+         * (and subtrees) containing fewer namespaces than the threshold are built sequentially.
+         * <p>
+         * Registered converters, modifiers, dependency checkers and validators may be invoked concurrently.
+         *
+         * @param pool      The pool building the namespace subtrees
+         * @param threshold The minimum number of namespaces in a tree for its subtrees to be built in parallel
+         *
+         * @return This builder.
+         *
+         * @throws IllegalArgumentException If the threshold is not positive.
+         */
+        public Builder withParallelNamespaceBuild(ForkJoinPool pool, int threshold) {
+            if (threshold <= 0) {
+                throw new IllegalArgumentException("The parallel namespace build threshold must be positive");
+            }
+
+            this.namespacePool = Objects.requireNonNull(pool, "The namespace pool cannot be null");
+            this.namespaceThreshold = threshold;
+
+            return this;
+        }
+
         /**
          * Registers a custom value converter for converting {@link String} values to a specific type not natively
          * supported by the factory's default mechanism, or to override the default conversion behavior for this type.
@@ -504,15 +1949,98 @@ public final class ConfigFactory {
          * @return The fully initialized {@link ConfigFactory} object.
          */
         public ConfigFactory build() {
+            if (fileCacheEntries == 0 && (fileCacheChecksums || softFileCache)) {
+                throw new IllegalStateException("The file cache options require the file cache to be enabled");
+            }
+
             var valueConverter = new Converter(valueConverters);
+            var fileCache = fileCacheEntries == 0
+                ? null
+                : new PropertiesCache(fileCacheEntries, fileCacheBytes, fileCacheChecksums, softFileCache);
+            var normalizedClasspathDirectory = classpathDirectory.isBlank() || classpathDirectory.endsWith("/")
+                ? classpathDirectory
+                : classpathDirectory + "/";
+            var propertiesLoader = new PropertiesLoader(
+                normalizedClasspathDirectory,
+                Path.of(configurationDirectory),
+                charset,
+                memoryMappingThreshold,
+                fileCache,
+                snapshots
+            );
+            var overrideIndex = OverrideIndex.builder();
+
+            if (systemPropertyMapper != null) {
+                var systemProperties = System.getProperties();
+                var values = new HashMap<String, String>();
+
+                for (var name : systemProperties.stringPropertyNames()) {
+                    values.put(name, systemProperties.getProperty(name));
+                }
+
+                overrideIndex.withLayer(ValueOrigin.SYSTEM_PROPERTY, values, systemPropertyMapper);
+            }
+
+            if (environmentMapper != null) {
+                overrideIndex.withLayer(ValueOrigin.ENVIRONMENT, System.getenv(), environmentMapper);
+            }
 
             return new ConfigFactory(
-                classpathDirectory,
-                configurationDirectory,
+                propertiesLoader,
                 valueConverter,
                 dependencyChecker,
-                configurationValidator
+                configurationValidator,
+                concurrentContainerBuild
+                    ? Objects.requireNonNullElse(containerExecutor, DefaultExecutor.INSTANCE)
+                    : null,
+                Objects.requireNonNullElse(asyncExecutor, DefaultExecutor.INSTANCE),
+                namespacePool,
+                namespaceThreshold,
+                keyFiltering,
+                overrideIndex.build(),
+                reloadDebounce,
+                incrementalReload,
+                changeCoalescing
             );
         }
     }
+
+    /**
+     * The default executor of concurrent and asynchronous builds, shared by all factories: a virtual thread
+     * per task executor if the runtime supports virtual threads, or a cached pool of daemon threads otherwise.
+     * <p>
+     * The builds mostly wait for file I/O, so they're kept off the common fork-join pool, whose parallelism
+     * is bounded by the number of processors. The executor is created when the first task is submitted.
+     */
+    private static final class DefaultExecutor implements Executor {
+        static final Executor INSTANCE = new DefaultExecutor();
+
+        @Override
+        public void execute(Runnable command) {
+            Holder.EXECUTOR.execute(command);
+        }
+
+        /**
+         * Holds the shared executor, so it's created only when the first task is submitted.
+         */
+        private static final class Holder {
+            private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+            static final Executor EXECUTOR = create();
+
+            private static Executor create() {
+                try {
+                    return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+                } catch (ReflectiveOperationException e) {
+                    return Executors.newCachedThreadPool(task -> {
+                        var thread = new Thread(task, "jxconfig-worker-" + THREAD_COUNT.incrementAndGet());
+
+                        thread.setDaemon(true);
+
+                        return thread;
+                    });
+                }
+            }
+        }
+    }
 }
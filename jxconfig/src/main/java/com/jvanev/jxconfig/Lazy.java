@@ -0,0 +1,101 @@
+/*
+ * Copyright 2025 Georgi Vanev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jvanev.jxconfig;
+
+import com.jvanev.jxconfig.exception.ValueConversionException;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A value computed on first access and cached afterward.
+ * <p>
+ * Parameters of configuration types declared as {@code Lazy<T>} (or {@code Supplier<T>}) receive a lazy value
+ * whose string value has been resolved when the configuration object was created, but whose conversion to {@code T}
+ * and modification are deferred until the first call to {@link #get()}. This postpones the cost of expensive
+ * conversions to the code paths which actually need the values, while missing keys and unsatisfied dependencies
+ * are still reported when the configuration object is created.
+ * <p>
+ * The computation runs at most once, even if the value is accessed concurrently. If the computation fails,
+ * the failure (e.g., a {@link ValueConversionException}) is thrown to the accessing thread, and the computation
+ * is attempted again on the next access.
+ * <p>
+ * Lazy values are compared by identity, since comparing them by value would require computing them.
+ *
+ * @param <T> The type of the value
+ */
+public final class Lazy<T> implements Supplier<T> {
+    /**
+     * The computation of the value, released once the value has been computed.
+     */
+    private Supplier<? extends T> computation;
+
+    private T value;
+
+    /**
+     * Whether the value has been computed; written after the value, so reading {@code true} publishes it.
+     */
+    private volatile boolean computed;
+
+    private Lazy(Supplier<? extends T> computation) {
+        this.computation = computation;
+    }
+
+    /**
+     * Returns a lazy value computed by the specified supplier.
+     *
+     * @param computation The computation of the value
+     * @param <T>         The type of the value
+     *
+     * @return A new lazy value.
+     */
+    public static <T> Lazy<T> of(Supplier<? extends T> computation) {
+        return new Lazy<>(Objects.requireNonNull(computation, "The computation cannot be null"));
+    }
+
+    /**
+     * Returns the value, computing it if it hasn't been computed yet.
+     *
+     * @return The value.
+     */
+    @Override
+    public T get() {
+        if (!computed) {
+            synchronized (this) {
+                if (!computed) {
+                    value = computation.get();
+                    computation = null;
+                    computed = true;
+                }
+            }
+        }
+
+        return value;
+    }
+
+    /**
+     * Determines whether the value has been computed.
+     *
+     * @return {@code true} if the value has been computed, {@code false} otherwise.
+     */
+    public boolean isComputed() {
+        return computed;
+    }
+
+    @Override
+    public String toString() {
+        return computed ? "Lazy[" + value + "]" : "Lazy[<not computed>]";
+    }
+}
@@ -0,0 +1,343 @@
+/*
+ * Copyright 2025 Georgi Vanev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jvanev.jxconfig;
+
+import com.jvanev.jxconfig.exception.ConfigurationBuildException;
+import com.jvanev.jxconfig.exception.InvalidDeclarationException;
+import com.jvanev.jxconfig.internal.ChangePublisher;
+import com.jvanev.jxconfig.internal.KeyIndex;
+import com.jvanev.jxconfig.properties.internal.FileWatcher;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * A handle to a configuration object which is rebuilt whenever its configuration files change.
+ * <p>
+ * The current configuration object is held in a volatile reference, so reading it never blocks. The files are
+ * watched on a dedicated daemon thread, which rebuilds the configuration object once the files stop changing,
+ * and publishes it only if it has been built (and validated by the factory's validator, if any) successfully.
+ * If a rebuild fails, the last successfully built configuration object remains current, and the failure is reported
+ * to the registered failure listeners.
+ * <p>
+ * Listeners can subscribe to the changes of individual properties through {@link #addKeyListener}. The properties
+ * affected by a rebuild are looked up in a reverse index of the configuration type, built once per type, so
+ * notifying the listeners takes time proportional to the size of the change rather than the size of the type.
+ * Alternatively, the changes can be consumed as a stream of {@link ConfigChange} events through {@link #changes()}.
+ * <p>
+ * Instances are obtained through {@link ConfigFactory#createReloadableConfig(Class)} and
+ * {@link ConfigFactory#createReloadableConfigContainer(Class)}, and should be closed once they're no longer needed,
+ * to stop watching their files.
+ *
+ * @param <T> The type of the configuration object
+ */
+public final class ReloadableConfig<T> implements AutoCloseable {
+    private final UnaryOperator<Snapshot<T>> builder;
+
+    /**
+     * Provides the reverse key index of the configuration type, built once the index is first needed.
+     */
+    private final Supplier<KeyIndex> keyIndex;
+
+    private final List<Consumer<? super RuntimeException>> failureListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * The registered key listeners, mapped to the fully qualified keys of the properties they listen to.
+     */
+    private final Map<String, List<KeyListener<? super T>>> keyListeners = new ConcurrentHashMap<>();
+
+    private final ChangePublisher<ConfigChange<T>> changes;
+
+    private final FileWatcher watcher;
+
+    /**
+     * The last successfully built snapshot, accessed only while holding the lock of this handle.
+     */
+    private Snapshot<T> snapshot;
+
+    private volatile T current;
+
+    private volatile boolean closed;
+
+    /**
+     * Creates a new ReloadableConfig, and builds its initial configuration object.
+     *
+     * @param builder    The builder of snapshots, receiving the previous snapshot, or {@code null} initially
+     * @param keyIndex   The provider of the reverse key index of the configuration type
+     * @param files      The files whose changes trigger a rebuild
+     * @param debounce   The period without changes after which the configuration object is rebuilt
+     * @param coalescing The window within which successive changes are merged into a single change event
+     * @param executor   The executor delivering the change events
+     * @param threadName The name of the watching thread
+     *
+     * @throws IOException                 If the files cannot be watched.
+     * @throws InvalidDeclarationException If the configuration type is not correctly set up.
+     * @throws ConfigurationBuildException If the initial configuration object cannot be built.
+     */
+    ReloadableConfig(
+        UnaryOperator<Snapshot<T>> builder,
+        Supplier<KeyIndex> keyIndex,
+        Collection<Path> files,
+        Duration debounce,
+        Duration coalescing,
+        Executor executor,
+        String threadName
+    ) throws IOException {
+        this.builder = builder;
+        this.keyIndex = keyIndex;
+        this.changes = new ChangePublisher<>(executor, coalescing.toNanos(), ConfigChange::merge);
+        // The files are watched before the initial build, so no change made during the build is missed
+        this.watcher = new FileWatcher(files, debounce, this::reloadOnChange, threadName);
+
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            watcher.close();
+
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the current configuration object.
+     *
+     * @return The last successfully built configuration object.
+     */
+    public T get() {
+        return current;
+    }
+
+    /**
+     * Rebuilds the configuration object from the current contents of its files, and publishes it if it has been
+     * built successfully. Rebuilds are serialized with the rebuilds triggered by file changes.
+     * <p>
+     * Once the configuration object is published, the key listeners of the affected properties are notified
+     * on the calling thread, and a change event is published to the subscribers of {@link #changes()}.
+     *
+     * @throws InvalidDeclarationException If the configuration type is not correctly set up.
+     * @throws ConfigurationBuildException If the configuration object cannot be built, in which case
+     *                                     the current configuration object remains in place.
+     */
+    public synchronized void reload() {
+        var previous = snapshot;
+
+        snapshot = builder.apply(previous);
+        current = snapshot.config();
+
+        if (previous == null || snapshot.changedKeys().isEmpty()) {
+            return;
+        }
+
+        if (!keyListeners.isEmpty()) {
+            notifyKeyListeners(previous.config(), snapshot.config(), snapshot.changedKeys());
+        }
+
+        changes.publish(new ConfigChange<>(previous.config(), snapshot.config(), snapshot.changedKeys()));
+    }
+
+    /**
+     * Notifies the key listeners of the properties affected by the specified changed keys. The failures
+     * of listeners are reported to the failure listeners, so they don't prevent other listeners from being notified.
+     *
+     * @param previous    The previous configuration object
+     * @param config      The new configuration object
+     * @param changedKeys The keys of the configuration file whose values have changed
+     */
+    private void notifyKeyListeners(T previous, T config, Set<String> changedKeys) {
+        for (var key : keyIndex.get().getAffectedProperties(changedKeys)) {
+            var listeners = keyListeners.get(key);
+
+            if (listeners == null) {
+                continue;
+            }
+
+            for (var listener : listeners) {
+                try {
+                    listener.onChange(key, previous, config);
+                } catch (RuntimeException e) {
+                    reportFailure(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Registers a listener notified whenever a rebuild may have changed the resolved value of the specified
+     * property: when the value of its key, the key of its property default value, or any key read by
+     * the dependencies gating it has changed.
+     *
+     * @param key      The fully qualified key of the property, including its namespace (e.g., {@code Pool.Size})
+     * @param listener The listener to be registered
+     *
+     * @return This handle.
+     *
+     * @throws IllegalArgumentException If the configuration type doesn't declare a property with the specified key.
+     */
+    public ReloadableConfig<T> addKeyListener(String key, KeyListener<? super T> listener) {
+        Objects.requireNonNull(listener, "The key listener cannot be null");
+
+        if (!keyIndex.get().isProperty(key)) {
+            throw new IllegalArgumentException("No configuration property is declared with key " + key);
+        }
+
+        keyListeners.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>()).add(listener);
+
+        return this;
+    }
+
+    /**
+     * A listener of the changes of a single property.
+     *
+     * @param <T> The type of the configuration object
+     */
+    @FunctionalInterface
+    public interface KeyListener<T> {
+        /**
+         * Invoked after a configuration object, whose property may have changed, has been published.
+         *
+         * @param key      The fully qualified key of the property
+         * @param previous The previous configuration object
+         * @param current  The new configuration object
+         */
+        void onChange(String key, T previous, T current);
+    }
+
+    /**
+     * Returns the publisher of the change events of this handle. An event is published whenever a rebuild has
+     * changed the values of any keys read by the configuration type; rebuilds which haven't changed any values
+     * publish no events.
+     * <p>
+     * Events are delivered asynchronously on the factory's async executor, sequentially for each subscriber.
+     * Successive events published within the factory's coalescing window are merged into a single event,
+     * and so are the events published to a subscriber without outstanding demand: each subscriber holds at most
+     * one undelivered event, so slow subscribers neither delay rebuilds nor accumulate a backlog of events.
+     * Subscribers are completed once this handle is closed.
+     *
+     * @return The publisher of the change events.
+     *
+     * @see ConfigFactory.Builder#withChangeCoalescing(Duration)
+     */
+    public Flow.Publisher<ConfigChange<T>> changes() {
+        return changes;
+    }
+
+    /**
+     * A change of the configuration object, spanning one or more successive rebuilds.
+     *
+     * @param previous    The configuration object before the first of the rebuilds
+     * @param current     The configuration object after the last of the rebuilds
+     * @param changedKeys The keys of the configuration file whose values have changed during the rebuilds
+     * @param <T>         The type of the configuration object
+     */
+    public record ConfigChange<T>(T previous, T current, Set<String> changedKeys) {
+        public ConfigChange {
+            changedKeys = Set.copyOf(changedKeys);
+        }
+
+        /**
+         * Merges the specified successive changes into a single change.
+         *
+         * @param earlier The earlier change
+         * @param later   The later change
+         * @param <T>     The type of the configuration object
+         *
+         * @return The merged change.
+         */
+        private static <T> ConfigChange<T> merge(ConfigChange<T> earlier, ConfigChange<T> later) {
+            var changedKeys = new HashSet<>(earlier.changedKeys());
+
+            changedKeys.addAll(later.changedKeys());
+
+            return new ConfigChange<>(earlier.previous(), later.current(), changedKeys);
+        }
+    }
+
+    /**
+     * Registers a listener notified of the failures of rebuilds triggered by file changes, and of the failures
+     * of key listeners. Listeners are notified on the thread of the failed rebuild.
+     *
+     * @param listener The listener to be registered
+     *
+     * @return This handle.
+     */
+    public ReloadableConfig<T> addFailureListener(Consumer<? super RuntimeException> listener) {
+        failureListeners.add(Objects.requireNonNull(listener, "The failure listener cannot be null"));
+
+        return this;
+    }
+
+    /**
+     * Rebuilds the configuration object after its files have changed, reporting the failure of the rebuild
+     * to the failure listeners.
+     */
+    private void reloadOnChange() {
+        if (closed) {
+            return;
+        }
+
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            reportFailure(e);
+        }
+    }
+
+    /**
+     * Reports the specified failure to the failure listeners.
+     *
+     * @param failure The failure to be reported
+     */
+    private void reportFailure(RuntimeException failure) {
+        for (var listener : failureListeners) {
+            listener.accept(failure);
+        }
+    }
+
+    /**
+     * A built configuration object along with the state it has been built from.
+     *
+     * @param config      The configuration object
+     * @param state       The state passed to the next build (e.g., to rebuild only what has changed)
+     * @param changedKeys The keys of the configuration file whose values have changed since the previous snapshot
+     * @param <T>         The type of the configuration object
+     */
+    record Snapshot<T>(T config, Object state, Set<String> changedKeys) {
+    }
+
+    /**
+     * Stops watching the configuration files, and completes the subscribers of {@link #changes()} once they've
+     * received their pending events. The current configuration object remains available.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        watcher.close();
+        changes.close();
+    }
+}
@@ -21,9 +21,10 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 /**
- * Maps a constructor parameter to a key in a configuration file.
+ * Maps a constructor parameter, or an accessor method of an interface configuration type, to a key
+ * in a configuration file.
  */
-@Target(ElementType.PARAMETER)
+@Target({ElementType.PARAMETER, ElementType.METHOD})
 @Retention(RetentionPolicy.RUNTIME)
 public @interface ConfigProperty {
     /**
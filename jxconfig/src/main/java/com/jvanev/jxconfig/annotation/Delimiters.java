@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 Georgi Vanev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jvanev.jxconfig.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Specifies the delimiters used to split the value of an aggregate parameter (i.e., an array,
+ * a {@link java.util.List}, a {@link java.util.Set} or a {@link java.util.Map}) into its entries.
+ * <p>
+ * The delimiters apply only to the outermost aggregate type of the parameter; the entries of nested aggregates
+ * (e.g., the values of a {@code Map<String, List<Integer>>}) are split using the default delimiters. This allows
+ * declarations such as {@code @Delimiters(entries = ';', keyValue = '=')} for values like {@code a = 1, 2; b = 3}.
+ * <p>
+ * Whitespace around the delimiters is always ignored, therefore whitespace characters cannot be used as delimiters.
+ */
+@Target({ElementType.PARAMETER, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Delimiters {
+    /**
+     * The character separating the entries of the aggregate value.
+     *
+     * @return The entry delimiter.
+     */
+    char entries() default ',';
+
+    /**
+     * The character separating the key from the value of each map entry.
+     * Ignored if the parameter is not a map.
+     *
+     * @return The key-value delimiter.
+     */
+    char keyValue() default ':';
+}
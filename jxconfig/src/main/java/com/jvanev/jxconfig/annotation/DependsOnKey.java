@@ -26,7 +26,7 @@ import java.lang.annotation.Target;
  * Marks a {@link ConfigProperty} or a {@link ConfigNamespace} as dependent on the value of
  * a specified key in the configuration file.
  */
-@Target(ElementType.PARAMETER)
+@Target({ElementType.PARAMETER, ElementType.METHOD})
 @Retention(RetentionPolicy.RUNTIME)
 public @interface DependsOnKey {
     /**
@@ -25,7 +25,7 @@ import java.lang.annotation.Target;
  * Marks a {@link ConfigProperty} or a {@link ConfigNamespace} as dependent
  * on a specified {@link ConfigProperty}'s value.
  */
-@Target(ElementType.PARAMETER)
+@Target({ElementType.PARAMETER, ElementType.METHOD})
 @Retention(RetentionPolicy.RUNTIME)
 public @interface DependsOnProperty {
     /**
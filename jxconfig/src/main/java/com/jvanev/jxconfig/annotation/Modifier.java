@@ -27,7 +27,7 @@ import java.lang.annotation.Target;
  * Modifies the value that will be passed to the target parameter using the specified modifier.
  * This annotation can be applied multiple times.
  */
-@Target(ElementType.PARAMETER)
+@Target({ElementType.PARAMETER, ElementType.METHOD})
 @Retention(RetentionPolicy.RUNTIME)
 @Repeatable(Modifiers.class)
 public @interface Modifier {
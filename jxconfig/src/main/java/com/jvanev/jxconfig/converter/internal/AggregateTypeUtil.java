@@ -20,52 +20,26 @@ import java.lang.reflect.Array;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
-import java.util.regex.Pattern;
 
 /**
  * Provides methods for working with aggregate types (e.g., arrays and collections).
  */
 final class AggregateTypeUtil {
     /**
-     * Contains string-to-primitive array converters mapped to the type of array they produce.
+     * Contains the supported array types of primitives and boxed primitives.
      */
-    private static final Map<Class<?>, Function<String, Object>> PRIMITIVE_ARRAY_CONVERTERS = new HashMap<>();
-
-    static {
-        PRIMITIVE_ARRAY_CONVERTERS.put(byte[].class, value -> AggregateTypeUtil.convertToPrimitiveArray(byte.class, value));
-        PRIMITIVE_ARRAY_CONVERTERS.put(Byte[].class, value -> AggregateTypeUtil.convertToPrimitiveArray(Byte.class, value));
-        PRIMITIVE_ARRAY_CONVERTERS.put(short[].class, value -> AggregateTypeUtil.convertToPrimitiveArray(short.class, value));
-        PRIMITIVE_ARRAY_CONVERTERS.put(Short[].class, value -> AggregateTypeUtil.convertToPrimitiveArray(Short.class, value));
-        PRIMITIVE_ARRAY_CONVERTERS.put(int[].class, value -> AggregateTypeUtil.convertToPrimitiveArray(int.class, value));
-        PRIMITIVE_ARRAY_CONVERTERS.put(Integer[].class, value -> AggregateTypeUtil.convertToPrimitiveArray(Integer.class, value));
-        PRIMITIVE_ARRAY_CONVERTERS.put(long[].class, value -> AggregateTypeUtil.convertToPrimitiveArray(long.class, value));
-        PRIMITIVE_ARRAY_CONVERTERS.put(Long[].class, value -> AggregateTypeUtil.convertToPrimitiveArray(Long.class, value));
-        PRIMITIVE_ARRAY_CONVERTERS.put(float[].class, value -> AggregateTypeUtil.convertToPrimitiveArray(float.class, value));
-        PRIMITIVE_ARRAY_CONVERTERS.put(Float[].class, value -> AggregateTypeUtil.convertToPrimitiveArray(Float.class, value));
-        PRIMITIVE_ARRAY_CONVERTERS.put(double[].class, value -> AggregateTypeUtil.convertToPrimitiveArray(double.class, value));
-        PRIMITIVE_ARRAY_CONVERTERS.put(Double[].class, value -> AggregateTypeUtil.convertToPrimitiveArray(Double.class, value));
-        PRIMITIVE_ARRAY_CONVERTERS.put(boolean[].class, value -> AggregateTypeUtil.convertToPrimitiveArray(boolean.class, value));
-        PRIMITIVE_ARRAY_CONVERTERS.put(Boolean[].class, value -> AggregateTypeUtil.convertToPrimitiveArray(Boolean.class, value));
-        PRIMITIVE_ARRAY_CONVERTERS.put(char[].class, value -> AggregateTypeUtil.convertToPrimitiveArray(char.class, value));
-        PRIMITIVE_ARRAY_CONVERTERS.put(Character[].class, value -> AggregateTypeUtil.convertToPrimitiveArray(Character.class, value));
-    }
-
-    /**
-     * Regex to split strings by commas (e.g., 1, 2, 3). Any space around the comma will be trimmed.
-     */
-    private static final Pattern ARRAY_SPLIT_REGEX = Pattern.compile("\\s*,\\s*");
-
-    /**
-     * Regex to split strings by colons (e.g., Key:Value). Any space around the colon will be trimmed.
-     */
-    private static final Pattern KEY_VALUE_SPLIT_REGEX = Pattern.compile("\\s*:\\s*");
+    private static final Set<Class<?>> PRIMITIVE_ARRAY_TYPES = Set.of(
+        byte[].class, Byte[].class, short[].class, Short[].class,
+        int[].class, Integer[].class, long[].class, Long[].class,
+        float[].class, Float[].class, double[].class, Double[].class,
+        boolean[].class, Boolean[].class, char[].class, Character[].class
+    );
 
     // Utility class
     private AggregateTypeUtil() {
@@ -79,38 +53,206 @@ final class AggregateTypeUtil {
      * @return {@code true} if the specified type is a primitive array, {@code false} otherwise.
      */
     static boolean isPrimitiveArray(Class<?> type) {
-        return PRIMITIVE_ARRAY_CONVERTERS.containsKey(type);
+        return PRIMITIVE_ARRAY_TYPES.contains(type);
+    }
+
+    /**
+     * Returns the conversion of string values into primitive arrays of the specified type.
+     * <p>
+     * Arrays of primitives are filled directly by type-specific parsers, without boxing their elements.
+     * Integral and boolean elements are additionally parsed in place, without creating intermediate strings.
+     *
+     * @param type      The type of the array
+     * @param delimiter The character separating the array entries
+     *
+     * @return The conversion to the specified array type.
+     */
+    static Function<String, Object> getPrimitiveArrayConversion(Class<?> type, char delimiter) {
+        var componentType = type.getComponentType();
+
+        if (componentType == byte.class) {
+            return value -> toByteArray(delimiter, value);
+        } else if (componentType == short.class) {
+            return value -> toShortArray(delimiter, value);
+        } else if (componentType == int.class) {
+            return value -> toIntArray(delimiter, value);
+        } else if (componentType == long.class) {
+            return value -> toLongArray(delimiter, value);
+        } else if (componentType == float.class) {
+            return value -> toFloatArray(delimiter, value);
+        } else if (componentType == double.class) {
+            return value -> toDoubleArray(delimiter, value);
+        } else if (componentType == boolean.class) {
+            return value -> toBooleanArray(delimiter, value);
+        } else if (componentType == char.class) {
+            return value -> toCharArray(delimiter, value);
+        }
+
+        var elementConversion = PrimitiveTypeUtil.getConversion(componentType);
+
+        return value -> toBoxedArray(componentType, elementConversion, delimiter, value);
+    }
+
+    private static byte[] toByteArray(char delimiter, String value) {
+        var tokenizer = new Tokenizer(value, delimiter);
+        var array = new byte[tokenizer.count()];
+
+        for (var i = 0; tokenizer.next(); i++) {
+            array[i] = (byte) parseIntegral(tokenizer, byte.class, Byte.MIN_VALUE, Byte.MAX_VALUE);
+        }
+
+        return array;
+    }
+
+    private static short[] toShortArray(char delimiter, String value) {
+        var tokenizer = new Tokenizer(value, delimiter);
+        var array = new short[tokenizer.count()];
+
+        for (var i = 0; tokenizer.next(); i++) {
+            array[i] = (short) parseIntegral(tokenizer, short.class, Short.MIN_VALUE, Short.MAX_VALUE);
+        }
+
+        return array;
+    }
+
+    private static int[] toIntArray(char delimiter, String value) {
+        var tokenizer = new Tokenizer(value, delimiter);
+        var array = new int[tokenizer.count()];
+
+        for (var i = 0; tokenizer.next(); i++) {
+            array[i] = (int) parseIntegral(tokenizer, int.class, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        }
+
+        return array;
+    }
+
+    private static long[] toLongArray(char delimiter, String value) {
+        var tokenizer = new Tokenizer(value, delimiter);
+        var array = new long[tokenizer.count()];
+
+        for (var i = 0; tokenizer.next(); i++) {
+            array[i] = parseIntegral(tokenizer, long.class, Long.MIN_VALUE, Long.MAX_VALUE);
+        }
+
+        return array;
+    }
+
+    private static float[] toFloatArray(char delimiter, String value) {
+        var tokenizer = new Tokenizer(value, delimiter);
+        var array = new float[tokenizer.count()];
+
+        for (var i = 0; tokenizer.next(); i++) {
+            array[i] = Float.parseFloat(getEntry(tokenizer, float.class));
+        }
+
+        return array;
+    }
+
+    private static double[] toDoubleArray(char delimiter, String value) {
+        var tokenizer = new Tokenizer(value, delimiter);
+        var array = new double[tokenizer.count()];
+
+        for (var i = 0; tokenizer.next(); i++) {
+            array[i] = Double.parseDouble(getEntry(tokenizer, double.class));
+        }
+
+        return array;
+    }
+
+    private static boolean[] toBooleanArray(char delimiter, String value) {
+        var tokenizer = new Tokenizer(value, delimiter);
+        var array = new boolean[tokenizer.count()];
+
+        for (var i = 0; tokenizer.next(); i++) {
+            requireEntry(tokenizer, boolean.class);
+
+            // Same as Boolean.parseBoolean
+            array[i] = tokenizer.end() - tokenizer.start() == 4 &&
+                value.regionMatches(true, tokenizer.start(), "true", 0, 4);
+        }
+
+        return array;
+    }
+
+    private static char[] toCharArray(char delimiter, String value) {
+        var tokenizer = new Tokenizer(value, delimiter);
+        var array = new char[tokenizer.count()];
+
+        for (var i = 0; tokenizer.next(); i++) {
+            requireEntry(tokenizer, char.class);
+
+            if (tokenizer.end() - tokenizer.start() != 1) {
+                throw new IllegalArgumentException(
+                    "Cannot convert '" + tokenizer.entry() + "' to char. Expected single character."
+                );
+            }
+
+            array[i] = value.charAt(tokenizer.start());
+        }
+
+        return array;
+    }
+
+    private static Object[] toBoxedArray(
+        Class<?> componentType,
+        Function<String, Object> elementConversion,
+        char delimiter,
+        String value
+    ) {
+        var tokenizer = new Tokenizer(value, delimiter);
+        var array = (Object[]) Array.newInstance(componentType, tokenizer.count());
+
+        for (var i = 0; tokenizer.next(); i++) {
+            array[i] = elementConversion.apply(tokenizer.entry());
+        }
+
+        return array;
     }
 
     /**
-     * Returns the specified value as a primitive array of the specified type.
+     * Parses the current entry of the specified tokenizer as an integral number within the specified range.
      *
-     * @param type  The type of the array
-     * @param value The value to be converted
+     * @param tokenizer The tokenizer positioned at the entry
+     * @param type      The target type of the entry
+     * @param min       The minimum value of the target type
+     * @param max       The maximum value of the target type
      *
-     * @return A primitive array of the specified type.
+     * @return The parsed number.
      */
-    static Object toPrimitiveArray(Class<?> type, String value) {
-        return PRIMITIVE_ARRAY_CONVERTERS.get(type).apply(value);
+    private static long parseIntegral(Tokenizer tokenizer, Class<?> type, long min, long max) {
+        requireEntry(tokenizer, type);
+
+        return PrimitiveTypeUtil.parseIntegral(tokenizer.value(), tokenizer.start(), tokenizer.end(), min, max);
     }
 
     /**
-     * Converts the specified value into an array of elements of the specified component type.
+     * Returns the current entry of the specified tokenizer, ensuring it's not empty.
      *
-     * @param value         The value to be converted into an array
-     * @param componentType The type of the elements in the array
+     * @param tokenizer The tokenizer positioned at the entry
+     * @param type      The target type of the entry
      *
-     * @return The value converted into a primitive array of the component type.
+     * @return The current entry.
      */
-    private static Object convertToPrimitiveArray(Class<?> componentType, String value) {
-        String[] entries = value.isBlank() ? new String[0] : ARRAY_SPLIT_REGEX.split(value);
-        Object array = Array.newInstance(componentType, entries.length);
+    private static String getEntry(Tokenizer tokenizer, Class<?> type) {
+        requireEntry(tokenizer, type);
 
-        for (int i = 0; i < entries.length; i++) {
-            Array.set(array, i, PrimitiveTypeUtil.toPrimitive(componentType, entries[i]));
-        }
+        return tokenizer.entry();
+    }
 
-        return array;
+    /**
+     * Ensures the current entry of the specified tokenizer is not empty.
+     *
+     * @param tokenizer The tokenizer positioned at the entry
+     * @param type      The target type of the entry
+     *
+     * @throws IllegalArgumentException If the current entry is empty.
+     */
+    private static void requireEntry(Tokenizer tokenizer, Class<?> type) {
+        if (tokenizer.isEmpty()) {
+            throw new IllegalArgumentException(
+                "Cannot convert an empty string to a primitive of type " + type.getSimpleName()
+            );
+        }
     }
 
     /**
@@ -137,6 +279,31 @@ final class AggregateTypeUtil {
      * @throws UnsupportedTypeConversionException If conversions to the specified collection type are not supported.
      */
     static Collection<Object> toCollection(Converter converter, Class<?> type, Type valueType, String value) {
+        return toCollection(
+            type, valueType, entry -> converter.convert(valueType, entry), Converter.DEFAULT_ENTRY_DELIMITER, value
+        );
+    }
+
+    /**
+     * Returns the specified value converted to a collection of the specified type.
+     *
+     * @param type              The type of the collection
+     * @param valueType         The type of the collection entries
+     * @param elementConversion The conversion of the collection entries
+     * @param delimiter         The character separating the collection entries
+     * @param value             The value to be converted into collection
+     *
+     * @return A collection of the specified type containing the elements of the value.
+     *
+     * @throws UnsupportedTypeConversionException If conversions to the specified collection type are not supported.
+     */
+    static Collection<Object> toCollection(
+        Class<?> type,
+        Type valueType,
+        Function<String, Object> elementConversion,
+        char delimiter,
+        String value
+    ) {
         if (type != List.class && type != Set.class) {
             throw new UnsupportedTypeConversionException(
                 "Cannot convert value '" + value + "' to type " + type.getSimpleName() +
@@ -145,13 +312,14 @@ final class AggregateTypeUtil {
             );
         }
 
-        String[] entries = value.isBlank() ? new String[0] : ARRAY_SPLIT_REGEX.split(value);
+        var tokenizer = new Tokenizer(value, delimiter);
+        var size = tokenizer.count();
         Collection<Object> collection = type == List.class
-            ? new ArrayList<>(entries.length)
-            : new LinkedHashSet<>(entries.length);
+            ? new ArrayList<>(size)
+            : new LinkedHashSet<>(getHashCapacity(size));
 
-        for (var entry : entries) {
-            collection.add(converter.convert(valueType, entry));
+        while (tokenizer.next()) {
+            collection.add(elementConversion.apply(tokenizer.entry()));
         }
 
         return collection;
@@ -169,40 +337,65 @@ final class AggregateTypeUtil {
     /**
      * Returns the specified value converted to a key-value map.
      *
-     * @param converter The converter to convert the map's keys and values
-     * @param keyType   The type of the map's keys
-     * @param valueType The type of the map's values
-     * @param value     The value to be converted into map
+     * @param keyConversion     The conversion of the map's keys
+     * @param valueConversion   The conversion of the map's values
+     * @param entryDelimiter    The character separating the map entries
+     * @param keyValueDelimiter The character separating the key from the value of each entry
+     * @param value             The value to be converted into map
      *
-     * @return A map of the specified type containing the elements of the value.
+     * @return A map containing the elements of the value.
      *
      * @throws IllegalArgumentException If the value contains malformed tokens.
      */
-    static Map<Object, Object> toMap(Converter converter, Type keyType, Type valueType, String value) {
-        var entries = value.isBlank() ? new String[0] : ARRAY_SPLIT_REGEX.split(value);
-        var map = new LinkedHashMap<>();
+    static Map<Object, Object> toMap(
+        Function<String, Object> keyConversion,
+        Function<String, Object> valueConversion,
+        char entryDelimiter,
+        char keyValueDelimiter,
+        String value
+    ) {
+        var entries = new Tokenizer(value, entryDelimiter);
+        var pair = new Tokenizer(value, keyValueDelimiter);
+        var map = new LinkedHashMap<>(getHashCapacity(entries.count()));
 
-        for (var entry : entries) {
-            if (entry.isBlank()) {
+        while (entries.next()) {
+            if (entries.isEmpty()) {
                 continue;
             }
 
-            var pair = KEY_VALUE_SPLIT_REGEX.split(entry);
+            pair.reset(entries.start(), entries.end());
 
-            if (pair.length != 2) {
-                throw new IllegalArgumentException("Maps support only key:value pairs, " + entry + " given");
+            if (pair.count() != 2) {
+                throw new IllegalArgumentException(
+                    "Maps support only key" + keyValueDelimiter + "value pairs, " + entries.entry() + " given"
+                );
             }
 
             try {
-                var entryKey = converter.convert(keyType, pair[0]);
-                var entryValue = converter.convert(valueType, pair[1]);
+                pair.next();
+                var entryKey = keyConversion.apply(pair.entry());
+
+                pair.next();
+                var entryValue = valueConversion.apply(pair.entry());
 
                 map.put(entryKey, entryValue);
             } catch (Exception e) {
-                throw new IllegalArgumentException("Failed to convert map entry '" + entry + "'", e);
+                throw new IllegalArgumentException("Failed to convert map entry '" + entries.entry() + "'", e);
             }
         }
 
         return map;
     }
+
+    /**
+     * Returns the initial capacity of a hash-based collection expected to hold the specified number of entries
+     * without rehashing.
+     *
+     * @param size The expected number of entries
+     *
+     * @return The initial capacity.
+     */
+    private static int getHashCapacity(int size) {
+        return (int) Math.ceil(size / 0.75);
+    }
 }
@@ -18,14 +18,19 @@ package com.jvanev.jxconfig.converter.internal;
 import com.jvanev.jxconfig.converter.ValueConverter;
 import com.jvanev.jxconfig.exception.UnsupportedTypeConversionException;
 import com.jvanev.jxconfig.exception.ValueConversionException;
+import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
  * Provides a flexible mechanism for converting {@link String} values to common Java types.
@@ -77,34 +82,23 @@ import java.util.concurrent.ConcurrentHashMap;
  * conversion provided by this class will be skipped, and your custom converter will be invoked instead.
  */
 public final class Converter {
-    private final Map<Class<?>, ValueConverter> converters;
+    /**
+     * The default character separating the entries of aggregate values (e.g., 1, 2, 3).
+     */
+    public static final char DEFAULT_ENTRY_DELIMITER = ',';
 
     /**
-     * A cache of references to static valueOf methods mapped to their declaring type.
-     * It might contain a key with {@code null} value, which implies that the type was
-     * already checked and no static valueOf method was found.
+     * The default character separating the keys from the values of map entries (e.g., Key:Value).
      */
-    private final Map<Class<?>, ValueOfMethod> valueOfMethods = new ConcurrentHashMap<>();
+    public static final char DEFAULT_KEY_VALUE_DELIMITER = ':';
+
+    private final Map<Class<?>, ValueConverter> converters;
 
     /**
-     * Implementations of this interface represent a static valueOf method
-     * accepting a string value and returning an instance of a specific type.
+     * A cache of compiled conversions mapped to their target type. A conversion is compiled once per type,
+     * along with the conversions of its elements, keys and values (if any), and contains no further dispatch.
      */
-    @FunctionalInterface
-    private interface ValueOfMethod {
-        /**
-         * Returns the value produced by the actual implementation.
-         *
-         * @param instance The instance this method will be invoked on;
-         *                 since we're looking for static methods, this value is always {@code null}
-         * @param value    The value to be passed to the actual implementation
-         *
-         * @return The return value depends on the specific implementation of this method.
-         *
-         * @throws ReflectiveOperationException If an error occurs during the reflective call.
-         */
-        Object valueOf(Object instance, String value) throws ReflectiveOperationException;
-    }
+    private final Map<Type, Function<String, Object>> conversions = new ConcurrentHashMap<>();
 
     /**
      * Creates a new Converter.
@@ -112,7 +106,20 @@ public final class Converter {
      * @param converters The custom value converters
      */
     public Converter(Map<Class<?>, ValueConverter> converters) {
-        this.converters = converters;
+        // Compiled conversions capture the custom converters, so later changes to the map must not affect them
+        this.converters = Collections.unmodifiableMap(new LinkedHashMap<>(converters));
+    }
+
+    /**
+     * Determines whether a custom converter has been registered for exactly the specified type.
+     *
+     * @param type The type to be checked
+     *
+     * @return {@code true} if a custom converter overrides the conversions to the specified type,
+     * {@code false} otherwise.
+     */
+    public boolean hasCustomConverter(Class<?> type) {
+        return converters.containsKey(type);
     }
 
     /**
@@ -140,85 +147,186 @@ public final class Converter {
      *                                            by default or by any registered custom converters.
      */
     public Object convert(Type type, String value) {
+        return getConversion(type).apply(value);
+    }
+
+    /**
+     * Returns the conversion of string values into instances of the specified type.
+     * <p>
+     * The conversion follows the same precedence as {@link #convert(Type, String)}, but the dispatch is performed
+     * only once per type. Conversions to unsupported types can still be obtained; they throw when applied.
+     *
+     * @param type The target type of the conversion
+     *
+     * @return The conversion to the specified type.
+     */
+    public Function<String, Object> getConversion(Type type) {
+        var conversion = conversions.get(type);
+
+        if (conversion == null) {
+            // Compiled outside computeIfAbsent, since compiling a type compiles its type arguments as well
+            conversion = compile(
+                type, DEFAULT_ENTRY_DELIMITER, DEFAULT_KEY_VALUE_DELIMITER
+            );
+
+            var existingConversion = conversions.putIfAbsent(type, conversion);
+
+            if (existingConversion != null) {
+                conversion = existingConversion;
+            }
+        }
+
+        return conversion;
+    }
+
+    /**
+     * Returns the conversion of string values into instances of the specified type, splitting aggregate values
+     * using the specified delimiters.
+     * <p>
+     * The delimiters apply only to the outermost aggregate type; nested aggregate types (e.g., the values of
+     * a {@code Map<String, List<Integer>>}) use the default delimiters. Conversions with non-default delimiters
+     * are not cached, as they're expected to be compiled once per parameter.
+     *
+     * @param type              The target type of the conversion
+     * @param entryDelimiter    The character separating the entries of aggregate values
+     * @param keyValueDelimiter The character separating the keys from the values of map entries
+     *
+     * @return The conversion to the specified type.
+     */
+    public Function<String, Object> getConversion(Type type, char entryDelimiter, char keyValueDelimiter) {
+        if (entryDelimiter == DEFAULT_ENTRY_DELIMITER &&
+            keyValueDelimiter == DEFAULT_KEY_VALUE_DELIMITER) {
+            return getConversion(type);
+        }
+
+        return compile(type, entryDelimiter, keyValueDelimiter);
+    }
+
+    /**
+     * Compiles the conversion of string values into instances of the specified type.
+     *
+     * @param type              The target type of the conversion
+     * @param entryDelimiter    The character separating the entries of aggregate values
+     * @param keyValueDelimiter The character separating the keys from the values of map entries
+     *
+     * @return The compiled conversion.
+     */
+    private Function<String, Object> compile(Type type, char entryDelimiter, char keyValueDelimiter) {
+        if (!(type instanceof Class<?>) && !(type instanceof ParameterizedType)) {
+            // Always throws UnsupportedTypeConversionException
+            return value -> TypeUtil.getClass(type);
+        }
+
         var rawType = TypeUtil.getClass(type);
+        var typeArguments = TypeUtil.getTypeArguments(type);
 
         if (converters.containsKey(rawType)) {
-            return converters.get(rawType).convert(this, type, TypeUtil.getTypeArguments(type), value);
+            var converter = converters.get(rawType);
+
+            return value -> converter.convert(this, type, typeArguments.clone(), value);
         }
 
         if (ReferenceTypeUtil.isString(rawType)) {
-            return value;
+            return value -> value;
         }
 
         if (rawType.isEnum()) {
-            return ReferenceTypeUtil.toEnum(rawType, value);
+            return value -> ReferenceTypeUtil.toEnum(rawType, value);
         }
 
-        if (AggregateTypeUtil.isCollection(rawType)) {
-            return AggregateTypeUtil.toCollection(this, rawType, TypeUtil.getTypeArguments(type)[0], value);
+        if (AggregateTypeUtil.isCollection(rawType) && typeArguments.length == 1) {
+            var elementConversion = getConversion(typeArguments[0]);
+
+            return value -> AggregateTypeUtil.toCollection(
+                rawType, typeArguments[0], elementConversion, entryDelimiter, value
+            );
         }
 
-        if (AggregateTypeUtil.isMap(rawType)) {
-            var typeArguments = TypeUtil.getTypeArguments(type);
+        if (AggregateTypeUtil.isMap(rawType) && typeArguments.length == 2) {
+            var keyConversion = getConversion(typeArguments[0]);
+            var valueConversion = getConversion(typeArguments[1]);
 
-            return AggregateTypeUtil.toMap(this, typeArguments[0], typeArguments[1], value);
+            return value -> AggregateTypeUtil.toMap(
+                keyConversion, valueConversion, entryDelimiter, keyValueDelimiter, value
+            );
         }
 
         if (AggregateTypeUtil.isPrimitiveArray(rawType)) {
-            return AggregateTypeUtil.toPrimitiveArray(rawType, value);
+            return AggregateTypeUtil.getPrimitiveArrayConversion(rawType, entryDelimiter);
         }
 
         if (rawType.isPrimitive() || PrimitiveTypeUtil.isBoxedPrimitive(rawType)) {
-            return PrimitiveTypeUtil.toPrimitive(rawType, value);
+            return PrimitiveTypeUtil.getConversion(rawType);
         }
 
-        Object result = null;
+        var valueOfMethod = getValueOfMethod(rawType);
+        var fallbackConverter = getAssignableConverter(rawType);
 
-        try {
-            var valueOfMethod = valueOfMethods.computeIfAbsent(
-                rawType, key -> {
-                    try {
-                        var method = key.getMethod("valueOf", String.class);
-
-                        if (Modifier.isStatic(method.getModifiers()) && key.isAssignableFrom(method.getReturnType())) {
-                            return method::invoke;
-                        }
-                    } catch (NoSuchMethodException e) {
-                        // Continue to the custom converters
-                    }
-
-                    return null;
-                }
-            );
+        return value -> {
+            Object result = null;
 
             if (valueOfMethod != null) {
-                result = valueOfMethod.valueOf(null, value);
+                try {
+                    result = valueOfMethod.invoke(null, value);
+                } catch (Exception e) {
+                    throw new ValueConversionException(
+                        "An error occurred while converting '" + value + "' to " + rawType.getSimpleName() +
+                            " using valueOf method.",
+                        e
+                    );
+                }
             }
-        } catch (Exception e) {
-            throw new ValueConversionException(
-                "An error occurred while converting '" + value + "' to " + rawType.getSimpleName() +
-                    " using valueOf method.",
-                e
-            );
-        }
 
-        if (result == null) {
-            for (var set : converters.entrySet()) {
-                if (set.getKey().isAssignableFrom(rawType)) {
-                    result = set.getValue().convert(this, type, TypeUtil.getTypeArguments(type), value);
+            if (result == null && fallbackConverter != null) {
+                result = fallbackConverter.convert(this, type, typeArguments.clone(), value);
+            }
 
-                    break;
-                }
+            if (result == null) {
+                throw new UnsupportedTypeConversionException(
+                    "Cannot convert " + value + " to type " + rawType + ". " +
+                        "Consider registering a custom converter via ConfigFactory.Builder.withConverter"
+                );
             }
+
+            return result;
+        };
+    }
+
+    /**
+     * Returns the public static {@code valueOf(String)} method of the specified type.
+     *
+     * @param type The type declaring the method
+     *
+     * @return The method, or {@code null} if the type doesn't declare a suitable method.
+     */
+    private static Method getValueOfMethod(Class<?> type) {
+        try {
+            var method = type.getMethod("valueOf", String.class);
+
+            if (Modifier.isStatic(method.getModifiers()) && type.isAssignableFrom(method.getReturnType())) {
+                return method;
+            }
+        } catch (NoSuchMethodException e) {
+            // Continue to the custom converters
         }
 
-        if (result == null) {
-            throw new UnsupportedTypeConversionException(
-                "Cannot convert " + value + " to type " + rawType + ". " +
-                    "Consider registering a custom converter via ConfigFactory.Builder.withConverter"
-            );
+        return null;
+    }
+
+    /**
+     * Returns the first custom converter, in registration order, whose type is assignable from the specified type.
+     *
+     * @param type The target type of the conversion
+     *
+     * @return The custom converter, or {@code null} if no such converter has been registered.
+     */
+    private ValueConverter getAssignableConverter(Class<?> type) {
+        for (var set : converters.entrySet()) {
+            if (set.getKey().isAssignableFrom(type)) {
+                return set.getValue();
+            }
         }
 
-        return result;
+        return null;
     }
 }
@@ -76,6 +76,106 @@ final class PrimitiveTypeUtil {
         return BOXED_TYPES.contains(type);
     }
 
+    /**
+     * Returns the conversion of string values into the specified primitive (or boxed primitive) type.
+     *
+     * @param type The target type of the conversion
+     *
+     * @return The conversion to the specified type.
+     *
+     * @throws IllegalArgumentException if the specified type is not a primitive or a boxed primitive.
+     */
+    static Function<String, Object> getConversion(Class<?> type) {
+        var converter = CONVERTERS.get(type);
+
+        if (converter == null) {
+            throw new IllegalArgumentException("Type " + type.getSimpleName() + " is not a primitive type");
+        }
+
+        var typeName = type.getSimpleName();
+
+        return value -> {
+            if (value.isEmpty()) {
+                throw new IllegalArgumentException(
+                    "Cannot convert an empty string to a primitive of type " + typeName
+                );
+            }
+
+            return converter.apply(value);
+        };
+    }
+
+    /**
+     * Parses the specified range of the value as an integral number, following the format accepted by
+     * {@link Long#decode(String)} (i.e., an optional sign, followed by a decimal, hexadecimal or octal number).
+     * <p>
+     * The number is parsed directly from the characters of the value, so no intermediate strings are created
+     * unless the range cannot be parsed.
+     *
+     * @param value The value containing the number
+     * @param start The start of the number (inclusive)
+     * @param end   The end of the number (exclusive)
+     * @param min   The minimum value of the target type
+     * @param max   The maximum value of the target type
+     *
+     * @return The parsed number.
+     *
+     * @throws NumberFormatException If the range does not contain a number, or the number is out of range.
+     */
+    static long parseIntegral(String value, int start, int end, long min, long max) {
+        var index = start;
+        var negative = false;
+
+        if (index < end && (value.charAt(index) == '-' || value.charAt(index) == '+')) {
+            negative = value.charAt(index) == '-';
+            index++;
+        }
+
+        var radix = 10;
+
+        if (value.startsWith("0x", index) || value.startsWith("0X", index)) {
+            radix = 16;
+            index += 2;
+        } else if (value.startsWith("#", index)) {
+            radix = 16;
+            index++;
+        } else if (value.startsWith("0", index) && index + 1 < end) {
+            radix = 8;
+            index++;
+        }
+
+        if (index >= end) {
+            throw invalidNumber(value, start, end);
+        }
+
+        // Accumulate negatively, as the negative range is larger than the positive
+        var limit = negative ? min : -max;
+        var multiplicationLimit = limit / radix;
+        var result = 0L;
+
+        while (index < end) {
+            var digit = Character.digit(value.charAt(index++), radix);
+
+            if (digit < 0 || result < multiplicationLimit) {
+                throw invalidNumber(value, start, end);
+            }
+
+            result *= radix;
+
+            if (result < limit + digit) {
+                throw invalidNumber(value, start, end);
+            }
+
+            result -= digit;
+        }
+
+        return negative ? result : -result;
+    }
+
+    private static NumberFormatException invalidNumber(String value, int start, int end) {
+        return new NumberFormatException("For input string: \"" + value.substring(start, end) + "\"");
+    }
+
     /**
      * Returns the specified value converted into the specified primitive type.
      *
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2025 Georgi Vanev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jvanev.jxconfig.converter.internal;
+
+/**
+ * A single-pass tokenizer splitting a string into entries separated by a delimiter character.
+ * <p>
+ * Whitespace around each entry is skipped while scanning, so entries are exposed as index ranges
+ * and no intermediate strings or arrays are created. Like {@link String#split(String)}, the tokenizer
+ * ignores trailing empty entries (e.g., {@code "1, 2, "} contains two entries), and blank values contain
+ * no entries at all.
+ * <p>
+ * A tokenizer can be reset to a different range and reused, e.g., to split the entries of a map
+ * into keys and values.
+ */
+final class Tokenizer {
+    private final String value;
+
+    private final char delimiter;
+
+    /**
+     * The end (exclusive) of the range being tokenized, excluding any trailing empty entries.
+     */
+    private int limit;
+
+    /**
+     * The start of the next entry, or a value greater than {@link #limit} if all entries have been consumed.
+     */
+    private int position;
+
+    private int entryStart;
+
+    private int entryEnd;
+
+    /**
+     * Creates a new Tokenizer for the whole specified value.
+     *
+     * @param value     The value to be tokenized
+     * @param delimiter The character separating the entries
+     */
+    Tokenizer(String value, char delimiter) {
+        this.value = value;
+        this.delimiter = delimiter;
+
+        reset(0, value.length());
+    }
+
+    /**
+     * Returns the value being tokenized.
+     *
+     * @return The tokenized value.
+     */
+    String value() {
+        return value;
+    }
+
+    /**
+     * Restricts this tokenizer to the specified range of its value and rewinds it to the first entry.
+     *
+     * @param start The start of the range (inclusive)
+     * @param end   The end of the range (exclusive)
+     */
+    void reset(int start, int end) {
+        // Skip trailing whitespace and delimiters, i.e., trailing empty entries
+        while (end > start && (isWhitespace(value.charAt(end - 1)) || value.charAt(end - 1) == delimiter)) {
+            end--;
+        }
+
+        limit = end;
+        position = end > start ? start : end + 1;
+    }
+
+    /**
+     * Determines whether the specified character is skipped around entries.
+     * Matches the characters of the {@code \s} regular expression class.
+     *
+     * @param c The character to be checked
+     *
+     * @return {@code true} if the character is whitespace, {@code false} otherwise.
+     */
+    static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns the number of entries in the current range, without consuming any of them.
+     *
+     * @return The number of entries.
+     */
+    int count() {
+        if (position > limit) {
+            return 0;
+        }
+
+        var count = 1;
+
+        for (var i = position; i < limit; i++) {
+            if (value.charAt(i) == delimiter) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Advances to the next entry.
+     *
+     * @return {@code true} if the tokenizer advanced to the next entry, {@code false} if there are no more entries.
+     */
+    boolean next() {
+        if (position > limit) {
+            return false;
+        }
+
+        var start = position;
+
+        while (start < limit && isWhitespace(value.charAt(start))) {
+            start++;
+        }
+
+        var end = start;
+
+        while (end < limit && value.charAt(end) != delimiter) {
+            end++;
+        }
+
+        position = end + 1;
+
+        while (end > start && isWhitespace(value.charAt(end - 1))) {
+            end--;
+        }
+
+        entryStart = start;
+        entryEnd = end;
+
+        return true;
+    }
+
+    /**
+     * Returns the start (inclusive) of the current entry within the tokenized value.
+     *
+     * @return The start of the current entry.
+     */
+    int start() {
+        return entryStart;
+    }
+
+    /**
+     * Returns the end (exclusive) of the current entry within the tokenized value.
+     *
+     * @return The end of the current entry.
+     */
+    int end() {
+        return entryEnd;
+    }
+
+    /**
+     * Determines whether the current entry is empty.
+     *
+     * @return {@code true} if the current entry contains no characters, {@code false} otherwise.
+     */
+    boolean isEmpty() {
+        return entryStart == entryEnd;
+    }
+
+    /**
+     * Returns the current entry.
+     *
+     * @return The current entry as a string.
+     */
+    String entry() {
+        return value.substring(entryStart, entryEnd);
+    }
+}
@@ -27,4 +27,14 @@ public class InvalidDeclarationException extends RuntimeException {
     public InvalidDeclarationException(String message) {
         super(message);
     }
+
+    /**
+     * Creates a new InvalidDeclarationException.
+     *
+     * @param message A detailed explanation of the error
+     * @param cause   The exception that caused this exception
+     */
+    public InvalidDeclarationException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
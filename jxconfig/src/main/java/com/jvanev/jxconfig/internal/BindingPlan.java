@@ -0,0 +1,274 @@
+/*
+ * Copyright 2025 Georgi Vanev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jvanev.jxconfig.internal;
+
+import com.jvanev.jxconfig.Lazy;
+import com.jvanev.jxconfig.annotation.ConfigNamespace;
+import com.jvanev.jxconfig.converter.internal.Converter;
+import com.jvanev.jxconfig.exception.InvalidDeclarationException;
+import com.jvanev.jxconfig.exception.ModifierInstantiationException;
+import com.jvanev.jxconfig.modifier.ValueModifier;
+import com.jvanev.jxconfig.resolver.internal.ResolutionPlan;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A compiled, namespace-bound representation of a configuration type.
+ * <p>
+ * A plan contains everything needed to build an instance of its type from a configuration source:
+ * the instantiator, the resolution plan of its properties, the modifier chains of its properties,
+ * and the plans of its namespaces. Plans are immutable and are meant to be built once per type and reused.
+ *
+ * @param type           The type this plan builds
+ * @param instantiator   The instantiator creating instances of the type
+ * @param namespace      The fully qualified namespace this plan is bound to
+ * @param resolutionPlan The resolution plan for the properties of the type
+ * @param bindings       The bindings of the constructor parameters, in declaration order
+ * @param namespaceCount The total number of namespaces in the tree of this plan, excluding the plan itself
+ * @param keys           The keys of the configuration file read by the tree of this plan: the fully qualified keys
+ *                       of its properties (including the keys referenced by dependencies) and the keys of their
+ *                       property default values
+ */
+public record BindingPlan(
+    Class<?> type,
+    Instantiator instantiator,
+    String namespace,
+    ResolutionPlan resolutionPlan,
+    List<Binding> bindings,
+    int namespaceCount,
+    Set<String> keys
+) {
+    /**
+     * A binding of a single constructor parameter.
+     */
+    public sealed interface Binding permits PropertyBinding, NamespaceBinding {
+        /**
+         * Returns the descriptor of the bound parameter.
+         *
+         * @return The parameter descriptor.
+         */
+        ParameterDescriptor parameter();
+    }
+
+    /**
+     * A binding of a parameter mapped to a key in the configuration file.
+     *
+     * @param parameter  The descriptor of the bound parameter
+     * @param modifiers  The modifiers to be applied to the converted value, in order of application
+     * @param conversion The conversion of the parameter's values, either inlined by a generated binder
+     *                   or compiled by the factory's value converter
+     * @param deferred   Whether the parameter is declared as {@link Lazy} or {@link Supplier}, in which case
+     *                   the conversion and modifiers produce the value type, and are deferred until it's accessed
+     */
+    public record PropertyBinding(
+        ParameterDescriptor parameter,
+        List<ValueModifier> modifiers,
+        Function<String, Object> conversion,
+        boolean deferred
+    ) implements Binding {
+    }
+
+    /**
+     * A binding of a parameter annotated with {@link ConfigNamespace}.
+     *
+     * @param parameter The descriptor of the bound parameter
+     * @param plan      The plan of the namespace type, bound to the namespace of the parameter
+     */
+    public record NamespaceBinding(ParameterDescriptor parameter, BindingPlan plan) implements Binding {
+    }
+
+    /**
+     * Provides the shared instances of value modifiers.
+     */
+    @FunctionalInterface
+    public interface ModifierProvider {
+        /**
+         * Returns the instance of the specified modifier type.
+         *
+         * @param modifier The type of the modifier
+         *
+         * @return The modifier instance.
+         *
+         * @throws ReflectiveOperationException If the modifier cannot be instantiated.
+         */
+        ValueModifier get(Class<? extends ValueModifier> modifier) throws ReflectiveOperationException;
+    }
+
+    /**
+     * Compiles the plan of the specified type in the default namespace.
+     *
+     * @param type      The type to be compiled
+     * @param modifiers The provider of value modifier instances
+     * @param converter The value converter of the factory the plan is compiled for
+     *
+     * @return The compiled plan of the specified type.
+     *
+     * @throws InvalidDeclarationException    If the type, or any of its namespace types, is not correctly set up.
+     * @throws ModifierInstantiationException If a modifier applied to a parameter cannot be instantiated.
+     */
+    public static BindingPlan compile(Class<?> type, ModifierProvider modifiers, Converter converter) {
+        return compile(type, "", modifiers, converter);
+    }
+
+    /**
+     * Compiles the plan of the specified type bound to the specified namespace.
+     *
+     * @param type      The type to be compiled
+     * @param namespace The fully qualified namespace of the type
+     * @param modifiers The provider of value modifier instances
+     * @param converter The value converter of the factory the plan is compiled for
+     *
+     * @return The compiled plan of the specified type.
+     */
+    private static BindingPlan compile(
+        Class<?> type,
+        String namespace,
+        ModifierProvider modifiers,
+        Converter converter
+    ) {
+        var descriptor = TypeDescriptor.of(type);
+        var parameters = descriptor.parameters();
+        var bindings = new Binding[parameters.size()];
+        var processedParameters = new HashMap<String, String>();
+        var namespaceCount = 0;
+        var keys = new HashSet<String>();
+
+        for (var i = 0; i < bindings.length; i++) {
+            var parameter = parameters.get(i);
+
+            if (parameter.isNamespace()) {
+                // The new namespace (if defined) is always one level deeper than the previous
+                var childNamespace = parameter.namespace().isBlank() ? namespace : namespace.isBlank()
+                    ? parameter.namespace()
+                    : namespace + "." + parameter.namespace();
+                var childType = ReflectionUtil.getRawType(parameter.type());
+
+                var childPlan = compile(childType, childNamespace, modifiers, converter);
+
+                bindings[i] = new NamespaceBinding(parameter, childPlan);
+                namespaceCount += 1 + childPlan.namespaceCount();
+                keys.addAll(childPlan.keys());
+            } else {
+                if (processedParameters.putIfAbsent(parameter.key(), parameter.name()) != null) {
+                    throw new InvalidDeclarationException(
+                        "Configuration property '%s' declared on parameter %s.%s is also declared on parameter %s.%s"
+                            .formatted(
+                                parameter.key(),
+                                type.getSimpleName(), parameter.name(),
+                                type.getSimpleName(), processedParameters.get(parameter.key())
+                            )
+                    );
+                }
+
+                var modifierChain = new ValueModifier[parameter.modifiers().size()];
+
+                for (var j = 0; j < modifierChain.length; j++) {
+                    var modifier = parameter.modifiers().get(j);
+
+                    try {
+                        modifierChain[j] = modifiers.get(modifier);
+                    } catch (ReflectiveOperationException e) {
+                        throw new ModifierInstantiationException(
+                            "Failed to instantiate modifier %s applied to parameter %s.%s (%s)"
+                                .formatted(
+                                    modifier.getSimpleName(),
+                                    type.getSimpleName(),
+                                    parameter.name(),
+                                    parameter.key()
+                                ),
+                            e
+                        );
+                    }
+                }
+
+                var entryDelimiter = parameter.entryDelimiter();
+                var keyValueDelimiter = parameter.keyValueDelimiter();
+
+                if (entryDelimiter == keyValueDelimiter ||
+                    Character.isWhitespace(entryDelimiter) || Character.isWhitespace(keyValueDelimiter)) {
+                    throw new InvalidDeclarationException(
+                        "Delimiters declared on parameter %s.%s (%s) must be distinct non-whitespace characters"
+                            .formatted(type.getSimpleName(), parameter.name(), parameter.key())
+                    );
+                }
+
+                var deferredType = getDeferredType(type, parameter);
+                // Custom converters registered for the exact type take precedence over the inlined conversion
+                var conversion = deferredType == null && parameter.conversion() != null &&
+                    !converter.hasCustomConverter(ReflectionUtil.getRawType(parameter.type()))
+                    ? parameter.conversion()
+                    : converter.getConversion(
+                        deferredType != null ? deferredType : parameter.type(), entryDelimiter, keyValueDelimiter
+                    );
+
+                bindings[i] = new PropertyBinding(
+                    parameter, List.of(modifierChain), conversion, deferredType != null
+                );
+            }
+        }
+
+        var resolutionPlan = new ResolutionPlan(type, namespace, parameters);
+
+        resolutionPlan.collectKeys(keys);
+
+        return new BindingPlan(
+            type,
+            descriptor.instantiator(),
+            namespace,
+            resolutionPlan,
+            List.of(bindings),
+            namespaceCount,
+            Set.copyOf(keys)
+        );
+    }
+
+    /**
+     * Returns the value type of the specified parameter if it's declared as {@link Lazy} or {@link Supplier}.
+     *
+     * @param type      The type declaring the parameter
+     * @param parameter The descriptor of the parameter
+     *
+     * @return The value type of the parameter, or {@code null} if its conversion is not deferred.
+     *
+     * @throws InvalidDeclarationException If the value type of the parameter is not declared.
+     */
+    private static Type getDeferredType(Class<?> type, ParameterDescriptor parameter) {
+        var rawType = ReflectionUtil.getRawType(parameter.type());
+
+        if (rawType != Lazy.class && rawType != Supplier.class) {
+            return null;
+        }
+
+        if (!(parameter.type() instanceof ParameterizedType parameterizedType)) {
+            throw new InvalidDeclarationException(
+                "Parameter %s.%s (%s) must declare the type of its deferred value"
+                    .formatted(type.getSimpleName(), parameter.name(), parameter.key())
+            );
+        }
+
+        var valueType = parameterizedType.getActualTypeArguments()[0];
+
+        // Supplier<? extends T> is converted as Supplier<T>
+        return valueType instanceof WildcardType wildcardType ? wildcardType.getUpperBounds()[0] : valueType;
+    }
+}
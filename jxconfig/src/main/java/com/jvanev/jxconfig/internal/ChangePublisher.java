@@ -0,0 +1,299 @@
+/*
+ * Copyright 2025 Georgi Vanev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jvanev.jxconfig.internal;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BinaryOperator;
+
+/**
+ * A {@link Flow.Publisher} of change events, which coalesces events instead of buffering them.
+ * <p>
+ * Events published within the coalescing window of the first one are merged into a single event, which is
+ * offered to every subscriber once the window elapses. Each subscriber holds at most one undelivered event:
+ * events offered to a subscriber without outstanding demand are merged into its undelivered event, so slow
+ * subscribers neither block the publishing thread nor accumulate a backlog. Events are delivered asynchronously
+ * on the publisher's executor, and sequentially for each subscriber.
+ *
+ * @param <E> The type of the events
+ */
+public final class ChangePublisher<E> implements Flow.Publisher<E> {
+    private final Executor executor;
+
+    private final long windowNanos;
+
+    private final BinaryOperator<E> merger;
+
+    private final List<ChangeSubscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    /**
+     * The event accumulated within the current coalescing window, or {@code null} if no window is open.
+     */
+    private E pending;
+
+    private boolean closed;
+
+    /**
+     * Creates a new ChangePublisher.
+     *
+     * @param executor The executor delivering the events
+     * @param window   The coalescing window, in nanoseconds; events are not coalesced across publications if zero
+     * @param merger   Merges an earlier event with a later one into a single event
+     */
+    public ChangePublisher(Executor executor, long window, BinaryOperator<E> merger) {
+        this.executor = executor;
+        this.windowNanos = window;
+        this.merger = merger;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super E> subscriber) {
+        Objects.requireNonNull(subscriber, "The subscriber cannot be null");
+
+        var subscription = new ChangeSubscription(subscriber);
+        boolean isClosed;
+
+        synchronized (this) {
+            isClosed = closed;
+
+            if (!isClosed) {
+                subscriptions.add(subscription);
+            }
+        }
+
+        subscriber.onSubscribe(subscription);
+
+        if (isClosed) {
+            subscription.complete();
+        }
+    }
+
+    /**
+     * Publishes the specified event, either immediately or once the current coalescing window elapses.
+     *
+     * @param event The event to be published
+     */
+    public void publish(E event) {
+        if (windowNanos == 0) {
+            offer(event);
+
+            return;
+        }
+
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+
+            if (pending != null) {
+                pending = merger.apply(pending, event);
+
+                return;
+            }
+
+            pending = event;
+        }
+
+        CompletableFuture.delayedExecutor(windowNanos, TimeUnit.NANOSECONDS, executor).execute(this::flush);
+    }
+
+    /**
+     * Offers the event accumulated within the elapsed coalescing window to the subscribers.
+     */
+    private void flush() {
+        E event;
+
+        synchronized (this) {
+            event = pending;
+            pending = null;
+        }
+
+        if (event != null) {
+            offer(event);
+        }
+    }
+
+    private void offer(E event) {
+        for (var subscription : subscriptions) {
+            subscription.offer(event);
+        }
+    }
+
+    /**
+     * Offers the event accumulated within the current coalescing window (if any) to the subscribers,
+     * and completes them once they've received their undelivered events.
+     */
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+        }
+
+        flush();
+
+        for (var subscription : subscriptions) {
+            subscription.complete();
+        }
+    }
+
+    /**
+     * The subscription of a single subscriber, holding its undelivered event and outstanding demand.
+     */
+    private final class ChangeSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super E> subscriber;
+
+        /**
+         * The number of scheduled and requested drains; a drain is running while it's positive.
+         */
+        private final AtomicInteger drains = new AtomicInteger();
+
+        private E undelivered;
+
+        private long demand;
+
+        private boolean completing;
+
+        private boolean terminated;
+
+        private Throwable error;
+
+        ChangeSubscription(Flow.Subscriber<? super E> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        void offer(E event) {
+            synchronized (this) {
+                if (terminated || completing) {
+                    return;
+                }
+
+                undelivered = undelivered == null ? event : merger.apply(undelivered, event);
+            }
+
+            drain();
+        }
+
+        void complete() {
+            synchronized (this) {
+                completing = true;
+            }
+
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            synchronized (this) {
+                if (n <= 0) {
+                    error = new IllegalArgumentException("The requested number of events must be positive");
+                } else {
+                    // Saturate at Long.MAX_VALUE, which stands for unbounded demand
+                    demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                }
+            }
+
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                terminated = true;
+                undelivered = null;
+            }
+
+            subscriptions.remove(this);
+        }
+
+        private void drain() {
+            if (drains.getAndIncrement() == 0) {
+                executor.execute(this::run);
+            }
+        }
+
+        private void run() {
+            do {
+                while (deliver()) {
+                    // Deliver until no signal is due
+                }
+            } while (drains.decrementAndGet() != 0);
+        }
+
+        /**
+         * Delivers the next due signal: the undelivered event if there's demand for it, or the terminal signal.
+         *
+         * @return {@code true} if an event has been delivered, {@code false} otherwise.
+         */
+        private boolean deliver() {
+            E event = null;
+            Throwable failure = null;
+            var isCompleted = false;
+
+            synchronized (this) {
+                if (terminated) {
+                    return false;
+                }
+
+                if (error != null) {
+                    failure = error;
+                    terminated = true;
+                } else if (undelivered != null && demand > 0) {
+                    event = undelivered;
+                    undelivered = null;
+
+                    if (demand != Long.MAX_VALUE) {
+                        demand--;
+                    }
+                } else if (completing && undelivered == null) {
+                    isCompleted = true;
+                    terminated = true;
+                } else {
+                    return false;
+                }
+            }
+
+            try {
+                if (event != null) {
+                    subscriber.onNext(event);
+
+                    return true;
+                }
+
+                subscriptions.remove(this);
+
+                if (isCompleted) {
+                    subscriber.onComplete();
+                } else {
+                    subscriber.onError(failure);
+                }
+            } catch (RuntimeException e) {
+                // Subscribers must not throw; the subscription of one that does is cancelled
+                cancel();
+            }
+
+            return false;
+        }
+    }
+}
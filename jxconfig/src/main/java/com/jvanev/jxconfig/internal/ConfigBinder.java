@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025 Georgi Vanev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jvanev.jxconfig.internal;
+
+/**
+ * Implemented by the binders generated at compile time by the {@code jxconfig-processor} module.
+ * <p>
+ * A binder describes its configuration type without reflection: it provides the parameter metadata
+ * read from the annotations at compile time, and an instantiator calling the constructor directly.
+ * The binder of a type {@code com.example.Outer.Inner} is named {@code com.example.Outer_Inner_ConfigBinder}
+ * (see {@link #getBinderName(Class)}) and must declare a public no-argument constructor. Underscores in the
+ * simple names of the types are doubled, so the binder of a type {@code com.example.Outer_Inner} is named
+ * {@code com.example.Outer__Inner_ConfigBinder} instead.
+ */
+public interface ConfigBinder {
+    /**
+     * The suffix appended to the flattened name of the bound type to form the name of its binder.
+     */
+    String BINDER_SUFFIX = "_ConfigBinder";
+
+    /**
+     * Returns the descriptor of the bound type.
+     *
+     * @return The type descriptor.
+     */
+    TypeDescriptor describe();
+
+    /**
+     * Returns the fully qualified name of the binder generated for the specified type.
+     *
+     * @param type The bound type
+     *
+     * @return The binary name of the binder class.
+     */
+    static String getBinderName(Class<?> type) {
+        var packageName = type.getPackageName();
+        var flatName = type.getSimpleName().replace("_", "__");
+
+        for (var enclosing = type.getEnclosingClass(); enclosing != null; enclosing = enclosing.getEnclosingClass()) {
+            flatName = enclosing.getSimpleName().replace("_", "__") + "_" + flatName;
+        }
+
+        var binderName = flatName + BINDER_SUFFIX;
+
+        return packageName.isEmpty() ? binderName : packageName + "." + binderName;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025 Georgi Vanev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jvanev.jxconfig.internal;
+
+import com.jvanev.jxconfig.Lazy;
+import java.util.function.Supplier;
+
+/**
+ * A value held by the proxy of an interface configuration type, computed on first access and cached afterward.
+ * <p>
+ * Unlike {@link Lazy} values, which are handed to configuration objects as they are, deferred values are unwrapped
+ * by their proxies, so the values of accessors declared as {@link Lazy} are never mistaken for them.
+ */
+public final class DeferredValue {
+    private final Lazy<?> value;
+
+    /**
+     * Creates a new DeferredValue.
+     *
+     * @param computation The computation of the value
+     */
+    public DeferredValue(Supplier<?> computation) {
+        this.value = Lazy.of(computation);
+    }
+
+    /**
+     * Returns the value, computing it if it hasn't been computed yet.
+     *
+     * @return The value.
+     */
+    public Object get() {
+        return value.get();
+    }
+}
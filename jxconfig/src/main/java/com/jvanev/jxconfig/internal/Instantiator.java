@@ -0,0 +1,130 @@
+/*
+ * Copyright 2025 Georgi Vanev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jvanev.jxconfig.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Creates instances of a specific type from an array of constructor arguments.
+ */
+@FunctionalInterface
+public interface Instantiator {
+    /**
+     * Returns a new instance created with the specified arguments.
+     *
+     * @param arguments The constructor arguments, in declaration order
+     *
+     * @return The new instance.
+     *
+     * @throws ReflectiveOperationException If the instance cannot be created. Exceptions thrown
+     *                                      by the constructor itself are wrapped in
+     *                                      {@link InvocationTargetException}.
+     */
+    Object newInstance(Object[] arguments) throws ReflectiveOperationException;
+
+    /**
+     * Returns an instantiator invoking the specified constructor.
+     * <p>
+     * The constructor is adapted once into a {@link MethodHandle} accepting the arguments as an
+     * {@code Object[]}, bypassing the reflective accessor of {@link Constructor#newInstance(Object...)}.
+     * As with the reflective call, arguments which cannot be passed to the constructor are reported
+     * with {@link IllegalArgumentException}, exceptions thrown by the constructor are wrapped in
+     * {@link InvocationTargetException}, and errors are propagated unchanged.
+     * If the constructor is not accessible to this library, the returned instantiator falls back to the
+     * reflective call, which reports the access failure when an instance is requested.
+     *
+     * @param constructor The constructor to be invoked
+     *
+     * @return An instantiator invoking the specified constructor.
+     */
+    static Instantiator of(Constructor<?> constructor) {
+        MethodHandle handle;
+
+        try {
+            handle = MethodHandles.lookup()
+                .unreflectConstructor(constructor)
+                .asSpreader(Object[].class, constructor.getParameterCount())
+                .asType(MethodType.methodType(Object.class, Object[].class));
+        } catch (IllegalAccessException e) {
+            return constructor::newInstance;
+        }
+
+        var parameterTypes = constructor.getParameterTypes();
+
+        return arguments -> {
+            checkArguments(parameterTypes, arguments);
+
+            try {
+                return handle.invokeExact(arguments);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new InvocationTargetException(
+                    e, "Failed to invoke the constructor of " + constructor.getDeclaringClass().getSimpleName()
+                );
+            }
+        };
+    }
+
+    /**
+     * Verifies that the specified arguments can be passed to a constructor with the specified
+     * parameter types, so that adaptation failures are not mistaken for exceptions thrown by
+     * the constructor itself. Also used by the instantiators of generated binders.
+     *
+     * @param parameterTypes The parameter types of the constructor
+     * @param arguments      The constructor arguments
+     *
+     * @throws IllegalArgumentException If the number of arguments differs from the number of parameters,
+     *                                  or an argument is not assignable to its parameter.
+     */
+    static void checkArguments(Class<?>[] parameterTypes, Object[] arguments) {
+        if (arguments.length != parameterTypes.length) {
+            throw new IllegalArgumentException(
+                "Wrong number of arguments: expected " + parameterTypes.length + ", got " + arguments.length
+            );
+        }
+
+        for (var i = 0; i < arguments.length; i++) {
+            var parameterType = parameterTypes[i];
+            var argument = arguments[i];
+
+            if (argument == null ? parameterType.isPrimitive() : !wrap(parameterType).isInstance(argument)) {
+                throw new IllegalArgumentException(
+                    "Argument type mismatch at index %d: expected %s, got %s".formatted(
+                        i,
+                        parameterType.getName(),
+                        argument == null ? "null" : argument.getClass().getName()
+                    )
+                );
+            }
+        }
+    }
+
+    /**
+     * Returns the wrapper type of the specified primitive type, or the type itself if it is not primitive.
+     *
+     * @param type The type to be wrapped
+     *
+     * @return The wrapper type of the specified type.
+     */
+    private static Class<?> wrap(Class<?> type) {
+        return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2025 Georgi Vanev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jvanev.jxconfig.internal;
+
+import com.jvanev.jxconfig.annotation.DependsOnKey;
+import com.jvanev.jxconfig.annotation.DependsOnProperty;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A reverse index from the keys of a configuration file to the properties of a configuration type they feed.
+ * <p>
+ * A key feeds a property if a change of its value may change the resolved value of the property: the property's
+ * own key, the key of its property default value, the keys read by its dependency chain ({@link DependsOnProperty}
+ * and {@link DependsOnKey}), and the keys read by the dependency chains gating the namespaces it's declared in.
+ * Properties are identified by their fully qualified keys (e.g., {@code Pool.Size}).
+ * <p>
+ * The index is built once per configuration type, so the properties affected by a set of changed keys are found
+ * in time proportional to the number of changed keys and affected properties, regardless of the size of the type.
+ */
+public final class KeyIndex {
+    private final Map<String, Set<String>> affectedProperties;
+
+    private final Set<String> properties;
+
+    private KeyIndex(Map<String, Set<String>> affectedProperties, Set<String> properties) {
+        this.affectedProperties = affectedProperties;
+        this.properties = properties;
+    }
+
+    /**
+     * Builds the index of the specified plan and its namespaces.
+     *
+     * @param plan The plan of the configuration type
+     *
+     * @return The index of the plan.
+     */
+    public static KeyIndex of(BindingPlan plan) {
+        var affectedProperties = new HashMap<String, Set<String>>();
+        var properties = new HashSet<String>();
+
+        index(plan, Set.of(), affectedProperties, properties);
+
+        for (var entry : affectedProperties.entrySet()) {
+            entry.setValue(Set.copyOf(entry.getValue()));
+        }
+
+        return new KeyIndex(Map.copyOf(affectedProperties), Set.copyOf(properties));
+    }
+
+    /**
+     * Combines the indexes of the members of a configuration container into a single index, whose keys and
+     * properties are qualified by the names of the members (e.g., {@code database.Pool.Size}).
+     *
+     * @param members The indexes of the members, mapped to the names of the members
+     *
+     * @return The index of the container.
+     */
+    public static KeyIndex ofContainer(Map<String, KeyIndex> members) {
+        var affectedProperties = new HashMap<String, Set<String>>();
+        var properties = new HashSet<String>();
+
+        for (var member : members.entrySet()) {
+            var prefix = member.getKey() + ".";
+            var index = member.getValue();
+
+            for (var entry : index.affectedProperties.entrySet()) {
+                var qualifiedProperties = new HashSet<String>();
+
+                for (var property : entry.getValue()) {
+                    qualifiedProperties.add(prefix + property);
+                }
+
+                affectedProperties.put(prefix + entry.getKey(), Set.copyOf(qualifiedProperties));
+            }
+
+            for (var property : index.properties) {
+                properties.add(prefix + property);
+            }
+        }
+
+        return new KeyIndex(Map.copyOf(affectedProperties), Set.copyOf(properties));
+    }
+
+    /**
+     * Indexes the properties of the specified plan and its namespaces.
+     *
+     * @param plan               The plan to be indexed
+     * @param gateKeys           The keys read by the dependency chains gating the plan's namespace
+     *                           and the namespaces of its ancestors
+     * @param affectedProperties The index being built
+     * @param properties         The fully qualified keys of the indexed properties
+     */
+    private static void index(
+        BindingPlan plan,
+        Set<String> gateKeys,
+        Map<String, Set<String>> affectedProperties,
+        Set<String> properties
+    ) {
+        var resolutionPlan = plan.resolutionPlan();
+        var bindings = plan.bindings();
+
+        for (var i = 0; i < bindings.size(); i++) {
+            var feedingKeys = new HashSet<>(gateKeys);
+
+            resolutionPlan.collectDependencyKeys(i, feedingKeys);
+
+            if (bindings.get(i) instanceof BindingPlan.NamespaceBinding namespaceBinding) {
+                index(namespaceBinding.plan(), feedingKeys, affectedProperties, properties);
+            } else {
+                var property = resolutionPlan.getFileKey(i);
+
+                properties.add(property);
+
+                for (var key : feedingKeys) {
+                    affectedProperties.computeIfAbsent(key, k -> new HashSet<>()).add(property);
+                }
+            }
+        }
+    }
+
+    /**
+     * Determines whether the specified key is the fully qualified key of a property of the indexed type.
+     *
+     * @param key The key to be checked
+     *
+     * @return {@code true} if the key belongs to a property, {@code false} otherwise.
+     */
+    public boolean isProperty(String key) {
+        return properties.contains(key);
+    }
+
+    /**
+     * Returns the properties whose resolved values may be affected by changes of the specified keys.
+     *
+     * @param changedKeys The changed keys of the configuration file
+     *
+     * @return The fully qualified keys of the affected properties.
+     */
+    public Set<String> getAffectedProperties(Collection<String> changedKeys) {
+        var affected = new LinkedHashSet<String>();
+
+        for (var key : changedKeys) {
+            var keyProperties = affectedProperties.get(key);
+
+            if (keyProperties != null) {
+                affected.addAll(keyProperties);
+            }
+        }
+
+        return affected;
+    }
+}
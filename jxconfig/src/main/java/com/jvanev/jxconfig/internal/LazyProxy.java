@@ -0,0 +1,139 @@
+/*
+ * Copyright 2025 Georgi Vanev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jvanev.jxconfig.internal;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The invocation handler of the proxies implementing interface configuration types.
+ * <p>
+ * A proxy holds the values of its accessors, created by the factory in the order of the type's descriptor.
+ * Property values are held as {@link DeferredValue}s, which convert them on first access and cache the results,
+ * so the properties which are never accessed are never converted. Namespace values are held as they are.
+ * <p>
+ * Proxies implement {@code equals}, {@code hashCode} and {@code toString} in terms of their values, as records do;
+ * these methods access (and therefore convert) every value. Default methods of the interface are invoked as they are.
+ */
+final class LazyProxy implements InvocationHandler {
+    private final Class<?> type;
+
+    /**
+     * The indexes of the accessors' values, mapped to the accessors; shared by all proxies of the type.
+     */
+    private final Map<Method, Integer> indexes;
+
+    /**
+     * The names of the accessors, in the order of their values; shared by all proxies of the type.
+     */
+    private final List<String> names;
+
+    private final Object[] values;
+
+    private LazyProxy(Class<?> type, Map<Method, Integer> indexes, List<String> names, Object[] values) {
+        this.type = type;
+        this.indexes = indexes;
+        this.names = names;
+        this.values = values;
+    }
+
+    /**
+     * Returns an instantiator creating proxies of the specified interface from the values of its accessors.
+     *
+     * @param type      The interface implemented by the proxies
+     * @param accessors The accessor methods of the interface, in the order of their values
+     *
+     * @return The instantiator of the proxies.
+     */
+    static Instantiator instantiator(Class<?> type, List<Method> accessors) {
+        var indexes = new HashMap<Method, Integer>();
+
+        for (var i = 0; i < accessors.size(); i++) {
+            indexes.put(accessors.get(i), i);
+        }
+
+        var sharedIndexes = Map.copyOf(indexes);
+        var names = accessors.stream().map(Method::getName).toList();
+        var interfaces = new Class<?>[] {type};
+
+        return arguments -> Proxy.newProxyInstance(
+            type.getClassLoader(), interfaces, new LazyProxy(type, sharedIndexes, names, arguments)
+        );
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] arguments) throws Throwable {
+        var index = indexes.get(method);
+
+        if (index != null) {
+            return get(index);
+        }
+
+        if (method.isDefault()) {
+            return InvocationHandler.invokeDefault(proxy, method, arguments);
+        }
+
+        return switch (method.getName()) {
+            case "equals" -> proxy == arguments[0] || arguments[0] != null &&
+                Proxy.isProxyClass(arguments[0].getClass()) &&
+                Proxy.getInvocationHandler(arguments[0]) instanceof LazyProxy that &&
+                type == that.type &&
+                Arrays.equals(getAll(), that.getAll());
+            case "hashCode" -> Arrays.hashCode(getAll());
+            case "toString" -> toString();
+            default -> throw new UnsupportedOperationException("Method " + method + " is not an accessor");
+        };
+    }
+
+    /**
+     * Returns the value of the accessor with the specified index, converting it if it hasn't been accessed yet.
+     *
+     * @param index The index of the accessor
+     *
+     * @return The value of the accessor.
+     */
+    private Object get(int index) {
+        var value = values[index];
+
+        return value instanceof DeferredValue deferredValue ? deferredValue.get() : value;
+    }
+
+    private Object[] getAll() {
+        var all = new Object[values.length];
+
+        for (var i = 0; i < all.length; i++) {
+            all[i] = get(i);
+        }
+
+        return all;
+    }
+
+    @Override
+    public String toString() {
+        var builder = new StringBuilder(type.getSimpleName()).append('[');
+
+        for (var i = 0; i < values.length; i++) {
+            builder.append(i == 0 ? "" : ", ").append(names.get(i)).append('=').append(get(i));
+        }
+
+        return builder.append(']').toString();
+    }
+}
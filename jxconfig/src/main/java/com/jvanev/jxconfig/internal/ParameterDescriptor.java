@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 Georgi Vanev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jvanev.jxconfig.internal;
+
+import com.jvanev.jxconfig.annotation.ConfigNamespace;
+import com.jvanev.jxconfig.annotation.ConfigProperty;
+import com.jvanev.jxconfig.annotation.Delimiters;
+import com.jvanev.jxconfig.annotation.Modifier;
+import com.jvanev.jxconfig.modifier.ValueModifier;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * An annotation-free view of a single constructor parameter of a configuration type.
+ * <p>
+ * A descriptor represents either a {@link ConfigProperty} (in which case {@link #namespace()} is {@code null}),
+ * or a {@link ConfigNamespace} (in which case {@link #key()}, {@link #defaultKey()} and
+ * {@link #defaultValue()} are {@code null}).
+ *
+ * @param name              The name of the constructor parameter
+ * @param type              The generic type of the constructor parameter
+ * @param key               The {@link ConfigProperty#key()} of the parameter
+ * @param defaultKey        The {@link ConfigProperty#defaultKey()} of the parameter
+ * @param defaultValue      The {@link ConfigProperty#defaultValue()} of the parameter
+ * @param namespace         The {@link ConfigNamespace#value()} of the parameter
+ * @param dependency        The dependency declared on the parameter, or {@code null} if none is declared
+ * @param modifiers         The {@link Modifier} types applied to the parameter, in order of application
+ * @param conversion        The built-in conversion of the parameter's values, inlined at compile time by
+ *                          a generated binder; {@code null} if the value converter should be used instead
+ * @param entryDelimiter    The {@link Delimiters#entries()} of the parameter
+ * @param keyValueDelimiter The {@link Delimiters#keyValue()} of the parameter
+ */
+public record ParameterDescriptor(
+    String name,
+    Type type,
+    String key,
+    String defaultKey,
+    String defaultValue,
+    String namespace,
+    ReflectionUtil.DependencyInfo dependency,
+    List<Class<? extends ValueModifier>> modifiers,
+    Function<String, Object> conversion,
+    char entryDelimiter,
+    char keyValueDelimiter
+) {
+    /**
+     * Determines whether this descriptor represents a {@link ConfigNamespace}.
+     *
+     * @return {@code true} if this parameter is a namespace, {@code false} if it's a property.
+     */
+    public boolean isNamespace() {
+        return namespace != null;
+    }
+}
@@ -20,7 +20,13 @@ import com.jvanev.jxconfig.annotation.ConfigProperty;
 import com.jvanev.jxconfig.annotation.DependsOnKey;
 import com.jvanev.jxconfig.annotation.DependsOnProperty;
 import com.jvanev.jxconfig.exception.InvalidDeclarationException;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Objects;
 
 /**
  * Provides a set of convenience methods for working with Java reflection.
@@ -54,25 +60,48 @@ public final class ReflectionUtil {
     }
 
     /**
-     * Determines whether the specified parameter is annotated with {@link ConfigNamespace}.
+     * Returns the {@link ConfigProperty} annotation of the specified accessor method of an interface type.
      *
-     * @param parameter The parameter to be checked
+     * @param clazz    The interface declaring the annotated method
+     * @param accessor The annotated method
+     *
+     * @return The {@link ConfigProperty} annotation of the specified method.
+     *
+     * @throws InvalidDeclarationException If the method is not annotated with {@link ConfigProperty}.
+     */
+    public static ConfigProperty getConfigProperty(Class<?> clazz, Method accessor) {
+        var annotation = accessor.getDeclaredAnnotation(ConfigProperty.class);
+
+        if (annotation == null) {
+            throw new InvalidDeclarationException(
+                "Method '%s' declared in %s is not annotated with @ConfigProperty."
+                    .formatted(accessor.getName(), clazz.getName())
+            );
+        }
+
+        return annotation;
+    }
+
+    /**
+     * Determines whether the specified parameter (or accessor method) is annotated with {@link ConfigNamespace}.
+     *
+     * @param element The parameter or accessor method to be checked
      *
      * @return {@code true} if the annotation is present, {@code false} otherwise.
      */
-    public static boolean isConfigNamespace(Parameter parameter) {
-        return parameter.isAnnotationPresent(ConfigNamespace.class);
+    public static boolean isConfigNamespace(AnnotatedElement element) {
+        return element.isAnnotationPresent(ConfigNamespace.class);
     }
 
     /**
-     * Returns the {@link ConfigNamespace} annotation of the specified parameter.
+     * Returns the {@link ConfigNamespace} annotation of the specified parameter (or accessor method).
      *
-     * @param parameter The annotated parameter
+     * @param element The annotated parameter or accessor method
      *
-     * @return The {@link ConfigNamespace} annotation of the parameter if present, {@code null} otherwise.
+     * @return The {@link ConfigNamespace} annotation of the element if present, {@code null} otherwise.
      */
-    public static ConfigNamespace getConfigNamespace(Parameter parameter) {
-        return parameter.getDeclaredAnnotation(ConfigNamespace.class);
+    public static ConfigNamespace getConfigNamespace(AnnotatedElement element) {
+        return element.getDeclaredAnnotation(ConfigNamespace.class);
     }
 
     /**
@@ -84,13 +113,39 @@ public final class ReflectionUtil {
      * {@code null} otherwise.
      */
     public static DependencyInfo getDependencyInfo(Class<?> type, Parameter parameter) {
-        var propertyInfo = parameter.getDeclaredAnnotation(DependsOnProperty.class);
-        var keyInfo = parameter.getDeclaredAnnotation(DependsOnKey.class);
+        return getDependencyInfo(type, parameter, parameter.getName());
+    }
+
+    /**
+     * Returns dependency information for the specified accessor method of an interface type.
+     *
+     * @param accessor The accessor method whose dependency information should be retrieved
+     *
+     * @return The {@link DependencyInfo} if the method is annotated with a dependency annotation,
+     * {@code null} otherwise.
+     */
+    public static DependencyInfo getDependencyInfo(Class<?> type, Method accessor) {
+        return getDependencyInfo(type, accessor, accessor.getName());
+    }
+
+    /**
+     * Returns dependency information for the specified parameter or accessor method.
+     *
+     * @param type    The type declaring the element
+     * @param element The parameter or accessor method
+     * @param name    The name of the element
+     *
+     * @return The {@link DependencyInfo} if the element is annotated with a dependency annotation,
+     * {@code null} otherwise.
+     */
+    private static DependencyInfo getDependencyInfo(Class<?> type, AnnotatedElement element, String name) {
+        var propertyInfo = element.getDeclaredAnnotation(DependsOnProperty.class);
+        var keyInfo = element.getDeclaredAnnotation(DependsOnKey.class);
 
         if (propertyInfo != null && keyInfo != null) {
             throw new InvalidDeclarationException(
                 "Parameter %s.%s cannot be annotated with @DependsOnKey and @DependsOnProperty at the same time"
-                    .formatted(type.getSimpleName(), parameter.getName())
+                    .formatted(type.getSimpleName(), name)
             );
         }
 
@@ -105,6 +160,105 @@ public final class ReflectionUtil {
         return null;
     }
 
+    /**
+     * Returns the raw class of the specified type.
+     *
+     * @param type The type whose raw class should be retrieved
+     *
+     * @return The specified type if it's a {@link Class}, or its raw type if it's a {@link ParameterizedType}.
+     *
+     * @throws InvalidDeclarationException If the specified type has no raw class (e.g., a type variable).
+     */
+    public static Class<?> getRawType(Type type) {
+        if (type instanceof Class<?> clazz) {
+            return clazz;
+        }
+
+        if (type instanceof ParameterizedType parameterizedType) {
+            return (Class<?>) parameterizedType.getRawType();
+        }
+
+        throw new InvalidDeclarationException("Cannot determine the class of type " + type.getTypeName());
+    }
+
+    /**
+     * Returns a {@link ParameterizedType} representing the specified raw type with the specified type arguments.
+     * <p>
+     * The returned type is equal to, and has the same hash code as, the equivalent type obtained through reflection.
+     *
+     * @param rawType       The raw type
+     * @param typeArguments The actual type arguments
+     *
+     * @return The parameterized type.
+     */
+    public static ParameterizedType getParameterizedType(Class<?> rawType, Type... typeArguments) {
+        if (rawType.getTypeParameters().length != typeArguments.length) {
+            throw new IllegalArgumentException(
+                "Type " + rawType.getName() + " declares " + rawType.getTypeParameters().length +
+                    " type parameters, " + typeArguments.length + " given"
+            );
+        }
+
+        return new ParameterizedTypeImpl(rawType, typeArguments.clone(), rawType.getDeclaringClass());
+    }
+
+    /**
+     * A reflection-free implementation of {@link ParameterizedType}.
+     */
+    private static final class ParameterizedTypeImpl implements ParameterizedType {
+        private final Class<?> rawType;
+
+        private final Type[] typeArguments;
+
+        private final Type ownerType;
+
+        private ParameterizedTypeImpl(Class<?> rawType, Type[] typeArguments, Type ownerType) {
+            this.rawType = rawType;
+            this.typeArguments = typeArguments;
+            this.ownerType = ownerType;
+        }
+
+        @Override
+        public Type[] getActualTypeArguments() {
+            return typeArguments.clone();
+        }
+
+        @Override
+        public Type getRawType() {
+            return rawType;
+        }
+
+        @Override
+        public Type getOwnerType() {
+            return ownerType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            // Must be comparable to the JDK's implementation, which follows the same contract
+            return o instanceof ParameterizedType that &&
+                Objects.equals(ownerType, that.getOwnerType()) &&
+                Objects.equals(rawType, that.getRawType()) &&
+                Arrays.equals(typeArguments, that.getActualTypeArguments());
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(typeArguments) ^ Objects.hashCode(ownerType) ^ Objects.hashCode(rawType);
+        }
+
+        @Override
+        public String toString() {
+            var arguments = Arrays.stream(typeArguments).map(Type::getTypeName).toList();
+
+            return rawType.getName() + "<" + String.join(", ", arguments) + ">";
+        }
+    }
+
     /**
      * A unified view that contains the information of either {@link DependsOnProperty} or {@link DependsOnKey}.
      *
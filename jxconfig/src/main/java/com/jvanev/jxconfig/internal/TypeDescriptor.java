@@ -0,0 +1,268 @@
+/*
+ * Copyright 2025 Georgi Vanev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jvanev.jxconfig.internal;
+
+import com.jvanev.jxconfig.annotation.ConfigProperty;
+import com.jvanev.jxconfig.annotation.Delimiters;
+import com.jvanev.jxconfig.annotation.Modifier;
+import com.jvanev.jxconfig.converter.internal.Converter;
+import com.jvanev.jxconfig.exception.InvalidDeclarationException;
+import com.jvanev.jxconfig.modifier.ValueModifier;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The reflective metadata of a configuration type (or a namespace type), read once and reused afterward.
+ * <p>
+ * Descriptors don't depend on the namespace a type is used in, nor on the factory building it;
+ * therefore, they are cached globally per type. If a {@link ConfigBinder} has been generated for a type
+ * at compile time, its descriptor is used; otherwise, the metadata is read through reflection.
+ * <p>
+ * Interface types are described by their accessor methods, which take the place of constructor parameters.
+ *
+ * @param type         The described type
+ * @param instantiator The instantiator invoking the only constructor of the described type,
+ *                     or creating lazy proxies of the described interface
+ * @param parameters   The descriptors of the constructor parameters (in declaration order),
+ *                     or of the accessor methods of the described interface (in name order)
+ */
+public record TypeDescriptor(Class<?> type, Instantiator instantiator, List<ParameterDescriptor> parameters) {
+    private static final ClassValue<TypeDescriptor> DESCRIPTORS = new ClassValue<>() {
+        @Override
+        protected TypeDescriptor computeValue(Class<?> type) {
+            var binder = getBinder(type);
+            var descriptor = binder != null ? binder.describe() : null;
+
+            // A binder found by name alone may belong to another type (e.g., one compiled by an older processor)
+            return descriptor != null && descriptor.type() == type ? descriptor : describe(type);
+        }
+    };
+
+    /**
+     * Returns the descriptor of the specified type.
+     *
+     * @param type The type whose descriptor should be returned
+     *
+     * @return The descriptor of the specified type.
+     *
+     * @throws InvalidDeclarationException If the specified type is not correctly set up.
+     */
+    public static TypeDescriptor of(Class<?> type) {
+        return DESCRIPTORS.get(type);
+    }
+
+    /**
+     * Returns the binder generated at compile time for the specified type, if one exists.
+     *
+     * @param type The bound type
+     *
+     * @return The binder of the specified type, or {@code null} if no binder has been generated.
+     */
+    private static ConfigBinder getBinder(Class<?> type) {
+        Class<?> binderType;
+
+        try {
+            binderType = Class.forName(ConfigBinder.getBinderName(type), true, type.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+
+        if (!ConfigBinder.class.isAssignableFrom(binderType)) {
+            return null;
+        }
+
+        try {
+            return (ConfigBinder) binderType.getConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new InvalidDeclarationException("Failed to instantiate binder " + binderType.getName(), e);
+        }
+    }
+
+    /**
+     * Reads the metadata of the specified type.
+     *
+     * @param type The type to be described
+     *
+     * @return A new descriptor of the specified type.
+     *
+     * @throws InvalidDeclarationException If the specified type is not correctly set up.
+     */
+    private static TypeDescriptor describe(Class<?> type) {
+        if (type.isInterface()) {
+            return describeInterface(type);
+        }
+
+        if (type.getDeclaredConstructors().length != 1) {
+            throw new InvalidDeclarationException(
+                "Configuration type " + type.getSimpleName() + " must declare exactly one constructor"
+            );
+        }
+
+        var constructor = type.getDeclaredConstructors()[0];
+        var parameters = constructor.getParameters();
+        var descriptors = new ArrayList<ParameterDescriptor>(parameters.length);
+
+        for (var parameter : parameters) {
+            var dependency = ReflectionUtil.getDependencyInfo(type, parameter);
+            var property = ReflectionUtil.isConfigNamespace(parameter)
+                ? null
+                : ReflectionUtil.getConfigProperty(type, parameter);
+
+            descriptors.add(
+                describe(parameter, parameter.getName(), parameter.getParameterizedType(), dependency, property)
+            );
+        }
+
+        return new TypeDescriptor(type, Instantiator.of(constructor), List.copyOf(descriptors));
+    }
+
+    /**
+     * Reads the metadata of the specified interface type, whose abstract methods are its accessors.
+     * Instances of the type are lazy proxies, created by {@link LazyProxy}.
+     *
+     * @param type The interface to be described
+     *
+     * @return A new descriptor of the specified interface.
+     *
+     * @throws InvalidDeclarationException If the specified interface is not correctly set up.
+     */
+    private static TypeDescriptor describeInterface(Class<?> type) {
+        if (type.getTypeParameters().length != 0) {
+            throw new InvalidDeclarationException(
+                "Configuration interface " + type.getSimpleName() + " cannot declare type parameters"
+            );
+        }
+
+        var accessors = new ArrayList<Method>();
+
+        for (var method : type.getMethods()) {
+            if (!java.lang.reflect.Modifier.isAbstract(method.getModifiers()) || isObjectMethod(method)) {
+                continue;
+            }
+
+            if (method.getParameterCount() != 0 || method.getReturnType() == void.class) {
+                throw new InvalidDeclarationException(
+                    "Method %s.%s must declare no parameters and return a value"
+                        .formatted(type.getSimpleName(), method.getName())
+                );
+            }
+
+            accessors.add(method);
+        }
+
+        // Reflected methods are returned in no particular order
+        accessors.sort(Comparator.comparing(Method::getName));
+
+        var descriptors = new ArrayList<ParameterDescriptor>(accessors.size());
+
+        for (var accessor : accessors) {
+            var dependency = ReflectionUtil.getDependencyInfo(type, accessor);
+            var property = ReflectionUtil.isConfigNamespace(accessor)
+                ? null
+                : ReflectionUtil.getConfigProperty(type, accessor);
+
+            descriptors.add(
+                describe(accessor, accessor.getName(), accessor.getGenericReturnType(), dependency, property)
+            );
+        }
+
+        return new TypeDescriptor(type, LazyProxy.instantiator(type, accessors), List.copyOf(descriptors));
+    }
+
+    /**
+     * Determines whether the specified method overrides a public method of {@link Object}
+     * (e.g., an interface redeclaring {@code toString()}).
+     *
+     * @param method The method to be checked
+     *
+     * @return {@code true} if the method overrides a method of {@link Object}, {@code false} otherwise.
+     */
+    private static boolean isObjectMethod(Method method) {
+        try {
+            Object.class.getMethod(method.getName(), method.getParameterTypes());
+
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Reads the metadata of a single constructor parameter or accessor method.
+     *
+     * @param element    The parameter or accessor method
+     * @param name       The name of the element
+     * @param type       The generic type of the element's values
+     * @param dependency The dependency declared on the element, or {@code null} if none is declared
+     * @param property   The {@link ConfigProperty} annotation of the element, or {@code null} if it's a namespace
+     *
+     * @return A new descriptor of the element.
+     */
+    private static ParameterDescriptor describe(
+        AnnotatedElement element,
+        String name,
+        Type type,
+        ReflectionUtil.DependencyInfo dependency,
+        ConfigProperty property
+    ) {
+        var delimiters = element.getAnnotation(Delimiters.class);
+        var entryDelimiter = delimiters != null
+            ? delimiters.entries()
+            : Converter.DEFAULT_ENTRY_DELIMITER;
+        var keyValueDelimiter = delimiters != null
+            ? delimiters.keyValue()
+            : Converter.DEFAULT_KEY_VALUE_DELIMITER;
+        var modifiers = new ArrayList<Class<? extends ValueModifier>>();
+
+        for (var modifier : element.getAnnotationsByType(Modifier.class)) {
+            modifiers.add(modifier.value());
+        }
+
+        if (property == null) {
+            return new ParameterDescriptor(
+                name,
+                type,
+                null,
+                null,
+                null,
+                ReflectionUtil.getConfigNamespace(element).value(),
+                dependency,
+                List.copyOf(modifiers),
+                null,
+                entryDelimiter,
+                keyValueDelimiter
+            );
+        }
+
+        return new ParameterDescriptor(
+            name,
+            type,
+            property.key(),
+            property.defaultKey(),
+            property.defaultValue(),
+            null,
+            dependency,
+            List.copyOf(modifiers),
+            null,
+            entryDelimiter,
+            keyValueDelimiter
+        );
+    }
+}
@@ -24,7 +24,7 @@ import java.lang.annotation.Target;
 /**
  * This annotation is a container for {@link Modifier} annotations applied to an individual parameter.
  */
-@Target(ElementType.PARAMETER)
+@Target({ElementType.PARAMETER, ElementType.METHOD})
 @Retention(RetentionPolicy.RUNTIME)
 public @interface Modifiers {
     /**
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 Georgi Vanev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jvanev.jxconfig.properties;
+
+/**
+ * Maps configuration keys to the names under which they're overridden by an override layer
+ * (e.g., {@code Pool.Size} to the {@code POOL_SIZE} environment variable).
+ */
+@FunctionalInterface
+public interface KeyMapper {
+    /**
+     * Maps every key to itself (e.g., {@code Pool.Size} is overridden by {@code -DPool.Size=...}).
+     */
+    KeyMapper IDENTITY = key -> key;
+
+    /**
+     * Maps keys to the conventional names of environment variables: namespace separators and any other characters
+     * that are neither letters nor digits are replaced with underscores, words written in camel case are separated
+     * by underscores, and letters are converted to upper case (e.g., {@code Pool.MaxSize} to {@code POOL_MAX_SIZE}).
+     */
+    KeyMapper ENVIRONMENT = key -> {
+        var name = new StringBuilder(key.length() + 8);
+
+        for (var i = 0; i < key.length(); i++) {
+            var c = key.charAt(i);
+
+            if (Character.isLetterOrDigit(c)) {
+                if (Character.isUpperCase(c) && i > 0 && Character.isLowerCase(key.charAt(i - 1))) {
+                    name.append('_');
+                }
+
+                name.append(Character.toUpperCase(c));
+            } else {
+                name.append('_');
+            }
+        }
+
+        return name.toString();
+    };
+
+    /**
+     * Returns the name under which the specified configuration key is overridden.
+     *
+     * @param key The fully qualified configuration key, including its namespace (e.g., {@code Pool.Size})
+     *
+     * @return The name of the override.
+     */
+    String map(String key);
+
+    /**
+     * Returns a mapper prepending the specified prefix to the names produced by this mapper
+     * (e.g., {@code APP_} to map {@code Pool.Size} to {@code APP_POOL_SIZE}).
+     *
+     * @param prefix The prefix of the names
+     *
+     * @return The prefixing mapper.
+     */
+    default KeyMapper withPrefix(String prefix) {
+        return key -> prefix + map(key);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2025 Georgi Vanev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jvanev.jxconfig.properties;
+
+import com.jvanev.jxconfig.ConfigFactory;
+import com.jvanev.jxconfig.properties.internal.PropertiesParser;
+import com.jvanev.jxconfig.properties.internal.PropertiesSnapshot;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * Produces binary snapshots of configuration files, meant to be generated at build time and shipped
+ * next to the files they're produced from.
+ * <p>
+ * A snapshot contains the already parsed entries of its configuration file, so factories built with
+ * {@link ConfigFactory.Builder#withSnapshots()} load it without lexing the file. Snapshots record the size and
+ * checksum of their file; a snapshot that no longer matches its file is ignored, and the file is parsed instead.
+ */
+public final class SnapshotWriter {
+    /**
+     * The extension appended to the name of a configuration file to obtain the name of its snapshot
+     * (e.g., {@code Network.properties.snapshot}).
+     */
+    public static final String EXTENSION = PropertiesSnapshot.EXTENSION;
+
+    private SnapshotWriter() {
+    }
+
+    /**
+     * Writes the snapshot of the specified configuration file next to it.
+     *
+     * @param file    The configuration file
+     * @param charset The charset of the configuration file, either ISO 8859-1 or UTF-8
+     *
+     * @return The path of the written snapshot.
+     *
+     * @throws IOException              If an I/O error occurs while reading the file or writing its snapshot.
+     * @throws IllegalArgumentException If the configuration file is malformed, or if the charset is not supported.
+     */
+    public static Path write(Path file, Charset charset) throws IOException {
+        var snapshot = file.resolveSibling(file.getFileName() + EXTENSION);
+
+        write(file, charset, snapshot);
+
+        return snapshot;
+    }
+
+    /**
+     * Writes the snapshot of the specified configuration file into the specified target.
+     *
+     * @param file     The configuration file
+     * @param charset  The charset of the configuration file, either ISO 8859-1 or UTF-8
+     * @param snapshot The file the snapshot is written into
+     *
+     * @throws IOException              If an I/O error occurs while reading the file or writing its snapshot.
+     * @throws IllegalArgumentException If the configuration file is malformed, or if the charset is not supported.
+     */
+    public static void write(Path file, Charset charset, Path snapshot) throws IOException {
+        Objects.requireNonNull(charset, "The charset cannot be null");
+
+        if (!PropertiesParser.isSupported(charset)) {
+            throw new IllegalArgumentException("Unsupported configuration file charset " + charset);
+        }
+
+        Files.write(snapshot, PropertiesSnapshot.write(Files.readAllBytes(file), charset));
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2025 Georgi Vanev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jvanev.jxconfig.properties;
+
+/**
+ * The layers a resolved configuration value can originate from, in order of precedence.
+ */
+public enum ValueOrigin {
+    /**
+     * The value is overridden by a system property (e.g., {@code -DPool.Size=16}).
+     */
+    SYSTEM_PROPERTY,
+
+    /**
+     * The value is overridden by an environment variable (e.g., {@code POOL_SIZE=16}).
+     */
+    ENVIRONMENT,
+
+    /**
+     * The value is read from the configuration file.
+     */
+    FILE,
+
+    /**
+     * The value is the default value declared by the configuration property.
+     */
+    DEFAULT
+}
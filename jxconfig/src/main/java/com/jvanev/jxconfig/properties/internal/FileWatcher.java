@@ -0,0 +1,213 @@
+/*
+ * Copyright 2025 Georgi Vanev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jvanev.jxconfig.properties.internal;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches a set of files through a {@link WatchService}, notifying a listener on a dedicated daemon thread
+ * once the files stop changing.
+ * <p>
+ * Changes are debounced: after the first change, the watcher waits until no further change has been observed
+ * for the debounce period, so a burst of writes (e.g., a deployment replacing several files) results in a single
+ * notification. Files are watched through their directories, so files created after the watcher are observed too;
+ * directories which don't exist are not watched.
+ * <p>
+ * Files reached through symbolic links are also reloaded when a link is swapped to a new target (e.g., the atomic
+ * {@code ..data} swap of a Kubernetes ConfigMap volume), which produces events only for the names of the links.
+ * Such events are relevant when the real path of a watched file in the same directory has changed.
+ */
+public final class FileWatcher implements AutoCloseable {
+    private final WatchService watchService;
+
+    /**
+     * The names of the watched files, mapped to their directories, along with the last observed real path
+     * of each file, or {@code null} if the file couldn't be resolved.
+     */
+    private final Map<Path, Map<Path, Path>> watchedFiles = new HashMap<>();
+
+    private final long debounceNanos;
+
+    private final Runnable listener;
+
+    private volatile boolean closed;
+
+    /**
+     * Creates a new FileWatcher and starts watching the specified files.
+     *
+     * @param files      The files to be watched, all in the same file system; must not be empty
+     * @param debounce   The period without changes after which the listener is notified
+     * @param listener   The listener notified of changes
+     * @param threadName The name of the watching thread
+     *
+     * @throws IOException If the files cannot be watched.
+     */
+    public FileWatcher(Collection<Path> files, Duration debounce, Runnable listener, String threadName)
+        throws IOException {
+        this.debounceNanos = debounce.toNanos();
+        this.listener = listener;
+
+        this.watchService = files.iterator().next().getFileSystem().newWatchService();
+
+        try {
+            for (var file : files) {
+                var directory = file.toAbsolutePath().getParent();
+
+                if (directory != null && Files.isDirectory(directory)) {
+                    if (!watchedFiles.containsKey(directory)) {
+                        directory.register(
+                            watchService,
+                            StandardWatchEventKinds.ENTRY_CREATE,
+                            StandardWatchEventKinds.ENTRY_MODIFY,
+                            StandardWatchEventKinds.ENTRY_DELETE
+                        );
+                    }
+
+                    watchedFiles.computeIfAbsent(directory, key -> new HashMap<>())
+                        .put(file.getFileName(), getRealPath(directory.resolve(file.getFileName())));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            watchService.close();
+
+            throw e;
+        }
+
+        var thread = new Thread(this::watch, threadName);
+
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Waits for changes of the watched files, and notifies the listener once the changes stop.
+     */
+    private void watch() {
+        try {
+            while (true) {
+                if (!isRelevant(watchService.take())) {
+                    continue;
+                }
+
+                WatchKey key;
+
+                while ((key = watchService.poll(debounceNanos, TimeUnit.NANOSECONDS)) != null) {
+                    isRelevant(key);
+                }
+
+                if (closed) {
+                    break;
+                }
+
+                try {
+                    listener.run();
+                } catch (RuntimeException e) {
+                    // The listener reports its own failures; the watcher must outlive them
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // The watcher has been closed
+        }
+    }
+
+    /**
+     * Consumes the pending events of the specified key, and determines whether any of them affects
+     * a watched file.
+     * <p>
+     * Events of other entries in the directory affect a watched file only if its real path has changed since
+     * it was last observed.
+     *
+     * @param key The signalled key
+     *
+     * @return {@code true} if a watched file has changed, or events have been lost, {@code false} otherwise.
+     */
+    private boolean isRelevant(WatchKey key) {
+        var directory = (Path) key.watchable();
+        var files = watchedFiles.get(directory);
+        var isRelevant = false;
+        var hasOtherEvents = false;
+
+        for (var event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW ||
+                files != null && files.containsKey((Path) event.context())) {
+                isRelevant = true;
+            } else {
+                hasOtherEvents = true;
+            }
+        }
+
+        key.reset();
+
+        if (files != null && (isRelevant || hasOtherEvents)) {
+            // Refresh the real paths on every event, so later swaps are compared with the current targets
+            for (var entry : files.entrySet()) {
+                var realPath = getRealPath(directory.resolve(entry.getKey()));
+
+                if (!Objects.equals(realPath, entry.getValue())) {
+                    entry.setValue(realPath);
+                    isRelevant = true;
+                }
+            }
+        }
+
+        return isRelevant;
+    }
+
+    /**
+     * Returns the real path of the specified file, resolving any symbolic links.
+     *
+     * @param file The file to be resolved
+     *
+     * @return The real path of the file, or {@code null} if it cannot be resolved.
+     */
+    private static Path getRealPath(Path file) {
+        try {
+            return file.toRealPath();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Stops watching the files. A notification already in progress is not interrupted, and no further
+     * notification is made.
+     * <p>
+     * The watching thread is stopped only through the closed {@link WatchService}, which wakes it up
+     * if it's waiting for changes; interrupting it could abort the I/O of a notification in progress.
+     */
+    @Override
+    public void close() {
+        closed = true;
+
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            // The watch service is unusable either way, and the watching thread stops on its next wait
+        }
+    }
+}
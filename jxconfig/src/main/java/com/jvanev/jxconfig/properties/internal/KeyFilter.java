@@ -0,0 +1,151 @@
+/*
+ * Copyright 2025 Georgi Vanev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jvanev.jxconfig.properties.internal;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * An immutable set of configuration keys, used to skip the entries of a configuration file which
+ * no configuration type refers to.
+ * <p>
+ * Keys are stored in an open-addressing hash table and can be looked up directly from a range of characters,
+ * so rejected entries are skipped without allocating their keys or values.
+ */
+public final class KeyFilter {
+    private final Set<String> keys;
+
+    private final String[] table;
+
+    private final int mask;
+
+    /**
+     * Creates a new KeyFilter.
+     *
+     * @param keys The keys accepted by the filter
+     */
+    public KeyFilter(Collection<String> keys) {
+        this.keys = Set.copyOf(keys);
+
+        // Keep the table at most half full, so probe sequences remain short
+        var capacity = Integer.highestOneBit(Math.max(this.keys.size(), 1) * 2 - 1) << 1;
+
+        this.table = new String[Math.max(capacity, 2)];
+        this.mask = table.length - 1;
+
+        for (var key : this.keys) {
+            var index = spread(key.hashCode()) & mask;
+
+            while (table[index] != null) {
+                index = (index + 1) & mask;
+            }
+
+            table[index] = key;
+        }
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Determines whether the specified key is accepted by this filter.
+     *
+     * @param key The key to be checked
+     *
+     * @return {@code true} if the key is accepted, {@code false} otherwise.
+     */
+    public boolean accepts(String key) {
+        var index = spread(key.hashCode()) & mask;
+        String candidate;
+
+        while ((candidate = table[index]) != null) {
+            if (candidate.equals(key)) {
+                return true;
+            }
+
+            index = (index + 1) & mask;
+        }
+
+        return false;
+    }
+
+    /**
+     * Determines whether the key held by the specified range of characters is accepted by this filter.
+     *
+     * @param chars The characters holding the key
+     * @param start The index of the first character of the key
+     * @param end   The index following the last character of the key
+     *
+     * @return {@code true} if the key is accepted, {@code false} otherwise.
+     */
+    boolean accepts(char[] chars, int start, int end) {
+        // Computed exactly like String.hashCode, so the key doesn't need to be created
+        var hash = 0;
+
+        for (var i = start; i < end; i++) {
+            hash = 31 * hash + chars[i];
+        }
+
+        var index = spread(hash) & mask;
+        String candidate;
+
+        while ((candidate = table[index]) != null) {
+            if (matches(candidate, chars, start, end)) {
+                return true;
+            }
+
+            index = (index + 1) & mask;
+        }
+
+        return false;
+    }
+
+    private static boolean matches(String candidate, char[] chars, int start, int end) {
+        if (candidate.length() != end - start) {
+            return false;
+        }
+
+        for (var i = start; i < end; i++) {
+            if (candidate.charAt(i - start) != chars[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the number of keys accepted by this filter.
+     *
+     * @return The number of keys.
+     */
+    public int size() {
+        return keys.size();
+    }
+
+    // Filters accepting the same keys are interchangeable, so they share cached files
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof KeyFilter filter && keys.equals(filter.keys);
+    }
+
+    @Override
+    public int hashCode() {
+        return keys.hashCode();
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2025 Georgi Vanev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jvanev.jxconfig.properties.internal;
+
+import com.jvanev.jxconfig.properties.KeyMapper;
+import com.jvanev.jxconfig.properties.ValueOrigin;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable index of the override layers of a factory (i.e., system properties and environment variables),
+ * taken once when the factory is built.
+ * <p>
+ * Layers are indexed by the names of their overrides, and are consulted in order of precedence. Since the keys
+ * of a configuration type are known once its plan is compiled, the index is queried once per type, producing
+ * the {@link PropertyOverrides} consulted by every build of the type without any further mapping.
+ */
+public final class OverrideIndex {
+    private final List<Layer> layers;
+
+    /**
+     * A single override layer.
+     *
+     * @param origin The origin of the values of the layer
+     * @param values The values of the layer, mapped to their names
+     * @param mapper The mapper of configuration keys to the names of the layer
+     */
+    private record Layer(ValueOrigin origin, Map<String, String> values, KeyMapper mapper) {
+    }
+
+    private OverrideIndex(List<Layer> layers) {
+        this.layers = layers;
+    }
+
+    /**
+     * Returns a new builder of override indexes.
+     *
+     * @return A new {@link Builder}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Determines whether this index contains no layers.
+     *
+     * @return {@code true} if no override layers are set up, {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        return layers.isEmpty();
+    }
+
+    /**
+     * Returns the overrides of the specified configuration keys. For each key, the value of the layer with
+     * the highest precedence overriding it is used.
+     *
+     * @param keys The fully qualified configuration keys
+     *
+     * @return The overrides of the keys.
+     */
+    public PropertyOverrides resolve(Collection<String> keys) {
+        var overrides = new HashMap<String, PropertyOverrides.OverriddenValue>();
+
+        for (var key : keys) {
+            for (var layer : layers) {
+                var value = layer.values().get(layer.mapper().map(key));
+
+                if (value != null) {
+                    overrides.put(key, new PropertyOverrides.OverriddenValue(value, layer.origin()));
+
+                    break;
+                }
+            }
+        }
+
+        return overrides.isEmpty() ? PropertyOverrides.NONE : new PropertyOverrides(overrides);
+    }
+
+    /**
+     * Builds override indexes, ordering their layers by precedence regardless of the order they're added in.
+     */
+    public static final class Builder {
+        private final Map<ValueOrigin, Layer> layers = new HashMap<>();
+
+        // Instantiable by the builder method only
+        private Builder() {
+        }
+
+        /**
+         * Adds the layer of the specified origin.
+         *
+         * @param origin The origin of the values of the layer, either {@link ValueOrigin#SYSTEM_PROPERTY}
+         *               or {@link ValueOrigin#ENVIRONMENT}
+         * @param values The values of the layer, mapped to their names; must not be modified afterward
+         * @param mapper The mapper of configuration keys to the names of the layer
+         *
+         * @return This builder.
+         */
+        public Builder withLayer(ValueOrigin origin, Map<String, String> values, KeyMapper mapper) {
+            layers.put(origin, new Layer(origin, values, mapper));
+
+            return this;
+        }
+
+        /**
+         * Builds the index of the added layers.
+         *
+         * @return The override index.
+         */
+        public OverrideIndex build() {
+            var orderedLayers = new ArrayList<Layer>(layers.size());
+
+            for (var origin : ValueOrigin.values()) {
+                if (layers.containsKey(origin)) {
+                    orderedLayers.add(layers.get(origin));
+                }
+            }
+
+            return new OverrideIndex(List.copyOf(orderedLayers));
+        }
+    }
+}
@@ -0,0 +1,306 @@
+/*
+ * Copyright 2025 Georgi Vanev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jvanev.jxconfig.properties.internal;
+
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32C;
+
+/**
+ * A cache of loaded configuration files, keyed by the sources they're loaded from (the external form of the
+ * classpath resource and the path of the file in the filesystem) and the filter they're loaded with.
+ * <p>
+ * Each cached entry records a fingerprint of its sources (i.e., the last modification time and size of
+ * the files it was loaded from, and optionally a CRC32C checksum of their contents), which is compared
+ * with the current fingerprint on every lookup. Resources which are not files (e.g., entries in a JAR) are
+ * considered immutable.
+ * <p>
+ * The cache holds at most a fixed number of entries of a bounded estimated size, evicting the least recently
+ * used entries first. Evicted entries may optionally be retained through soft references, in which case they're
+ * reclaimed by the garbage collector only when memory runs low.
+ */
+public final class PropertiesCache {
+    private static final int CHECKSUM_BUFFER_SIZE = 64 * 1024;
+
+    private final int maxEntries;
+
+    private final long maxBytes;
+
+    private final boolean checksums;
+
+    private final boolean softReferences;
+
+    /**
+     * The strongly referenced entries, in access order.
+     */
+    private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * The evicted entries, if soft references are enabled.
+     */
+    private final Map<Object, SoftReference<Entry>> softEntries = new HashMap<>();
+
+    private long totalBytes;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Loads the properties of a cached file.
+     */
+    @FunctionalInterface
+    public interface Loader {
+        /**
+         * Loads the properties.
+         *
+         * @return The loaded properties.
+         *
+         * @throws IOException If an I/O error occurs during loading.
+         */
+        PropertyMap load() throws IOException;
+    }
+
+    /**
+     * The state of a single source of a cached file at the time it was loaded.
+     *
+     * @param location     The location of the source
+     * @param lastModified The last modification time of the source, or {@code null} if the source is immutable
+     * @param size         The size of the source, in bytes
+     * @param checksum     The CRC32C checksum of the source's contents, or {@code 0} if not computed
+     */
+    private record SourceFingerprint(String location, FileTime lastModified, long size, long checksum) {
+    }
+
+    /**
+     * A cached file.
+     *
+     * @param classpath      The fingerprint of the file on the classpath, or {@code null} if it doesn't exist
+     * @param filesystem     The fingerprint of the file in the filesystem, or {@code null} if it doesn't exist
+     * @param properties     The loaded properties
+     * @param estimatedBytes The estimated memory footprint of the properties
+     */
+    private record Entry(
+        SourceFingerprint classpath,
+        SourceFingerprint filesystem,
+        PropertyMap properties,
+        long estimatedBytes
+    ) {
+        boolean matches(SourceFingerprint classpath, SourceFingerprint filesystem) {
+            return Objects.equals(this.classpath, classpath) && Objects.equals(this.filesystem, filesystem);
+        }
+    }
+
+    /**
+     * Creates a new PropertiesCache.
+     *
+     * @param maxEntries     The maximum number of cached files
+     * @param maxBytes       The maximum estimated memory footprint of the cached files
+     * @param checksums      Whether to verify the contents of files through CRC32C checksums
+     * @param softReferences Whether to retain evicted files through soft references
+     */
+    public PropertiesCache(int maxEntries, long maxBytes, boolean checksums, boolean softReferences) {
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.checksums = checksums;
+        this.softReferences = softReferences;
+    }
+
+    /**
+     * Returns the cached properties of the specified file if its sources haven't changed since it was cached,
+     * or loads and caches them otherwise.
+     *
+     * @param key               The key of the file, identifying its sources along with the filter it's loaded with
+     * @param classpathResource The file on the classpath, or {@code null} if it doesn't exist
+     * @param filesystemFile    The file in the filesystem, or {@code null} if it doesn't exist
+     * @param loader            The loader of the file's properties
+     *
+     * @return The properties of the file.
+     *
+     * @throws IOException If the sources cannot be fingerprinted, or an I/O error occurs during loading.
+     */
+    public PropertyMap get(Object key, URL classpathResource, Path filesystemFile, Loader loader)
+        throws IOException {
+        // Fingerprint before loading, so a concurrent change results in a mismatch on the next lookup
+        var classpath = classpathResource != null ? fingerprint(classpathResource) : null;
+        var filesystem = filesystemFile != null ? fingerprint(filesystemFile) : null;
+        var entry = lookup(key);
+
+        if (entry != null && entry.matches(classpath, filesystem)) {
+            hits.increment();
+
+            return entry.properties();
+        }
+
+        misses.increment();
+
+        var properties = loader.load();
+
+        store(key, new Entry(classpath, filesystem, properties, properties.estimateSize()));
+
+        return properties;
+    }
+
+    private synchronized Entry lookup(Object key) {
+        var entry = entries.get(key);
+
+        if (entry == null && softReferences) {
+            var reference = softEntries.remove(key);
+
+            entry = reference != null ? reference.get() : null;
+
+            if (entry != null) {
+                // Promote the entry back to the strong tier
+                insert(key, entry);
+            }
+        }
+
+        return entry;
+    }
+
+    private synchronized void store(Object key, Entry entry) {
+        softEntries.remove(key);
+        insert(key, entry);
+    }
+
+    private void insert(Object key, Entry entry) {
+        var previous = entries.remove(key);
+
+        if (previous != null) {
+            totalBytes -= previous.estimatedBytes();
+        }
+
+        // Files exceeding the budget on their own would only evict every other file
+        if (entry.estimatedBytes() > maxBytes) {
+            return;
+        }
+
+        entries.put(key, entry);
+        totalBytes += entry.estimatedBytes();
+
+        var iterator = entries.entrySet().iterator();
+
+        while ((entries.size() > maxEntries || totalBytes > maxBytes) && iterator.hasNext()) {
+            var eldest = iterator.next();
+
+            iterator.remove();
+            totalBytes -= eldest.getValue().estimatedBytes();
+            evictions.increment();
+
+            if (softReferences) {
+                softEntries.put(eldest.getKey(), new SoftReference<>(eldest.getValue()));
+            }
+        }
+    }
+
+    /**
+     * Returns the fingerprint of the specified classpath resource.
+     *
+     * @param resource The resource to be fingerprinted
+     *
+     * @return The fingerprint of the resource.
+     *
+     * @throws IOException If an I/O error occurs while reading the resource.
+     */
+    private SourceFingerprint fingerprint(URL resource) throws IOException {
+        if ("file".equals(resource.getProtocol())) {
+            try {
+                return fingerprint(Path.of(resource.toURI()));
+            } catch (URISyntaxException | IllegalArgumentException e) {
+                // Not representable as a path, so treated like any other immutable resource
+            }
+        }
+
+        return new SourceFingerprint(resource.toExternalForm(), null, 0, 0);
+    }
+
+    /**
+     * Returns the fingerprint of the specified file.
+     *
+     * @param file The file to be fingerprinted
+     *
+     * @return The fingerprint of the file.
+     *
+     * @throws IOException If an I/O error occurs while reading the file.
+     */
+    private SourceFingerprint fingerprint(Path file) throws IOException {
+        var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+
+        return new SourceFingerprint(
+            file.toString(),
+            attributes.lastModifiedTime(),
+            attributes.size(),
+            checksums ? checksum(file) : 0
+        );
+    }
+
+    private static long checksum(Path file) throws IOException {
+        var checksum = new CRC32C();
+        var buffer = ByteBuffer.allocate(CHECKSUM_BUFFER_SIZE);
+
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) >= 0) {
+                checksum.update(buffer.flip());
+                buffer.clear();
+            }
+        }
+
+        return checksum.getValue();
+    }
+
+    /**
+     * Returns the number of lookups which found an up-to-date cached file.
+     *
+     * @return The number of cache hits.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups which had to load a file.
+     *
+     * @return The number of cache misses.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of files evicted to keep the cache within its bounds.
+     *
+     * @return The number of evictions.
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+}
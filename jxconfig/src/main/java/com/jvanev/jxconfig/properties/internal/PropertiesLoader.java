@@ -0,0 +1,480 @@
+/*
+ * Copyright 2025 Georgi Vanev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jvanev.jxconfig.properties.internal;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.Channels;
+import java.nio.channels.CompletionHandler;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Loads configuration files from the classpath and the filesystem.
+ * <p>
+ * A configuration file may exist in both locations, in which case both files are loaded and merged;
+ * the properties of the file in the filesystem override the matching properties of the file on the classpath.
+ * If snapshots are used, either file is loaded from its {@link PropertiesSnapshot} whenever the snapshot
+ * matches the file.
+ */
+public final class PropertiesLoader {
+    private final String classpathDirectory;
+
+    private final Path configurationDirectory;
+
+    private final Charset charset;
+
+    private final long memoryMappingThreshold;
+
+    private final PropertiesCache cache;
+
+    private final boolean snapshots;
+
+    /**
+     * Creates a new PropertiesLoader.
+     *
+     * @param classpathDirectory     The directory on the classpath where the configuration files are located,
+     *                               either blank or ending with {@code /}
+     * @param configurationDirectory The directory in the filesystem where the configuration files are located
+     * @param charset                The charset of the configuration files
+     * @param memoryMappingThreshold The size from which files in the filesystem are memory-mapped
+     * @param cache                  The cache of loaded files, or {@code null} if files should always be loaded
+     * @param snapshots              Whether matching snapshots should be loaded instead of the files
+     */
+    public PropertiesLoader(
+        String classpathDirectory,
+        Path configurationDirectory,
+        Charset charset,
+        long memoryMappingThreshold,
+        PropertiesCache cache,
+        boolean snapshots
+    ) {
+        this.classpathDirectory = classpathDirectory;
+        this.configurationDirectory = configurationDirectory;
+        this.charset = charset;
+        this.memoryMappingThreshold = memoryMappingThreshold;
+        this.cache = cache;
+        this.snapshots = snapshots;
+    }
+
+    /**
+     * Loads the properties of the configuration file with the specified name, merging the file on the classpath
+     * with the file in the filesystem. If a cache is used, the properties are loaded only if either file has
+     * changed since it was last loaded.
+     *
+     * @param filename The name of the configuration file, including its extension (e.g., {@code Network.properties}).
+     *
+     * @return A {@link PropertyMap} containing the key-value pairs from the file.
+     *
+     * @throws IOException If the file does not exist or an I/O error occurs during loading.
+     */
+    public PropertyMap load(String filename) throws IOException {
+        return load(filename, null);
+    }
+
+    /**
+     * Loads the entries of the configuration file with the specified name accepted by the specified filter,
+     * merging the file on the classpath with the file in the filesystem. Rejected entries are skipped while
+     * the files are lexed. If a cache is used, files loaded with different filters are cached separately.
+     *
+     * @param filename The name of the configuration file, including its extension (e.g., {@code Network.properties}).
+     * @param filter   The filter of the loaded keys, or {@code null} if all keys should be loaded
+     *
+     * @return A {@link PropertyMap} containing the accepted key-value pairs from the file.
+     *
+     * @throws IOException If the file does not exist or an I/O error occurs during loading.
+     */
+    public PropertyMap load(String filename, KeyFilter filter) throws IOException {
+        var sources = locate(filename);
+
+        return loadCached(sources, filter);
+    }
+
+    /**
+     * Asynchronously loads the properties of the configuration file with the specified name, merging the file
+     * on the classpath with the file in the filesystem.
+     * <p>
+     * Files in the filesystem which are neither cached nor memory-mapped are read through
+     * an {@link AsynchronousFileChannel}, so no thread is blocked while they're being read.
+     * Everything else (i.e., locating the files, reading classpath resources, and parsing) runs on the specified
+     * executor.
+     *
+     * @param filename The name of the configuration file, including its extension (e.g., {@code Network.properties}).
+     * @param filter   The filter of the loaded keys, or {@code null} if all keys should be loaded
+     * @param executor The executor running the blocking and CPU-bound stages of the loading
+     *
+     * @return A future completed with a {@link PropertyMap} containing the key-value pairs from the file,
+     * or completed exceptionally if the file does not exist or an I/O error occurs during loading.
+     */
+    public CompletableFuture<PropertyMap> loadAsync(String filename, KeyFilter filter, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return locate(filename);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, executor).thenCompose(sources -> {
+            var file = sources.filesystemFile();
+
+            if (cache == null && file != null && getSize(file) < memoryMappingThreshold) {
+                return readAsync(file).thenApplyAsync(bytes -> {
+                    var properties = PropertyMap.builder(filter);
+
+                    try {
+                        loadResource(sources.classpathResource(), sources.classpathSnapshot(), properties);
+                        parse(ByteBuffer.wrap(bytes), readSnapshot(sources.filesystemSnapshot()), properties);
+                    } catch (IOException e) {
+                        throw new CompletionException(e);
+                    }
+
+                    return properties.build();
+                }, executor);
+            }
+
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return loadCached(sources, filter);
+                } catch (IOException e) {
+                    throw new CompletionException(e);
+                }
+            }, executor);
+        });
+    }
+
+    /**
+     * Returns the filesystem paths whose changes affect the configuration file with the specified name: the file
+     * in the configuration directory (whether it exists or not, since it overrides the classpath file once created),
+     * and the classpath file, if it's not packaged in an archive.
+     *
+     * @param filename The name of the configuration file, including its extension (e.g., {@code Network.properties}).
+     *
+     * @return The affecting paths, in an unspecified order.
+     */
+    public List<Path> getSourcePaths(String filename) {
+        var paths = new ArrayList<Path>(2);
+
+        paths.add(configurationDirectory.resolve(filename).toAbsolutePath());
+
+        var classpathResource = getClassLoader().getResource(classpathDirectory + filename);
+
+        if (classpathResource != null && "file".equals(classpathResource.getProtocol())) {
+            try {
+                paths.add(Path.of(classpathResource.toURI()));
+            } catch (URISyntaxException | IllegalArgumentException e) {
+                // The resource cannot be watched
+            }
+        }
+
+        return paths;
+    }
+
+    /**
+     * Returns the cache of loaded files.
+     *
+     * @return The cache, or {@code null} if files are always loaded.
+     */
+    public PropertiesCache getCache() {
+        return cache;
+    }
+
+    private static ClassLoader getClassLoader() {
+        var classLoader = Thread.currentThread().getContextClassLoader();
+
+        // Threads without a context class loader are common in native images and embedded runtimes
+        return classLoader != null ? classLoader : PropertiesLoader.class.getClassLoader();
+    }
+
+    /**
+     * Locates the sources of the configuration file with the specified name.
+     *
+     * @param filename The name of the configuration file
+     *
+     * @return The sources of the configuration file.
+     *
+     * @throws FileNotFoundException If the file exists neither on the classpath, nor in the filesystem.
+     */
+    private Sources locate(String filename) throws FileNotFoundException {
+        var classpathConfig = classpathDirectory + filename;
+        var classpathResource = getClassLoader().getResource(classpathConfig);
+        var filesystemConfig = configurationDirectory.resolve(filename);
+        var filesystemFile = Files.isRegularFile(filesystemConfig) ? filesystemConfig : null;
+
+        if (classpathResource == null && filesystemFile == null) {
+            throw new FileNotFoundException(
+                "Could not find configuration file " + filename + ". Attempted classpath lookup for " +
+                    classpathConfig + ", and filesystem lookup for " + configurationDirectory
+            );
+        }
+
+        URL classpathSnapshot = null;
+        Path filesystemSnapshot = null;
+
+        if (snapshots) {
+            if (classpathResource != null) {
+                classpathSnapshot = getClassLoader().getResource(classpathConfig + PropertiesSnapshot.EXTENSION);
+            }
+
+            if (filesystemFile != null) {
+                var snapshot = configurationDirectory.resolve(filename + PropertiesSnapshot.EXTENSION);
+
+                filesystemSnapshot = Files.isRegularFile(snapshot) ? snapshot : null;
+            }
+        }
+
+        return new Sources(classpathResource, classpathSnapshot, filesystemFile, filesystemSnapshot);
+    }
+
+    /**
+     * Loads the specified sources of a configuration file, through the cache if one is used.
+     * <p>
+     * Cached files are identified by their sources rather than their name, so files with the same name
+     * loaded from different directories are never mistaken for one another.
+     *
+     * @param sources The sources of the configuration file
+     * @param filter  The filter of the loaded keys, or {@code null} if all keys should be loaded
+     *
+     * @return A {@link PropertyMap} containing the merged key-value pairs.
+     *
+     * @throws IOException If an I/O error occurs during loading.
+     */
+    private PropertyMap loadCached(Sources sources, KeyFilter filter) throws IOException {
+        var classpathResource = sources.classpathResource();
+        var filesystemFile = sources.filesystemFile();
+
+        if (cache == null) {
+            return load(sources, filter);
+        }
+
+        var key = new CacheKey(
+            classpathResource != null ? classpathResource.toExternalForm() : null,
+            filesystemFile,
+            filter
+        );
+
+        return cache.get(key, classpathResource, filesystemFile, () -> load(sources, filter));
+    }
+
+    /**
+     * Loads and merges the specified sources.
+     *
+     * @param sources The sources of the configuration file
+     * @param filter  The filter of the loaded keys, or {@code null} if all keys should be loaded
+     *
+     * @return A {@link PropertyMap} containing the merged key-value pairs.
+     *
+     * @throws IOException If an I/O error occurs during loading.
+     */
+    private PropertyMap load(Sources sources, KeyFilter filter) throws IOException {
+        var properties = PropertyMap.builder(filter);
+
+        loadResource(sources.classpathResource(), sources.classpathSnapshot(), properties);
+
+        if (sources.filesystemFile() != null) {
+            loadFile(sources.filesystemFile(), sources.filesystemSnapshot(), properties);
+        }
+
+        return properties.build();
+    }
+
+    /**
+     * Parses the specified classpath resource into the specified builder.
+     *
+     * @param resource   The resource to be parsed, or {@code null} if the file doesn't exist on the classpath
+     * @param snapshot   The snapshot of the resource, or {@code null} if it doesn't exist
+     * @param properties The builder receiving the parsed properties
+     *
+     * @throws IOException If an I/O error occurs while reading the resource.
+     */
+    private void loadResource(URL resource, URL snapshot, PropertyMap.Builder properties) throws IOException {
+        if (resource == null) {
+            return;
+        }
+
+        try (var stream = resource.openStream()) {
+            if (snapshot == null) {
+                PropertiesParser.parse(stream, charset, properties);
+            } else {
+                parse(ByteBuffer.wrap(stream.readAllBytes()), readSnapshot(snapshot), properties);
+            }
+        }
+    }
+
+    /**
+     * Parses the specified file into the specified builder. Files at least {@link #memoryMappingThreshold}
+     * bytes large are memory-mapped and parsed in place, smaller files are read into memory.
+     *
+     * @param file       The file to be parsed
+     * @param snapshot   The snapshot of the file, or {@code null} if it doesn't exist
+     * @param properties The builder receiving the parsed properties
+     *
+     * @throws IOException If an I/O error occurs while reading the file.
+     */
+    private void loadFile(Path file, Path snapshot, PropertyMap.Builder properties) throws IOException {
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            var size = channel.size();
+
+            if (size >= memoryMappingThreshold && size <= Integer.MAX_VALUE) {
+                // The parser doesn't retain mapped buffers, so the mapping is released once unreachable
+                parse(channel.map(FileChannel.MapMode.READ_ONLY, 0, size), readSnapshot(snapshot), properties);
+            } else if (snapshot == null) {
+                PropertiesParser.parse(Channels.newInputStream(channel), charset, properties);
+            } else {
+                var bytes = Channels.newInputStream(channel).readAllBytes();
+
+                parse(ByteBuffer.wrap(bytes), readSnapshot(snapshot), properties);
+            }
+        }
+    }
+
+    /**
+     * Loads the specified snapshot into the specified builder if it matches the specified source,
+     * or parses the source otherwise.
+     *
+     * @param source     The contents of the configuration file
+     * @param snapshot   The snapshot of the configuration file, or {@code null} if it doesn't exist
+     * @param properties The builder receiving the properties
+     */
+    private void parse(ByteBuffer source, byte[] snapshot, PropertyMap.Builder properties) {
+        // Outdated snapshots are ignored, so a stale snapshot never shadows an edited file
+        if (snapshot == null || !PropertiesSnapshot.read(snapshot, source, charset, properties)) {
+            PropertiesParser.parse(source, charset, properties);
+        }
+    }
+
+    private static byte[] readSnapshot(URL snapshot) throws IOException {
+        if (snapshot == null) {
+            return null;
+        }
+
+        try (var stream = snapshot.openStream()) {
+            return stream.readAllBytes();
+        }
+    }
+
+    private static byte[] readSnapshot(Path snapshot) throws IOException {
+        return snapshot == null ? null : Files.readAllBytes(snapshot);
+    }
+
+    /**
+     * Returns the size of the specified file.
+     *
+     * @param file The file
+     *
+     * @return The size of the file, or {@link Long#MAX_VALUE} if it cannot be determined.
+     */
+    private static long getSize(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            // Left to the synchronous loading, which reports the error
+            return Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Reads the specified file through an {@link AsynchronousFileChannel}.
+     *
+     * @param file The file to be read
+     *
+     * @return A future completed with the contents of the file.
+     */
+    private static CompletableFuture<byte[]> readAsync(Path file) {
+        var result = new CompletableFuture<byte[]>();
+
+        try {
+            var channel = AsynchronousFileChannel.open(file, StandardOpenOption.READ);
+            var size = channel.size();
+
+            if (size > Integer.MAX_VALUE - 8) {
+                channel.close();
+
+                throw new IOException("Configuration file " + file + " is too large to be read");
+            }
+
+            var buffer = ByteBuffer.allocate((int) size);
+
+            channel.read(buffer, 0, null, new CompletionHandler<Integer, Void>() {
+                @Override
+                public void completed(Integer read, Void attachment) {
+                    if (read >= 0 && buffer.hasRemaining()) {
+                        channel.read(buffer, buffer.position(), null, this);
+
+                        return;
+                    }
+
+                    // The file may have shrunk since its size was read
+                    close(channel);
+                    result.complete(Arrays.copyOf(buffer.array(), buffer.position()));
+                }
+
+                @Override
+                public void failed(Throwable exception, Void attachment) {
+                    close(channel);
+                    result.completeExceptionally(exception);
+                }
+            });
+        } catch (IOException e) {
+            result.completeExceptionally(e);
+        }
+
+        return result;
+    }
+
+    private static void close(AsynchronousFileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // Nothing to be done, the contents have already been read
+        }
+    }
+
+    /**
+     * The sources of a configuration file.
+     *
+     * @param classpathResource  The file on the classpath, or {@code null} if it doesn't exist
+     * @param classpathSnapshot  The snapshot of the file on the classpath, or {@code null} if it isn't used
+     * @param filesystemFile     The file in the filesystem, or {@code null} if it doesn't exist
+     * @param filesystemSnapshot The snapshot of the file in the filesystem, or {@code null} if it isn't used
+     */
+    private record Sources(URL classpathResource, URL classpathSnapshot, Path filesystemFile, Path filesystemSnapshot) {
+    }
+
+    /**
+     * The cache key of a configuration file.
+     * <p>
+     * The classpath resource is identified by its external form, as {@link URL#equals(Object)} may resolve
+     * host names.
+     *
+     * @param classpathResource The external form of the file on the classpath, or {@code null} if it doesn't exist
+     * @param filesystemFile    The file in the filesystem, or {@code null} if it doesn't exist
+     * @param filter            The filter the file is loaded with, or {@code null} if all keys are loaded
+     */
+    private record CacheKey(String classpathResource, Path filesystemFile, KeyFilter filter) {
+    }
+}
@@ -0,0 +1,541 @@
+/*
+ * Copyright 2025 Georgi Vanev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jvanev.jxconfig.properties.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A parser of the {@code .properties} file format, as specified by
+ * {@link java.util.Properties#load(java.io.Reader)}.
+ * <p>
+ * The parser supports comments, line continuations, the {@code =} and {@code :} separators (or whitespace),
+ * and all escape sequences, including <code>&#92;uXXXX</code>. It lexes the raw bytes of a file, decoded
+ * either as ISO 8859-1 (like {@link java.util.Properties#load(InputStream)}) or as UTF-8, where ASCII bytes
+ * take a fast path and only multibyte sequences are decoded. Logical lines are assembled into a reusable buffer,
+ * and the values of single-line entries are kept as raw byte ranges, decoded only when they're looked up.
+ */
+public final class PropertiesParser {
+    private static final String MALFORMED_ESCAPE = "Malformed \\uxxxx encoding.";
+
+    private final ByteBuffer source;
+
+    private final int limit;
+
+    private final boolean utf8;
+
+    private int position;
+
+    /**
+     * The low surrogate of a supplementary character whose high surrogate has just been read, or {@code 0}.
+     */
+    private char pendingSurrogate;
+
+    /**
+     * The buffer holding the logical line being parsed, with line continuations removed.
+     */
+    private char[] line = new char[128];
+
+    /**
+     * The byte offsets of the characters held by {@link #line}.
+     */
+    private int[] offsets = new int[128];
+
+    /**
+     * The byte offset following the last character of the logical line.
+     */
+    private int lineEnd;
+
+    /**
+     * Whether the logical line spans multiple natural lines.
+     */
+    private boolean continued;
+
+    private final StringBuilder unescaped = new StringBuilder();
+
+    private PropertiesParser(ByteBuffer source, boolean utf8) {
+        this.source = source;
+        this.position = source.position();
+        this.limit = source.limit();
+        this.utf8 = utf8;
+
+        // Skip the byte order mark, which many editors prepend to UTF-8 files
+        if (utf8 && limit - position >= 3 && source.get(position) == (byte) 0xEF &&
+            source.get(position + 1) == (byte) 0xBB && source.get(position + 2) == (byte) 0xBF) {
+            position += 3;
+        }
+    }
+
+    /**
+     * Determines whether the specified charset can be used to parse configuration files.
+     *
+     * @param charset The charset to be checked
+     *
+     * @return {@code true} if the charset is ISO 8859-1 or UTF-8, {@code false} otherwise.
+     */
+    public static boolean isSupported(Charset charset) {
+        return StandardCharsets.ISO_8859_1.equals(charset) || StandardCharsets.UTF_8.equals(charset);
+    }
+
+    /**
+     * Parses the properties contained in the specified stream into the specified builder.
+     * Keys already present in the builder are overridden.
+     *
+     * @param stream     The stream to be parsed
+     * @param charset    The charset of the stream, either ISO 8859-1 or UTF-8
+     * @param properties The builder receiving the parsed properties
+     *
+     * @throws IOException              If an I/O error occurs while reading the stream.
+     * @throws IllegalArgumentException If the stream contains a malformed <code>&#92;uXXXX</code> escape sequence,
+     *                                  or malformed UTF-8 input.
+     */
+    public static void parse(InputStream stream, Charset charset, PropertyMap.Builder properties) throws IOException {
+        var bytes = stream.readAllBytes();
+
+        parse(bytes, 0, bytes.length, charset, properties);
+    }
+
+    /**
+     * Parses the properties contained in the specified range of bytes into the specified builder.
+     * Keys already present in the builder are overridden.
+     * <p>
+     * The values of the parsed properties may refer to the specified array until they're looked up,
+     * so the array must not be modified afterward.
+     *
+     * @param bytes      The contents of a properties file
+     * @param offset     The offset of the first byte to be parsed
+     * @param length     The number of bytes to be parsed
+     * @param charset    The charset of the bytes, either ISO 8859-1 or UTF-8
+     * @param properties The builder receiving the parsed properties
+     *
+     * @throws IllegalArgumentException If the bytes contain a malformed <code>&#92;uXXXX</code> escape sequence,
+     *                                  or malformed UTF-8 input, or if the charset is not supported.
+     */
+    public static void parse(byte[] bytes, int offset, int length, Charset charset, PropertyMap.Builder properties) {
+        parse(ByteBuffer.wrap(bytes, offset, length), charset, properties);
+    }
+
+    /**
+     * Parses the properties contained in the remaining bytes of the specified buffer into the specified builder.
+     * Keys already present in the builder are overridden.
+     * <p>
+     * If the buffer is backed by an array, the values of the parsed properties may refer to the array until
+     * they're looked up, so the array must not be modified afterward. Otherwise (e.g., if the buffer maps a file),
+     * all values are decoded while parsing and the buffer is not referenced once this method returns.
+     * The position of the buffer is not changed.
+     *
+     * @param buffer     The contents of a properties file
+     * @param charset    The charset of the bytes, either ISO 8859-1 or UTF-8
+     * @param properties The builder receiving the parsed properties
+     *
+     * @throws IllegalArgumentException If the bytes contain a malformed <code>&#92;uXXXX</code> escape sequence,
+     *                                  or malformed UTF-8 input, or if the charset is not supported.
+     */
+    public static void parse(ByteBuffer buffer, Charset charset, PropertyMap.Builder properties) {
+        if (!isSupported(charset)) {
+            throw new IllegalArgumentException("Unsupported configuration file charset " + charset);
+        }
+
+        var parser = new PropertiesParser(buffer, StandardCharsets.UTF_8.equals(charset));
+        int lineLength;
+
+        while ((lineLength = parser.readLine()) >= 0) {
+            parser.parseLine(lineLength, properties);
+        }
+    }
+
+    /**
+     * Splits the logical line held by {@link #line} into a key and a value.
+     *
+     * @param length     The length of the logical line
+     * @param properties The builder receiving the property
+     */
+    private void parseLine(int length, PropertyMap.Builder properties) {
+        var keyEnd = 0;
+        var valueStart = length;
+        var hasSeparator = false;
+        var precedingBackslash = false;
+
+        // The key ends at the first unescaped separator or whitespace
+        while (keyEnd < length) {
+            var c = line[keyEnd];
+
+            if ((c == '=' || c == ':') && !precedingBackslash) {
+                valueStart = keyEnd + 1;
+                hasSeparator = true;
+                break;
+            } else if (isWhitespace(c) && !precedingBackslash) {
+                valueStart = keyEnd + 1;
+                break;
+            }
+
+            precedingBackslash = c == '\\' && !precedingBackslash;
+            keyEnd++;
+        }
+
+        // The value starts after any whitespace surrounding the (optional) separator
+        while (valueStart < length) {
+            var c = line[valueStart];
+
+            if (!isWhitespace(c)) {
+                if (hasSeparator || c != '=' && c != ':') {
+                    break;
+                }
+
+                hasSeparator = true;
+            }
+
+            valueStart++;
+        }
+
+        String key;
+
+        // Rejected entries are skipped before their keys and values are created
+        if (indexOfBackslash(0, keyEnd) == keyEnd) {
+            if (!properties.accepts(line, 0, keyEnd)) {
+                return;
+            }
+
+            key = new String(line, 0, keyEnd);
+        } else {
+            key = unescape(0, keyEnd);
+
+            if (!properties.accepts(key)) {
+                return;
+            }
+        }
+
+        if (valueStart == length) {
+            properties.put(key, "");
+        } else if (continued || !source.hasArray() || indexOfBackslash(valueStart, length) < length) {
+            properties.put(key, unescape(valueStart, length));
+        } else {
+            // The value is a contiguous, escape-free range of the source array, so decoding it can be deferred
+            var offset = source.arrayOffset();
+
+            properties.put(
+                key,
+                new RawValue(source.array(), offset + offsets[valueStart], offset + lineEnd, utf8)
+            );
+        }
+    }
+
+    private int indexOfBackslash(int start, int end) {
+        var index = start;
+
+        while (index < end && line[index] != '\\') {
+            index++;
+        }
+
+        return index;
+    }
+
+    /**
+     * Reads the next logical line into {@link #line}, skipping blank lines and comments.
+     * <p>
+     * Leading whitespace is removed, and so are line continuations (i.e., an odd number of backslashes
+     * followed by a line terminator) along with the leading whitespace of the continuation line.
+     *
+     * @return The length of the logical line, or {@code -1} if there are no more lines.
+     */
+    private int readLine() {
+        var length = 0;
+        var skipWhitespace = true;
+        var appendedLineBegin = false;
+        var precedingBackslash = false;
+
+        continued = false;
+
+        while (true) {
+            if (position >= limit && pendingSurrogate == 0) {
+                if (length == 0) {
+                    return -1;
+                }
+
+                if (precedingBackslash) {
+                    // A backslash at the end of the source continues nothing
+                    lineEnd = offsets[--length];
+                }
+
+                return length;
+            }
+
+            var offset = position;
+            var c = nextChar();
+
+            if (skipWhitespace) {
+                if (isWhitespace(c) || !appendedLineBegin && (c == '\r' || c == '\n')) {
+                    continue;
+                }
+
+                skipWhitespace = false;
+                appendedLineBegin = false;
+            }
+
+            // As in Properties.load, a comment can start wherever the logical line is still empty,
+            // including after a continuation of an empty line
+            if (length == 0 && (c == '#' || c == '!')) {
+                skipComment();
+
+                skipWhitespace = true;
+                continue;
+            }
+
+            if (c != '\n' && c != '\r') {
+                if (length == line.length) {
+                    line = Arrays.copyOf(line, length * 2);
+                    offsets = Arrays.copyOf(offsets, length * 2);
+                }
+
+                line[length] = c;
+                offsets[length++] = offset;
+                lineEnd = position;
+                precedingBackslash = c == '\\' && !precedingBackslash;
+                continue;
+            }
+
+            if (length == 0) {
+                skipWhitespace = true;
+                continue;
+            }
+
+            if (!precedingBackslash) {
+                return length;
+            }
+
+            // Line continuation
+            length--;
+            continued = true;
+
+            if (position >= limit) {
+                // As in Properties.load, a continuation ending the source ends the line, even if it's now empty
+                return length;
+            }
+
+            precedingBackslash = false;
+            skipWhitespace = true;
+            appendedLineBegin = true;
+
+            if (c == '\r' && position < limit && source.get(position) == '\n') {
+                position++;
+            }
+        }
+    }
+
+    /**
+     * Returns the next character of the source.
+     *
+     * @return The next character.
+     *
+     * @throws IllegalArgumentException If the source contains malformed UTF-8 input.
+     */
+    private char nextChar() {
+        if (pendingSurrogate != 0) {
+            var c = pendingSurrogate;
+            pendingSurrogate = 0;
+
+            return c;
+        }
+
+        var b = source.get(position++);
+
+        // ASCII is encoded identically in both charsets
+        if (b >= 0 || !utf8) {
+            return (char) (b & 0xFF);
+        }
+
+        return decodeMultibyte(b & 0xFF);
+    }
+
+    /**
+     * Decodes the UTF-8 sequence starting with the specified lead byte, which has already been consumed.
+     *
+     * @param lead The lead byte of the sequence
+     *
+     * @return The decoded character, or the high surrogate of a supplementary character.
+     *
+     * @throws IllegalArgumentException If the sequence is malformed.
+     */
+    private char decodeMultibyte(int lead) {
+        var start = position - 1;
+        int codePoint;
+        int continuationBytes;
+        int minimum;
+
+        if ((lead & 0xE0) == 0xC0) {
+            codePoint = lead & 0x1F;
+            continuationBytes = 1;
+            minimum = 0x80;
+        } else if ((lead & 0xF0) == 0xE0) {
+            codePoint = lead & 0x0F;
+            continuationBytes = 2;
+            minimum = 0x800;
+        } else if ((lead & 0xF8) == 0xF0) {
+            codePoint = lead & 0x07;
+            continuationBytes = 3;
+            minimum = 0x10000;
+        } else {
+            throw malformedInput(start);
+        }
+
+        if (position + continuationBytes > limit) {
+            throw malformedInput(start);
+        }
+
+        for (var i = 0; i < continuationBytes; i++) {
+            var b = source.get(position++);
+
+            if ((b & 0xC0) != 0x80) {
+                throw malformedInput(start);
+            }
+
+            codePoint = (codePoint << 6) | (b & 0x3F);
+        }
+
+        // Reject overlong encodings, surrogates and code points beyond the Unicode range
+        if (codePoint < minimum || codePoint > Character.MAX_CODE_POINT ||
+            codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE) {
+            throw malformedInput(start);
+        }
+
+        if (codePoint >= Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+            pendingSurrogate = Character.lowSurrogate(codePoint);
+
+            return Character.highSurrogate(codePoint);
+        }
+
+        return (char) codePoint;
+    }
+
+    private static IllegalArgumentException malformedInput(int offset) {
+        return new IllegalArgumentException("Malformed UTF-8 input at byte " + offset);
+    }
+
+    /**
+     * Advances past the end of the current natural line.
+     */
+    private void skipComment() {
+        // Multibyte UTF-8 sequences never contain ASCII bytes, so line terminators can be found byte by byte
+        while (position < limit) {
+            var b = source.get(position++);
+
+            if (b == '\n' || b == '\r') {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the specified range of {@link #line} with its escape sequences decoded.
+     *
+     * @param start The start of the range (inclusive)
+     * @param end   The end of the range (exclusive)
+     *
+     * @return The decoded string.
+     *
+     * @throws IllegalArgumentException If the range contains a malformed <code>&#92;uXXXX</code> escape sequence.
+     */
+    private String unescape(int start, int end) {
+        var escape = indexOfBackslash(start, end);
+
+        if (escape == end) {
+            return new String(line, start, end - start);
+        }
+
+        unescaped.setLength(0);
+        unescaped.append(line, start, escape - start);
+
+        var i = escape;
+
+        while (i < end) {
+            var c = line[i++];
+
+            if (c != '\\') {
+                unescaped.append(c);
+                continue;
+            }
+
+            if (i == end) {
+                break;
+            }
+
+            c = line[i++];
+
+            switch (c) {
+                case 't' -> unescaped.append('\t');
+                case 'r' -> unescaped.append('\r');
+                case 'n' -> unescaped.append('\n');
+                case 'f' -> unescaped.append('\f');
+                case 'u' -> {
+                    if (i + 4 > end) {
+                        throw new IllegalArgumentException(MALFORMED_ESCAPE);
+                    }
+
+                    var value = 0;
+
+                    for (var j = 0; j < 4; j++) {
+                        var digit = Character.digit(line[i++], 16);
+
+                        if (digit < 0) {
+                            throw new IllegalArgumentException(MALFORMED_ESCAPE);
+                        }
+
+                        value = (value << 4) | digit;
+                    }
+
+                    unescaped.append((char) value);
+                }
+                default -> unescaped.append(c);
+            }
+        }
+
+        return unescaped.toString();
+    }
+
+    /**
+     * Determines whether the specified character is whitespace, as defined by the properties format.
+     *
+     * @param c The character to be checked
+     *
+     * @return {@code true} if the character is a space, a tab or a form feed, {@code false} otherwise.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\f';
+    }
+
+    /**
+     * The raw value of a property, occupying a single line of its source and containing no escape sequences.
+     *
+     * @param bytes The source of the value
+     * @param start The offset of the first byte of the value (inclusive)
+     * @param end   The offset of the last byte of the value (exclusive)
+     * @param utf8  Whether the source is encoded in UTF-8 or ISO 8859-1
+     */
+    record RawValue(byte[] bytes, int start, int end, boolean utf8) {
+        /**
+         * Decodes this value. The bytes have already been validated while lexing the source.
+         *
+         * @return The decoded value.
+         */
+        String decode() {
+            return new String(bytes, start, end - start, utf8 ? StandardCharsets.UTF_8 : StandardCharsets.ISO_8859_1);
+        }
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2025 Georgi Vanev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jvanev.jxconfig.properties.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.zip.CRC32C;
+
+/**
+ * The binary snapshot format of parsed configuration files.
+ * <p>
+ * A snapshot contains the already parsed entries of a configuration file, along with the size and the CRC32C
+ * checksum of the file it was produced from, so it can be loaded without any lexing or unescaping as long
+ * as it matches its source. All multibyte values are big-endian. The layout is the following:
+ * <pre>
+ * int     magic number ("JXSN")
+ * byte    format version
+ * byte    flags (bit 0: the source is UTF-8 encoded)
+ * short   reserved
+ * long    source size
+ * long    source checksum
+ * int     number of entries
+ * int[4]  key offset, key length, value offset and value length of each entry, sorted by key
+ * byte[]  string table, containing the UTF-8 encoded keys and values, each distinct string stored once
+ * </pre>
+ */
+public final class PropertiesSnapshot {
+    /**
+     * The extension appended to the name of a configuration file to obtain the name of its snapshot
+     * (e.g., {@code Network.properties.snapshot}).
+     */
+    public static final String EXTENSION = ".snapshot";
+
+    private static final int MAGIC = 0x4A58534E;
+
+    private static final byte VERSION = 1;
+
+    private static final byte UTF8_SOURCE = 1;
+
+    private static final int HEADER_SIZE = 28;
+
+    private static final int ENTRY_SIZE = 16;
+
+    private PropertiesSnapshot() {
+    }
+
+    /**
+     * Creates the snapshot of the specified configuration file.
+     *
+     * @param source  The contents of the configuration file
+     * @param charset The charset of the configuration file, either ISO 8859-1 or UTF-8
+     *
+     * @return The snapshot of the configuration file.
+     *
+     * @throws IllegalArgumentException If the configuration file is malformed, or if the charset is not supported.
+     */
+    public static byte[] write(byte[] source, Charset charset) {
+        var properties = PropertyMap.builder();
+
+        PropertiesParser.parse(source, 0, source.length, charset, properties);
+
+        var keys = new ArrayList<byte[]>();
+        var values = new ArrayList<byte[]>();
+
+        properties.build().forEach((key, value) -> {
+            keys.add(key.getBytes(StandardCharsets.UTF_8));
+            values.add(value.getBytes(StandardCharsets.UTF_8));
+        });
+
+        // Entries are sorted by the unsigned order of their encoded keys, which allows binary searches
+        var order = new Integer[keys.size()];
+
+        for (var i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+
+        Arrays.sort(order, (a, b) -> Arrays.compareUnsigned(keys.get(a), keys.get(b)));
+
+        var strings = new ByteArrayOutputStream();
+        var stringOffsets = new HashMap<String, Integer>();
+        var index = ByteBuffer.allocate(order.length * ENTRY_SIZE);
+
+        for (var entry : order) {
+            putString(keys.get(entry), strings, stringOffsets, index);
+            putString(values.get(entry), strings, stringOffsets, index);
+        }
+
+        var snapshot = ByteBuffer.allocate(HEADER_SIZE + index.capacity() + strings.size())
+            .putInt(MAGIC)
+            .put(VERSION)
+            .put(StandardCharsets.UTF_8.equals(charset) ? UTF8_SOURCE : 0)
+            .putShort((short) 0)
+            .putLong(source.length)
+            .putLong(checksum(ByteBuffer.wrap(source)))
+            .putInt(order.length)
+            .put(index.array())
+            .put(strings.toByteArray());
+
+        return snapshot.array();
+    }
+
+    private static void putString(
+        byte[] string,
+        ByteArrayOutputStream strings,
+        HashMap<String, Integer> stringOffsets,
+        ByteBuffer index
+    ) {
+        // The strings are keyed by their ISO 8859-1 decoding, which maps every byte sequence to a distinct string
+        var offset = stringOffsets.computeIfAbsent(new String(string, StandardCharsets.ISO_8859_1), s -> {
+            var newOffset = strings.size();
+
+            strings.writeBytes(string);
+
+            return newOffset;
+        });
+
+        index.putInt(offset).putInt(string.length);
+    }
+
+    /**
+     * Loads the entries of the specified snapshot into the specified builder, if the snapshot has been produced from
+     * the specified source with the specified charset. Keys already present in the builder are overridden.
+     * <p>
+     * The values of the loaded properties refer to the snapshot until they're looked up,
+     * so the snapshot must not be modified afterward.
+     *
+     * @param snapshot   The snapshot to be loaded
+     * @param source     The contents of the configuration file the snapshot should match
+     * @param charset    The charset of the configuration file
+     * @param properties The builder receiving the loaded properties
+     *
+     * @return {@code true} if the snapshot has been loaded, {@code false} if it's malformed or doesn't match
+     * the source, in which case the builder is left unchanged.
+     */
+    public static boolean read(byte[] snapshot, ByteBuffer source, Charset charset, PropertyMap.Builder properties) {
+        var buffer = ByteBuffer.wrap(snapshot);
+        int entryCount;
+
+        try {
+            var utf8 = StandardCharsets.UTF_8.equals(charset);
+
+            if (buffer.getInt() != MAGIC || buffer.get() != VERSION || (buffer.get() == UTF8_SOURCE) != utf8) {
+                return false;
+            }
+
+            buffer.getShort();
+
+            if (buffer.getLong() != source.remaining() || buffer.getLong() != checksum(source)) {
+                return false;
+            }
+
+            entryCount = buffer.getInt();
+        } catch (BufferUnderflowException e) {
+            return false;
+        }
+
+        var stringTable = HEADER_SIZE + (long) entryCount * ENTRY_SIZE;
+
+        if (entryCount < 0 || stringTable > snapshot.length) {
+            return false;
+        }
+
+        // Every entry is validated before any is loaded, so a malformed snapshot leaves the builder unchanged
+        for (var i = 0; i < entryCount * 2; i++) {
+            var offset = buffer.getInt(HEADER_SIZE + i * 8);
+            var length = buffer.getInt(HEADER_SIZE + i * 8 + 4);
+
+            if (offset < 0 || length < 0 || stringTable + offset + length > snapshot.length) {
+                return false;
+            }
+        }
+
+        for (var i = 0; i < entryCount; i++) {
+            var entry = HEADER_SIZE + i * ENTRY_SIZE;
+            var keyStart = (int) stringTable + buffer.getInt(entry);
+            var valueStart = (int) stringTable + buffer.getInt(entry + 8);
+            var key = new String(snapshot, keyStart, buffer.getInt(entry + 4), StandardCharsets.UTF_8);
+
+            if (!properties.accepts(key)) {
+                continue;
+            }
+
+            properties.put(
+                key,
+                new PropertiesParser.RawValue(snapshot, valueStart, valueStart + buffer.getInt(entry + 12), true)
+            );
+        }
+
+        return true;
+    }
+
+    /**
+     * Computes the CRC32C checksum of the remaining bytes of the specified buffer, without changing its position.
+     *
+     * @param source The buffer to be checksummed
+     *
+     * @return The checksum.
+     */
+    static long checksum(ByteBuffer source) {
+        var checksum = new CRC32C();
+
+        checksum.update(source.duplicate());
+
+        return checksum.getValue();
+    }
+}
@@ -0,0 +1,327 @@
+/*
+ * Copyright 2025 Georgi Vanev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jvanev.jxconfig.properties.internal;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * An immutable map of configuration keys to their values, backed by an open-addressing hash table.
+ * <p>
+ * Keys and values are stored in two flat arrays and looked up by linear probing, so lookups take no locks.
+ * Values parsed from a configuration file may be kept in their raw, encoded form until first looked up;
+ * decoding them is idempotent, so instances remain safe to share between threads.
+ */
+public final class PropertyMap {
+    /**
+     * The map containing no properties.
+     */
+    public static final PropertyMap EMPTY = new PropertyMap(new String[2], new Object[2], 0);
+
+    private final String[] keys;
+
+    /**
+     * The values mapped to the keys at the same indexes. Each value is either a {@link String},
+     * or a {@link PropertiesParser.RawValue} replaced by its decoded string on first lookup.
+     */
+    private final Object[] values;
+
+    private final int mask;
+
+    private final int size;
+
+    private PropertyMap(String[] keys, Object[] values, int size) {
+        this.keys = keys;
+        this.values = values;
+        this.mask = keys.length - 1;
+        this.size = size;
+    }
+
+    /**
+     * Returns a new map containing the entries of the specified map.
+     *
+     * @param properties The entries of the new map
+     *
+     * @return A new immutable map.
+     */
+    public static PropertyMap of(Map<String, String> properties) {
+        return properties.isEmpty() ? EMPTY : of(new HashMap<String, Object>(properties));
+    }
+
+    /**
+     * Returns a new builder of property maps.
+     *
+     * @return A new {@link Builder}.
+     */
+    public static Builder builder() {
+        return new Builder(null);
+    }
+
+    /**
+     * Returns a new builder of property maps, which accepts only the keys accepted by the specified filter.
+     *
+     * @param filter The filter of the accepted keys, or {@code null} if all keys should be accepted
+     *
+     * @return A new {@link Builder}.
+     */
+    public static Builder builder(KeyFilter filter) {
+        return new Builder(filter);
+    }
+
+    private static PropertyMap of(HashMap<String, Object> properties) {
+        if (properties.isEmpty()) {
+            return EMPTY;
+        }
+
+        // Keep the table at most half full, so probe sequences remain short
+        var capacity = Integer.highestOneBit(properties.size() * 2 - 1) << 1;
+        var keys = new String[capacity];
+        var values = new Object[capacity];
+        var mask = capacity - 1;
+
+        for (var entry : properties.entrySet()) {
+            var index = hash(entry.getKey()) & mask;
+
+            while (keys[index] != null) {
+                index = (index + 1) & mask;
+            }
+
+            keys[index] = entry.getKey();
+            values[index] = entry.getValue();
+        }
+
+        return new PropertyMap(keys, values, properties.size());
+    }
+
+    private static int hash(String key) {
+        var hash = key.hashCode();
+
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Returns the value of the specified key.
+     *
+     * @param key The key whose value should be returned
+     *
+     * @return The value of the key, or {@code null} if the key doesn't exist.
+     */
+    public String get(String key) {
+        var index = hash(key) & mask;
+        String candidate;
+
+        while ((candidate = keys[index]) != null) {
+            if (candidate.equals(key)) {
+                return getValue(index);
+            }
+
+            index = (index + 1) & mask;
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the value at the specified index, decoding it if it's still raw.
+     *
+     * @param index The index of the value
+     *
+     * @return The decoded value.
+     */
+    private String getValue(int index) {
+        var value = values[index];
+
+        if (value instanceof String string) {
+            return string;
+        }
+
+        // Racing threads decode equal strings, and strings are safely published regardless
+        var decoded = ((PropertiesParser.RawValue) value).decode();
+        values[index] = decoded;
+
+        return decoded;
+    }
+
+    /**
+     * Returns the value of the specified key, or the specified default value if the key doesn't exist.
+     *
+     * @param key          The key whose value should be returned
+     * @param defaultValue The value to be returned if the key doesn't exist
+     *
+     * @return The value of the key, or the default value.
+     */
+    public String getOrDefault(String key, String defaultValue) {
+        var value = get(key);
+
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Determines whether the specified key exists in this map.
+     *
+     * @param key The key to be checked
+     *
+     * @return {@code true} if the key exists, {@code false} otherwise.
+     */
+    public boolean containsKey(String key) {
+        var index = hash(key) & mask;
+        String candidate;
+
+        while ((candidate = keys[index]) != null) {
+            if (candidate.equals(key)) {
+                return true;
+            }
+
+            index = (index + 1) & mask;
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the number of entries in this map.
+     *
+     * @return The number of entries.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the estimated memory footprint of this map, in bytes.
+     * <p>
+     * Undecoded values retain the whole source they were lexed from, so each distinct source is charged
+     * in full, once, regardless of how many of its values this map still references.
+     *
+     * @return The estimated footprint.
+     */
+    long estimateSize() {
+        // Roughly the object headers and fields of the strings, along with the table slots
+        var size = 32L + keys.length * 8L;
+        var sources = Collections.newSetFromMap(new IdentityHashMap<byte[], Boolean>());
+
+        for (var i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                var value = values[i];
+
+                size += 48 + keys[i].length();
+
+                if (value instanceof PropertiesParser.RawValue raw) {
+                    size += 32;
+
+                    if (sources.add(raw.bytes())) {
+                        size += 16 + raw.bytes().length;
+                    }
+                } else {
+                    size += 48 + ((String) value).length();
+                }
+            }
+        }
+
+        return size;
+    }
+
+    /**
+     * Performs the specified action for each entry of this map, in no particular order.
+     *
+     * @param action The action to be performed
+     */
+    public void forEach(BiConsumer<String, String> action) {
+        for (var i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                action.accept(keys[i], getValue(i));
+            }
+        }
+    }
+
+    /**
+     * Accumulates the entries of a {@link PropertyMap}. Entries put later override earlier entries
+     * with the same key. Entries whose keys are rejected by the builder's filter (if any) are ignored.
+     */
+    public static final class Builder {
+        private final HashMap<String, Object> properties = new HashMap<>();
+
+        private final KeyFilter filter;
+
+        private Builder(KeyFilter filter) {
+            this.filter = filter;
+        }
+
+        /**
+         * Determines whether the specified key is accepted by this builder.
+         *
+         * @param key The key to be checked
+         *
+         * @return {@code true} if entries with the key are accepted, {@code false} if they're ignored.
+         */
+        boolean accepts(String key) {
+            return filter == null || filter.accepts(key);
+        }
+
+        /**
+         * Determines whether the key held by the specified range of characters is accepted by this builder.
+         *
+         * @param chars The characters holding the key
+         * @param start The index of the first character of the key
+         * @param end   The index following the last character of the key
+         *
+         * @return {@code true} if entries with the key are accepted, {@code false} if they're ignored.
+         */
+        boolean accepts(char[] chars, int start, int end) {
+            return filter == null || filter.accepts(chars, start, end);
+        }
+
+        /**
+         * Puts the specified entry into the map being built.
+         *
+         * @param key   The key of the entry
+         * @param value The value of the entry
+         *
+         * @return This builder.
+         */
+        public Builder put(String key, String value) {
+            if (accepts(key)) {
+                properties.put(key, value);
+            }
+
+            return this;
+        }
+
+        /**
+         * Puts the specified entry, whose value is decoded on first lookup, into the map being built.
+         *
+         * @param key   The key of the entry
+         * @param value The raw value of the entry
+         */
+        void put(String key, PropertiesParser.RawValue value) {
+            if (accepts(key)) {
+                properties.put(key, value);
+            }
+        }
+
+        /**
+         * Builds a new immutable map containing the accumulated entries.
+         *
+         * @return A new {@link PropertyMap}.
+         */
+        public PropertyMap build() {
+            return of(properties);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025 Georgi Vanev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jvanev.jxconfig.properties.internal;
+
+import com.jvanev.jxconfig.properties.ValueOrigin;
+import java.util.Map;
+
+/**
+ * The overridden values of the keys of a configuration type, consulted before its configuration file.
+ */
+public final class PropertyOverrides {
+    /**
+     * The overrides of a configuration type none of whose keys are overridden.
+     */
+    public static final PropertyOverrides NONE = new PropertyOverrides(Map.of());
+
+    private final Map<String, OverriddenValue> overrides;
+
+    /**
+     * A value overriding the value of a key in the configuration file.
+     *
+     * @param value  The overriding value
+     * @param origin The layer the value originates from
+     */
+    public record OverriddenValue(String value, ValueOrigin origin) {
+    }
+
+    /**
+     * Creates a new PropertyOverrides.
+     *
+     * @param overrides The overridden values, mapped to their configuration keys
+     */
+    PropertyOverrides(Map<String, OverriddenValue> overrides) {
+        this.overrides = Map.copyOf(overrides);
+    }
+
+    /**
+     * Returns the overridden value of the specified key.
+     *
+     * @param key The fully qualified configuration key
+     *
+     * @return The overridden value, or {@code null} if the key is not overridden.
+     */
+    public OverriddenValue get(String key) {
+        return overrides.isEmpty() ? null : overrides.get(key);
+    }
+}
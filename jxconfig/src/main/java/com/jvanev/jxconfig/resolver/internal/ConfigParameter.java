@@ -18,8 +18,7 @@ package com.jvanev.jxconfig.resolver.internal;
 import com.jvanev.jxconfig.annotation.ConfigProperty;
 import com.jvanev.jxconfig.annotation.DependsOnKey;
 import com.jvanev.jxconfig.annotation.DependsOnProperty;
-import com.jvanev.jxconfig.internal.ReflectionUtil;
-import java.lang.reflect.Parameter;
+import com.jvanev.jxconfig.internal.ParameterDescriptor;
 
 /**
  * Represents an entity designated as a configuration parameter. It can be based on a parameter
@@ -82,29 +81,36 @@ final class ConfigParameter {
      */
     final String dependencyValue;
 
+    /**
+     * The slot of the parameter this parameter depends on within its {@link ResolutionPlan},
+     * or {@link ResolutionPlan#NO_SLOT} if the parameter doesn't declare a dependency.
+     */
+    final int dependencySlot;
+
     /**
      * Creates a new ConfigParameter.
      *
-     * @param container The declaring class of the parameter
-     * @param parameter The parameter this class represents
-     * @param namespace The namespace within which the parameter is declared
+     * @param container      The declaring class of the parameter
+     * @param parameter      The descriptor of the parameter this class represents
+     * @param namespace      The namespace within which the parameter is declared
+     * @param dependencySlot The slot of the parameter's dependency, or {@link ResolutionPlan#NO_SLOT}
      */
-    ConfigParameter(Class<?> container, Parameter parameter, String namespace) {
-        parameterName = container.getSimpleName() + "." + parameter.getName();
+    ConfigParameter(Class<?> container, ParameterDescriptor parameter, String namespace, int dependencySlot) {
+        parameterName = container.getSimpleName() + "." + parameter.name();
 
-        var property = ReflectionUtil.getConfigProperty(container, parameter);
-        propertyKey = property.key();
-        propertyDefaultKey = property.defaultKey();
-        defaultValue = property.defaultValue();
+        propertyKey = parameter.key();
+        propertyDefaultKey = parameter.defaultKey();
+        defaultValue = parameter.defaultValue();
 
         fileKey = namespace.isBlank() ? propertyKey : namespace + "." + propertyKey;
         isVirtual = false;
 
-        var dependency = ReflectionUtil.getDependencyInfo(container, parameter);
+        var dependency = parameter.dependency();
         hasDependency = dependency != null;
         checkOperator = hasDependency ? dependency.operator() : "";
         dependencyName = hasDependency ? dependency.name() : "";
         dependencyValue = hasDependency ? dependency.value() : "";
+        this.dependencySlot = dependencySlot;
     }
 
     /**
@@ -131,6 +137,7 @@ final class ConfigParameter {
         checkOperator = "";
         dependencyName = "";
         dependencyValue = "";
+        dependencySlot = ResolutionPlan.NO_SLOT;
     }
 
     @Override
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2025 Georgi Vanev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jvanev.jxconfig.resolver.internal;
+
+import com.jvanev.jxconfig.annotation.ConfigNamespace;
+import com.jvanev.jxconfig.annotation.ConfigProperty;
+import com.jvanev.jxconfig.annotation.DependsOnKey;
+import com.jvanev.jxconfig.exception.CircularDependencyException;
+import com.jvanev.jxconfig.exception.InvalidDeclarationException;
+import com.jvanev.jxconfig.internal.ParameterDescriptor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The namespace-bound, immutable dependency graph of the {@link ConfigParameter}s a {@link ValueResolver}
+ * operates on.
+ * <p>
+ * Each configuration parameter occupies a slot, and refers to the slot of its dependency (if any).
+ * Since a parameter can depend on at most one other parameter, the graph is a forest, and any chain
+ * of dependencies can be evaluated starting from its root. Unknown dependencies and circular dependencies
+ * are rejected when the plan is built, so resolvers never need to check for them.
+ * <p>
+ * A plan is built once per configuration type and namespace and can be shared by any number of resolvers.
+ */
+public final class ResolutionPlan {
+    /**
+     * Indicates that a parameter has no slot, or a slot has no dependency.
+     */
+    static final int NO_SLOT = -1;
+
+    /**
+     * The simple name of the type declaring the parameters.
+     */
+    final String containerName;
+
+    /**
+     * Contains the metadata of constructor parameters annotated with {@link ConfigProperty}, in declaration
+     * order, followed by the metadata of the keys referenced by {@link DependsOnKey}.
+     */
+    final ConfigParameter[] slots;
+
+    /**
+     * Maps the index of each constructor parameter to a slot. Parameters annotated with {@link ConfigProperty}
+     * are mapped to their own slot, and parameters annotated with {@link ConfigNamespace} are mapped to the slot
+     * of their dependency, or to {@link #NO_SLOT} if they don't declare one.
+     */
+    final int[] parameterSlots;
+
+    /**
+     * Contains the virtual parameters created for the keys referenced by {@link DependsOnKey}.
+     */
+    final List<ConfigParameter> virtualParameters;
+
+    /**
+     * Creates a new ResolutionPlan.
+     *
+     * @param container  The type whose configuration values will be resolved
+     * @param namespace  The namespace from which configuration values will be retrieved
+     * @param parameters The descriptors of the parameters for which value resolution will be performed
+     *
+     * @throws InvalidDeclarationException If a parameter depends on an unknown parameter.
+     * @throws CircularDependencyException If a circular dependency is detected (e.g., A -> B -> A).
+     */
+    public ResolutionPlan(Class<?> container, String namespace, List<ParameterDescriptor> parameters) {
+        var slotsByKey = new HashMap<String, Integer>();
+        var virtualKeys = new ArrayList<String>();
+
+        for (var parameter : parameters) {
+            if (!parameter.isNamespace()) {
+                slotsByKey.put(parameter.key(), slotsByKey.size());
+            }
+        }
+
+        for (var parameter : parameters) {
+            var dependency = parameter.dependency();
+
+            // Create a virtual configuration parameter if the parameter depends on a key in the config file
+            if (dependency != null && dependency.isKeyDependency() && !slotsByKey.containsKey(dependency.name())) {
+                slotsByKey.put(dependency.name(), slotsByKey.size());
+                virtualKeys.add(dependency.name());
+            }
+        }
+
+        var configParameters = new ConfigParameter[slotsByKey.size()];
+        var slotCount = 0;
+
+        this.containerName = container.getSimpleName();
+        this.parameterSlots = new int[parameters.size()];
+
+        for (var i = 0; i < parameters.size(); i++) {
+            var parameter = parameters.get(i);
+            var dependencySlot = NO_SLOT;
+
+            if (parameter.dependency() != null) {
+                var slot = slotsByKey.get(parameter.dependency().name());
+
+                if (slot == null) {
+                    throw new InvalidDeclarationException(
+                        parameter.isNamespace()
+                            ? "Cannot resolve dependency %s declared on namespace %s.%s"
+                            .formatted(parameter.dependency().name(), containerName, parameter.name())
+                            : "Cannot resolve dependency %s declared on %s (%s.%s)"
+                            .formatted(parameter.dependency().name(), parameter.key(), containerName, parameter.name())
+                    );
+                }
+
+                dependencySlot = slot;
+            }
+
+            if (parameter.isNamespace()) {
+                parameterSlots[i] = dependencySlot;
+            } else {
+                configParameters[slotCount] = new ConfigParameter(container, parameter, namespace, dependencySlot);
+                parameterSlots[i] = slotCount++;
+            }
+        }
+
+        var virtualConfigParameters = new ArrayList<ConfigParameter>(virtualKeys.size());
+
+        for (var key : virtualKeys) {
+            var virtualConfigParameter = new ConfigParameter(key, namespace);
+
+            configParameters[slotCount++] = virtualConfigParameter;
+            virtualConfigParameters.add(virtualConfigParameter);
+        }
+
+        this.slots = configParameters;
+        this.virtualParameters = List.copyOf(virtualConfigParameters);
+
+        checkForCycles();
+    }
+
+    /**
+     * Adds the keys of the configuration file this plan reads to the specified collection: the namespaced key
+     * of each slot (including the keys referenced by {@link DependsOnKey}) and the key of each property
+     * default value.
+     *
+     * @param keys The collection receiving the keys
+     */
+    public void collectKeys(Collection<String> keys) {
+        for (var slot : slots) {
+            keys.add(slot.fileKey);
+
+            if (!slot.propertyDefaultKey.isBlank()) {
+                keys.add(slot.propertyDefaultKey);
+            }
+        }
+    }
+
+    /**
+     * Returns the fully qualified key of the specified parameter.
+     *
+     * @param parameterIndex The index of the constructor parameter (annotated with {@link ConfigProperty})
+     *
+     * @return The key of the parameter, including its namespace.
+     */
+    public String getFileKey(int parameterIndex) {
+        return slots[parameterSlots[parameterIndex]].fileKey;
+    }
+
+    /**
+     * Adds the keys read by the dependency chain of the specified parameter to the specified collection,
+     * including the keys of the property default values within the chain. For parameters annotated with
+     * {@link ConfigProperty}, the chain starts with the parameter itself.
+     *
+     * @param parameterIndex The index of the constructor parameter
+     * @param keys           The collection receiving the keys
+     */
+    public void collectDependencyKeys(int parameterIndex, Collection<String> keys) {
+        for (var slot = parameterSlots[parameterIndex]; slot != NO_SLOT; slot = slots[slot].dependencySlot) {
+            keys.add(slots[slot].fileKey);
+
+            if (!slots[slot].propertyDefaultKey.isBlank()) {
+                keys.add(slots[slot].propertyDefaultKey);
+            }
+        }
+    }
+
+    /**
+     * Determines whether the dependency chain of the specified parameter reads any of the specified keys, either
+     * directly or through a property default value. For parameters annotated with {@link ConfigNamespace},
+     * this determines whether the outcome of the namespace's dependency may depend on the keys.
+     *
+     * @param parameterIndex The index of the constructor parameter
+     * @param keys           The keys to be checked
+     *
+     * @return {@code true} if the chain reads any of the keys, {@code false} otherwise.
+     */
+    public boolean dependsOnAny(int parameterIndex, Set<String> keys) {
+        for (var slot = parameterSlots[parameterIndex]; slot != NO_SLOT; slot = slots[slot].dependencySlot) {
+            if (keys.contains(slots[slot].fileKey) || keys.contains(slots[slot].propertyDefaultKey)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Ensures that no dependency chain in this plan is circular.
+     *
+     * @throws CircularDependencyException If a circular dependency is detected (e.g., A -> B -> A).
+     */
+    private void checkForCycles() {
+        // 0 - not visited, 1 - on the current chain, 2 - known to lead to a root
+        var states = new byte[slots.length];
+        var chain = new int[slots.length];
+
+        for (var slot = 0; slot < slots.length; slot++) {
+            var length = 0;
+            var current = slot;
+
+            while (current != NO_SLOT && states[current] == 0) {
+                states[current] = 1;
+                chain[length++] = current;
+                current = slots[current].dependencySlot;
+            }
+
+            if (current != NO_SLOT && states[current] == 1) {
+                var links = new ArrayList<String>(length + 1);
+
+                for (var i = 0; i < length; i++) {
+                    links.add(slots[chain[i]].toString());
+                }
+
+                links.add(slots[current].toString());
+
+                throw new CircularDependencyException(
+                    "Circular dependency chain detected: " + String.join(" depends on -> ", links)
+                );
+            }
+
+            for (var i = 0; i < length; i++) {
+                states[chain[i]] = 2;
+            }
+        }
+    }
+}
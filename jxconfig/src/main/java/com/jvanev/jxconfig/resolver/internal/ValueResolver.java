@@ -17,92 +17,98 @@ package com.jvanev.jxconfig.resolver.internal;
 
 import com.jvanev.jxconfig.annotation.ConfigNamespace;
 import com.jvanev.jxconfig.annotation.ConfigProperty;
+import com.jvanev.jxconfig.annotation.DependsOnKey;
 import com.jvanev.jxconfig.annotation.DependsOnProperty;
-import com.jvanev.jxconfig.exception.CircularDependencyException;
 import com.jvanev.jxconfig.exception.InvalidDeclarationException;
-import com.jvanev.jxconfig.internal.ReflectionUtil;
+import com.jvanev.jxconfig.internal.ParameterDescriptor;
+import com.jvanev.jxconfig.properties.ValueOrigin;
+import com.jvanev.jxconfig.properties.internal.PropertyMap;
+import com.jvanev.jxconfig.properties.internal.PropertyOverrides;
 import com.jvanev.jxconfig.resolver.DependencyChecker;
-import java.lang.reflect.Parameter;
-import java.util.HashMap;
-import java.util.LinkedHashSet;
-import java.util.Map;
-import java.util.Properties;
-import java.util.Set;
 
 /**
  * A mechanism for resolving the runtime values of configuration properties scoped to a given namespace.
- * This resolver efficiently handles both direct and indirect (chained) dependencies during the resolution process,
- * including detection of circular dependencies.
+ * <p>
+ * The resolver evaluates the dependency graph precomputed by its {@link ResolutionPlan}. Each dependency chain
+ * is evaluated from its root towards the dependent parameter, and every value and dependency outcome is computed
+ * at most once and reused by all parameters and namespaces depending on it.
  */
 public final class ValueResolver {
-    private final Properties properties;
+    private static final byte UNKNOWN = 0;
 
-    private final Class<?> container;
+    private static final byte SATISFIED = 1;
+
+    private static final byte UNSATISFIED = 2;
+
+    private final PropertyMap properties;
+
+    private final PropertyOverrides overrides;
 
     private final DependencyChecker dependencyChecker;
 
+    private final ResolutionPlan plan;
+
+    /**
+     * The already resolved configuration values, indexed by slot.
+     */
+    private final String[] resolvedValues;
+
+    /**
+     * The already resolved default values, indexed by slot.
+     */
+    private final String[] resolvedDefaultValues;
+
     /**
-     * Contains the metadata of constructor parameters annotated with {@link ConfigProperty}, keyed by their
-     * {@link ConfigProperty#key()}.
+     * The origins of the already resolved configuration values, indexed by slot.
      */
-    private final Map<String, ConfigParameter> parameters = new HashMap<>();
+    private final ValueOrigin[] valueOrigins;
 
     /**
-     * A cache for already resolved values, mapped to their fully qualified key in the configuration file.
+     * The origins of the already resolved default values, indexed by slot.
      */
-    private final Map<String, String> resolvedValues = new HashMap<>();
+    private final ValueOrigin[] defaultValueOrigins;
 
     /**
-     * A cache for already resolved default values, mapped to their fully qualified key in the configuration file.
+     * The already evaluated dependency outcomes, indexed by slot.
      */
-    private final Map<String, String> resolvedDefaultValues = new HashMap<>();
+    private final byte[] dependencyOutcomes;
+
+    /**
+     * A scratch buffer holding the unevaluated links of the dependency chain being evaluated.
+     */
+    private int[] chain;
 
     /**
      * Creates a new ValueResolver.
      *
-     * @param properties The {@link Properties} instance containing the raw configuration key-value pairs
-     * @param container  The {@link Class} whose configuration values will be resolved
-     * @param namespace  The namespace from which configuration values will be retrieved
-     * @param parameters The parameters for which value resolution will be performed
+     * @param properties The map containing the raw configuration key-value pairs
+     * @param overrides  The overridden values, taking precedence over the configuration key-value pairs
+     * @param plan       The plan describing the parameters for which value resolution will be performed
      * @param checker    The custom dependency condition checking mechanism
+     *
+     * @throws InvalidDeclarationException If a key referenced by {@link DependsOnKey} doesn't exist
+     *                                     in the configuration file or its overrides.
      */
     public ValueResolver(
-        Properties properties,
-        Class<?> container,
-        String namespace,
-        Parameter[] parameters,
+        PropertyMap properties,
+        PropertyOverrides overrides,
+        ResolutionPlan plan,
         DependencyChecker checker
     ) {
         this.properties = properties;
-        this.container = container;
+        this.overrides = overrides;
         this.dependencyChecker = checker;
-
-        for (Parameter parameter : parameters) {
-            if (!ReflectionUtil.isConfigNamespace(parameter)) {
-                var property = ReflectionUtil.getConfigProperty(container, parameter);
-                var configParameter = new ConfigParameter(container, parameter, namespace);
-
-                this.parameters.put(property.key(), configParameter);
-            }
-
-            var dependency = ReflectionUtil.getDependencyInfo(container, parameter);
-
-            // Create a virtual configuration parameter if the parameter depends on a key in the config file
-            if (dependency != null) {
-                if (dependency.isKeyDependency()) {
-                    this.parameters.computeIfAbsent(
-                        dependency.name(), key -> {
-                            var virtualConfigParameter = new ConfigParameter(key, namespace);
-
-                            // Trigger a check for existence
-                            // This method will throw if the key doesn't exist in the configuration file
-                            getConfigValue(virtualConfigParameter);
-
-                            return virtualConfigParameter;
-                        }
-                    );
-                }
-            }
+        this.plan = plan;
+        this.resolvedValues = new String[plan.slots.length];
+        this.resolvedDefaultValues = new String[plan.slots.length];
+        this.dependencyOutcomes = new byte[plan.slots.length];
+        this.valueOrigins = new ValueOrigin[plan.slots.length];
+        this.defaultValueOrigins = new ValueOrigin[plan.slots.length];
+
+        for (var slot = plan.slots.length - plan.virtualParameters.size(); slot < plan.slots.length; slot++) {
+            // Trigger a check for existence
+            // This method will throw if the key doesn't exist in the configuration file
+            getConfigValue(slot);
         }
     }
 
@@ -123,37 +129,62 @@ public final class ValueResolver {
      *     </li>
      * </ul>
      *
-     * @param parameter The parameter whose value should be resolved.
+     * @param parameterIndex The index of the constructor parameter (annotated with {@link ConfigProperty})
+     *                       whose value should be resolved
      *
      * @return The resolved value.
      *
      * @throws InvalidDeclarationException If the parameter is not declared properly.
-     * @throws CircularDependencyException If a circular dependency is detected in
-     *                                     the dependency chain of the parameter.
      */
-    public String resolveValue(Parameter parameter) {
-        var configParameter = getConfigParameter(parameter);
-
-        return !configParameter.hasDependency || isDependencyChainSatisfied(configParameter, new LinkedHashSet<>())
-            ? getConfigValue(configParameter)
-            : getDefaultValue(configParameter);
+    public String resolveValue(int parameterIndex) {
+        return resolve(plan.parameterSlots[parameterIndex]);
     }
 
     /**
      * Returns the default value for the specified parameter.
      *
-     * @param parameter The parameter whose default value should be retrieved
+     * @param parameterIndex The index of the constructor parameter (annotated with {@link ConfigProperty})
+     *                       whose default value should be retrieved
      *
      * @return The parameter's default value.
      *
      * @throws InvalidDeclarationException If the parameter is not declared properly.
      */
-    public String getDefaultValue(Parameter parameter) {
-        return getDefaultValue(getConfigParameter(parameter));
+    public String getDefaultValue(int parameterIndex) {
+        return resolveDefaultValue(plan.parameterSlots[parameterIndex]);
+    }
+
+    /**
+     * Returns the origin of the value returned by {@link #resolveValue(int)} for the specified parameter.
+     * The value must have already been resolved.
+     *
+     * @param parameterIndex The index of the constructor parameter (annotated with {@link ConfigProperty})
+     *
+     * @return The origin of the resolved value.
+     */
+    public ValueOrigin getValueOrigin(int parameterIndex) {
+        var slot = plan.parameterSlots[parameterIndex];
+
+        // The dependency outcome has already been evaluated while the value was resolved
+        return plan.slots[slot].dependencySlot == ResolutionPlan.NO_SLOT || isDependencyChainSatisfied(slot)
+            ? valueOrigins[slot]
+            : defaultValueOrigins[slot];
     }
 
     /**
-     * Determines whether the dependency condition for the specified parameter is satisfied.
+     * Returns the origin of the value returned by {@link #getDefaultValue(int)} for the specified parameter.
+     * The default value must have already been resolved.
+     *
+     * @param parameterIndex The index of the constructor parameter (annotated with {@link ConfigProperty})
+     *
+     * @return The origin of the default value.
+     */
+    public ValueOrigin getDefaultValueOrigin(int parameterIndex) {
+        return defaultValueOrigins[plan.parameterSlots[parameterIndex]];
+    }
+
+    /**
+     * Determines whether the dependency condition for the specified namespace parameter is satisfied.
      * <p>
      * The condition is satisfied if, and only if:
      * <ul>
@@ -161,69 +192,92 @@ public final class ValueResolver {
      *     <li>The resolved value of the declared dependency satisfies the dependency condition</li>
      * </ul>
      *
-     * @param parameter The parameter whose condition should be checked; must be annotated with {@link ConfigNamespace}
+     * @param parameterIndex The index of the constructor parameter annotated with {@link ConfigNamespace}
+     * @param parameter      The descriptor of the namespace parameter
      *
      * @return {@code true} if the namespace's dependency condition is satisfied, {@code false} otherwise.
-     *
-     * @throws InvalidDeclarationException If the namespace depends on an unknown parameter.
-     * @throws CircularDependencyException If a circular dependency is detected (e.g., A -> B -> A).
      */
-    public boolean isNamespaceDependencySatisfied(Parameter parameter) {
-        var dependencyInfo = ReflectionUtil.getDependencyInfo(container, parameter);
+    public boolean isNamespaceDependencySatisfied(int parameterIndex, ParameterDescriptor parameter) {
+        var dependencyInfo = parameter.dependency();
 
         if (dependencyInfo == null) {
             return true;
         }
 
-        var dependency = parameters.get(dependencyInfo.name());
-        var dependencyValue = !dependency.hasDependency || isDependencyChainSatisfied(dependency, new LinkedHashSet<>())
-            ? getConfigValue(dependency)
-            : getDefaultValue(dependency);
+        var dependencyValue = resolve(plan.parameterSlots[parameterIndex]);
         var requiredValue = dependencyInfo.value();
         var operator = dependencyInfo.operator();
 
         return operator.isEmpty()
             ? requiredValue.equals(dependencyValue)
-            : compareWithChecker(parameter, dependencyInfo, dependencyValue, operator, requiredValue);
+            : compareWithChecker(parameter.name(), dependencyValue, operator, requiredValue);
     }
 
     /**
-     * Determines whether the dependency of the specified parameter matches the required value,
-     * traversing the whole dependency chain (e.g., A depends on B, B depends on C).
+     * Returns the configuration value of the specified slot if its dependency chain is satisfied,
+     * or its default value otherwise.
+     *
+     * @param slot The slot whose value should be resolved
      *
-     * @param dependentParameter The parameter whose dependency should be checked
-     * @param checkedLinks       A register of visited links during the current dependency chain traversal
+     * @return The resolved value.
+     */
+    private String resolve(int slot) {
+        return plan.slots[slot].dependencySlot == ResolutionPlan.NO_SLOT || isDependencyChainSatisfied(slot)
+            ? getConfigValue(slot)
+            : resolveDefaultValue(slot);
+    }
+
+    /**
+     * Determines whether the dependency of the specified slot matches the required value,
+     * taking the whole dependency chain into account (e.g., A depends on B, B depends on C).
+     * <p>
+     * The unevaluated links of the chain are collected first, and then evaluated in topological order
+     * (i.e., starting from the link closest to the root), so each link is evaluated exactly once.
      *
-     * @return {@code true} if the dependency condition for the current {@code dependentParameter} and its
-     * entire upstream chain is satisfied, {@code false} otherwise.
+     * @param slot The slot whose dependency should be checked
      *
-     * @throws InvalidDeclarationException If a parameter in the dependency chain depends on an unknown parameter.
-     * @throws CircularDependencyException If a circular dependency is detected (e.g., A -> B -> A).
+     * @return {@code true} if the dependency condition for the specified slot and its entire upstream chain
+     * is satisfied, {@code false} otherwise.
      */
-    private boolean isDependencyChainSatisfied(ConfigParameter dependentParameter, Set<String> checkedLinks) {
-        if (!checkedLinks.add(dependentParameter.propertyKey)) {
-            var links = checkedLinks.stream().map(parameters::get).map(ConfigParameter::toString).toList();
-            var chain = String.join(" depends on -> ", links) + " depends on -> " + dependentParameter;
+    private boolean isDependencyChainSatisfied(int slot) {
+        if (dependencyOutcomes[slot] == UNKNOWN) {
+            if (chain == null) {
+                chain = new int[plan.slots.length];
+            }
 
-            throw new CircularDependencyException("Circular dependency chain detected: " + chain);
-        }
+            var length = 0;
 
-        var dependency = getDependency(dependentParameter);
-        var dependencyValue = !dependency.hasDependency || isDependencyChainSatisfied(dependency, checkedLinks)
-            ? getConfigValue(dependency)
-            : getDefaultValue(dependency);
-        var requiredValue = dependentParameter.dependencyValue;
-        var operator = dependentParameter.checkOperator;
+            // The plan guarantees that the chain ends (i.e., there are no circular dependencies)
+            for (var link = slot;
+                 link != ResolutionPlan.NO_SLOT && dependencyOutcomes[link] == UNKNOWN;
+                 link = plan.slots[link].dependencySlot) {
+                if (plan.slots[link].dependencySlot != ResolutionPlan.NO_SLOT) {
+                    chain[length++] = link;
+                }
+            }
 
-        return operator.isEmpty()
-            ? dependentParameter.dependencyValue.equals(dependencyValue)
-            : compareWithChecker(dependentParameter, dependencyValue, operator, requiredValue);
+            for (var i = length - 1; i >= 0; i--) {
+                var dependentParameter = plan.slots[chain[i]];
+                // The dependency is either a root or has already been evaluated
+                var dependencyValue = resolve(dependentParameter.dependencySlot);
+                var requiredValue = dependentParameter.dependencyValue;
+                var operator = dependentParameter.checkOperator;
+                var isSatisfied = operator.isEmpty()
+                    ? requiredValue.equals(dependencyValue)
+                    : compareWithChecker(dependentParameter, dependencyValue, operator, requiredValue);
+
+                dependencyOutcomes[chain[i]] = isSatisfied ? SATISFIED : UNSATISFIED;
+            }
+        }
+
+        return dependencyOutcomes[slot] == SATISFIED;
     }
 
     /**
      * Uses the specified operator to compare the specified dependency's value against its required value.
      *
-     * @param dependentParameter The parameter to be used to build a debug message if the check fails
+     * @param dependentParameter The name of the namespace parameter to be used to build a debug message
+     *                           if the check fails
      * @param dependencyValue    The resolved value of the dependency
      * @param operator           The operator to be used for the comparison
      * @param requiredValue      The value to compare the dependency's value against
@@ -233,15 +287,14 @@ public final class ValueResolver {
      * @throws NullPointerException If {@link #dependencyChecker} is {@code null};
      */
     private boolean compareWithChecker(
-        Parameter dependentParameter,
-        ReflectionUtil.DependencyInfo dependencyInfo,
+        String dependentParameter,
         String dependencyValue,
         String operator,
         String requiredValue
     ) {
         if (dependencyChecker == null) {
-            var fullName = container.getSimpleName() + "." + dependentParameter.getName();
-            var identity = fullName + "(operator " + dependencyInfo.operator() + ")";
+            var fullName = plan.containerName + "." + dependentParameter;
+            var identity = fullName + "(operator " + operator + ")";
 
             throw new NullPointerException("No custom dependency checker found for " + identity);
         }
@@ -276,48 +329,11 @@ public final class ValueResolver {
         return dependencyChecker.check(dependencyValue, operator, requiredValue);
     }
 
-    /**
-     * Returns the {@link ConfigParameter} associated with the specified parameter.
-     *
-     * @param parameter The parameter whose {@link ConfigParameter} representation should be retrieved
-     *
-     * @return The {@link ConfigParameter} corresponding to the specified parameter.
-     *
-     * @throws InvalidDeclarationException If the specified parameter is not associated with a {@link ConfigParameter}.
-     */
-    private ConfigParameter getConfigParameter(Parameter parameter) {
-        var property = ReflectionUtil.getConfigProperty(container, parameter);
-
-        return parameters.get(property.key());
-    }
-
-    /**
-     * Returns the {@link ConfigParameter} the specified parameter depends on.
-     *
-     * @param parameter The parameter whose dependency should be retrieved
-     *
-     * @return The {@link ConfigParameter} dependency.
-     *
-     * @throws InvalidDeclarationException If the specified parameter doesn't declare a dependency,
-     *                                     or the dependency is either in a different namespace or doesn't exist.
-     */
-    private ConfigParameter getDependency(ConfigParameter parameter) {
-        var dependency = parameters.get(parameter.dependencyName);
-
-        if (dependency == null) {
-            throw new InvalidDeclarationException(
-                "Cannot resolve dependency " + parameter.dependencyName + " declared on " + parameter
-            );
-        }
-
-        return dependency;
-    }
-
     /**
      * Attempts to retrieve the configuration value corresponding to {@link ConfigParameter#fileKey}
-     * from the configuration source.
+     * of the specified slot from its overrides, or from the configuration source if it's not overridden.
      *
-     * @param parameter The parameter whose associated configuration value should be retrieved
+     * @param slot The slot whose associated configuration value should be retrieved
      *
      * @return The value of the key specified by {@link ConfigParameter#fileKey},
      * or {@link ConfigParameter#defaultValue} if no such key is defined in the source.
@@ -325,56 +341,83 @@ public final class ValueResolver {
      * @throws InvalidDeclarationException If the specified parameter is virtual
      *                                     and its configuration value cannot be found
      */
-    private String getConfigValue(ConfigParameter parameter) {
-        return resolvedValues.computeIfAbsent(
-            parameter.fileKey, key -> {
-                var value = properties.getProperty(key, parameter.isVirtual ? null : getDefaultValue(parameter));
+    private String getConfigValue(int slot) {
+        var value = resolvedValues[slot];
+
+        if (value == null) {
+            var parameter = plan.slots[slot];
+
+            var defaultValue = parameter.isVirtual ? null : resolveDefaultValue(slot);
+            var override = overrides.get(parameter.fileKey);
+
+            if (override != null) {
+                value = override.value();
+                valueOrigins[slot] = override.origin();
+            } else {
+                value = properties.get(parameter.fileKey);
+                valueOrigins[slot] = ValueOrigin.FILE;
 
-                // Configuration property depends on nonexistent key in the configuration file
                 if (value == null) {
-                    throw new InvalidDeclarationException(
-                        "Property key '%s' of %s cannot be found in the configuration file"
-                            .formatted(parameter.fileKey, parameter)
-                    );
+                    value = defaultValue;
+                    valueOrigins[slot] = defaultValueOrigins[slot];
                 }
+            }
 
-                return value;
+            // Configuration property depends on nonexistent key in the configuration file
+            if (value == null) {
+                throw new InvalidDeclarationException(
+                    "Property key '%s' of %s cannot be found in the configuration file"
+                        .formatted(parameter.fileKey, parameter)
+                );
             }
-        );
+
+            resolvedValues[slot] = value;
+        }
+
+        return value;
     }
 
     /**
-     * Returns the default value for the specified parameter.
+     * Returns the default value of the specified slot.
      *
-     * @param parameter The parameter whose default value should be retrieved
+     * @param slot The slot whose default value should be retrieved
      *
      * @return The default value for the parameter.
      *
      * @throws InvalidDeclarationException If the parameter specifies a default property
      *                                     that's missing in the configuration file.
      */
-    private String getDefaultValue(ConfigParameter parameter) {
-        return resolvedDefaultValues.computeIfAbsent(
-            parameter.fileKey, key -> {
-                String defaultValue;
+    private String resolveDefaultValue(int slot) {
+        var defaultValue = resolvedDefaultValues[slot];
 
-                if (parameter.propertyDefaultKey.isBlank()) {
-                    defaultValue = parameter.defaultValue;
+        if (defaultValue == null) {
+            var parameter = plan.slots[slot];
+
+            if (parameter.propertyDefaultKey.isBlank()) {
+                defaultValue = parameter.defaultValue;
+                defaultValueOrigins[slot] = ValueOrigin.DEFAULT;
+            } else {
+                var override = overrides.get(parameter.propertyDefaultKey);
+
+                if (override != null) {
+                    defaultValue = override.value();
+                    defaultValueOrigins[slot] = override.origin();
                 } else {
-                    var defaultKeyValue = properties.getProperty(parameter.propertyDefaultKey);
-
-                    if (defaultKeyValue == null) {
-                        throw new InvalidDeclarationException(
-                            "Default property has been set for %s but is not defined in the configuration file"
-                                .formatted(parameter)
-                        );
-                    } else {
-                        defaultValue = defaultKeyValue;
-                    }
+                    defaultValue = properties.get(parameter.propertyDefaultKey);
+                    defaultValueOrigins[slot] = ValueOrigin.FILE;
                 }
 
-                return defaultValue;
+                if (defaultValue == null) {
+                    throw new InvalidDeclarationException(
+                        "Default property has been set for %s but is not defined in the configuration file"
+                            .formatted(parameter)
+                    );
+                }
             }
-        );
+
+            resolvedDefaultValues[slot] = defaultValue;
+        }
+
+        return defaultValue;
     }
 }
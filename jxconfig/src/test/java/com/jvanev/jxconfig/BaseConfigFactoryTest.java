@@ -19,12 +19,18 @@ import com.jvanev.jxconfig.annotation.ConfigFile;
 import com.jvanev.jxconfig.annotation.ConfigProperty;
 import com.jvanev.jxconfig.exception.ConfigurationBuildException;
 import com.jvanev.jxconfig.exception.InvalidDeclarationException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -71,6 +77,17 @@ class BaseConfigFactoryTest {
             assertEquals(0xFF, config.integerProperty);
         }
 
+        @Test
+        void repeatedCreation_ShouldProduceEqualButDistinctInstances() {
+            var config = factory.createConfig(BaseConfiguration.class);
+            var anotherConfig = factory.createConfig(BaseConfiguration.class);
+
+            assertAll(
+                () -> assertNotSame(config, anotherConfig),
+                () -> assertEquals(config, anotherConfig)
+            );
+        }
+
         @ConfigFile(filename = "BaseTestConfiguration.properties")
         public static class BaseClassConfiguration {
             public final boolean booleanProperty;
@@ -188,6 +205,24 @@ class BaseConfigFactoryTest {
             );
         }
 
+        @ConfigFile(filename = "BaseTestConfiguration.properties")
+        public record ThrowingConstructorConfiguration(
+            @ConfigProperty(key = "BooleanProperty")
+            boolean booleanProperty
+        ) {
+            public ThrowingConstructorConfiguration {
+                throw new IllegalStateException("Rejected by the constructor");
+            }
+        }
+
+        @Test
+        void onConstructorFailure_ShouldThrow() {
+            assertThrows(
+                ConfigurationBuildException.class,
+                () -> factory.createConfig(ThrowingConstructorConfiguration.class)
+            );
+        }
+
         @ConfigFile(filename = "BaseTestConfiguration")
         public record MissingFileConfiguration(
             @ConfigProperty(key = "BooleanProperty")
@@ -321,6 +356,66 @@ class BaseConfigFactoryTest {
         ) {
         }
 
+        @ConfigFile(filename = "Utf8TestConfiguration.properties")
+        public record Utf8Configuration(
+            @ConfigProperty(key = "Greeting")
+            String greeting,
+
+            @ConfigProperty(key = "City")
+            String city
+        ) {
+        }
+
+        @Test
+        void shouldLoadUtf8Files() {
+            var factory = ConfigFactory.builder()
+                .withClasspathDir(TEST_PATH)
+                .withCharset(StandardCharsets.UTF_8)
+                .build();
+            var config = factory.createConfig(Utf8Configuration.class);
+
+            assertAll(
+                () -> assertEquals("Здравей, свят", config.greeting()),
+                () -> assertEquals("São Paulo é", config.city())
+            );
+        }
+
+        @Test
+        void memoryMappedFiles_ShouldLoadLikeReadFiles() {
+            var dir = System.getProperty("user.dir") + "/src/test/resources/config";
+            var factory = ConfigFactory.builder()
+                .withFilesystemDir(dir)
+                .withCharset(StandardCharsets.UTF_8)
+                .withMemoryMappingThreshold(0)
+                .build();
+            var config = factory.createConfig(BaseConfiguration.class);
+            var utf8Config = factory.createConfig(Utf8Configuration.class);
+
+            assertAll(
+                () -> assertTrue(config.booleanProperty()),
+                () -> assertTrue(config.anotherBooleanProperty()),
+                () -> assertTrue(config.overridableBooleanProperty()),
+                () -> assertEquals("Здравей, свят", utf8Config.greeting()),
+                () -> assertEquals("São Paulo é", utf8Config.city())
+            );
+        }
+
+        @Test
+        void negativeMemoryMappingThreshold_ShouldThrow() {
+            assertThrows(
+                IllegalArgumentException.class,
+                () -> ConfigFactory.builder().withMemoryMappingThreshold(-1)
+            );
+        }
+
+        @Test
+        void unsupportedCharset_ShouldThrow() {
+            assertThrows(
+                IllegalArgumentException.class,
+                () -> ConfigFactory.builder().withCharset(StandardCharsets.UTF_16)
+            );
+        }
+
         @Test
         void shouldNotThrowWhenClasspathFileDoesNotExist() {
             var dir = System.getProperty("user.dir") + "/src/test/resources/config";
@@ -336,4 +431,58 @@ class BaseConfigFactoryTest {
             );
         }
     }
+
+    @Nested
+    class AsyncTests {
+        private static final String DIRECTORY = System.getProperty("user.dir") + "/src/test/resources/config";
+
+        @Test
+        void asyncCreation_ShouldMatchSynchronousCreation() {
+            var executions = new AtomicInteger();
+            var asyncFactory = ConfigFactory.builder()
+                .withFilesystemDir(DIRECTORY)
+                .withAsyncExecutor(task -> {
+                    executions.incrementAndGet();
+                    ForkJoinPool.commonPool().execute(task);
+                })
+                .build();
+
+            var config = asyncFactory.createConfigAsync(FileLoaderTests.BaseConfiguration.class).join();
+
+            assertAll(
+                () -> assertEquals(asyncFactory.createConfig(FileLoaderTests.BaseConfiguration.class), config),
+                () -> assertTrue(config.overridableBooleanProperty()),
+                () -> assertTrue(executions.get() > 0)
+            );
+        }
+
+        @Test
+        void cachedAsyncCreation_ShouldMatchSynchronousCreation() {
+            var asyncFactory = ConfigFactory.builder()
+                .withFilesystemDir(DIRECTORY)
+                .withFileCache(4, 1024 * 1024)
+                .build();
+
+            assertEquals(
+                asyncFactory.createConfig(FileLoaderTests.BaseConfiguration.class),
+                asyncFactory.createConfigAsync(FileLoaderTests.BaseConfiguration.class).join()
+            );
+        }
+
+        @Test
+        void buildFailures_ShouldCompleteExceptionally() {
+            var future = factory.createConfigAsync(InvalidConfigurations.MissingFileConfiguration.class);
+            var exception = assertThrows(ExecutionException.class, future::get);
+
+            assertInstanceOf(ConfigurationBuildException.class, exception.getCause());
+        }
+
+        @Test
+        void declarationFailures_ShouldCompleteExceptionally() {
+            var future = factory.createConfigAsync(InvalidConfigurations.MissingConfigFileAnnotation.class);
+            var exception = assertThrows(ExecutionException.class, future::get);
+
+            assertInstanceOf(InvalidDeclarationException.class, exception.getCause());
+        }
+    }
 }
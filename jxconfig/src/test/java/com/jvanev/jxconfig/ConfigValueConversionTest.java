@@ -17,21 +17,26 @@ package com.jvanev.jxconfig;
 
 import com.jvanev.jxconfig.annotation.ConfigFile;
 import com.jvanev.jxconfig.annotation.ConfigProperty;
+import com.jvanev.jxconfig.annotation.Delimiters;
 import com.jvanev.jxconfig.exception.ConfigurationBuildException;
+import com.jvanev.jxconfig.exception.InvalidDeclarationException;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -168,6 +173,52 @@ class ConfigValueConversionTest {
         }
     }
 
+    @Nested
+    class CustomDelimiterTests {
+        @ConfigFile(filename = "ValueConversionsTestConfiguration.properties")
+        public record DelimitersConfiguration(
+            @ConfigProperty(key = "SemicolonSeparatedIntegerArray")
+            @Delimiters(entries = ';')
+            int[] integerArray,
+
+            @ConfigProperty(key = "RetryBackoffMap")
+            @Delimiters(entries = ';', keyValue = '=')
+            Map<String, List<Integer>> retryBackoff
+        ) {
+        }
+
+        @ConfigFile(filename = "ValueConversionsTestConfiguration.properties")
+        public record WhitespaceDelimiterConfiguration(
+            @ConfigProperty(key = "SemicolonSeparatedIntegerArray")
+            @Delimiters(entries = ' ')
+            int[] integerArray
+        ) {
+        }
+
+        @Test
+        void customDelimiters_ShouldSplitOutermostAggregate() {
+            var config = factory.createConfig(DelimitersConfiguration.class);
+
+            assertAll(
+                () -> assertArrayEquals(new int[] {1, 2, 3}, config.integerArray()),
+                () -> assertEquals(
+                    Map.of("Fast", List.of(1, 2, 4), "Slow", List.of(10, 30)),
+                    config.retryBackoff()
+                )
+            );
+        }
+
+        @Test
+        void whitespaceDelimiter_ShouldThrow() {
+            var exception = assertThrows(
+                ConfigurationBuildException.class,
+                () -> factory.createConfig(WhitespaceDelimiterConfiguration.class)
+            );
+
+            assertInstanceOf(InvalidDeclarationException.class, exception.getCause());
+        }
+    }
+
     @Nested
     class CustomTypeSupportTests {
         @ConfigFile(filename = "ValueConversionsTestConfiguration.properties")
@@ -21,11 +21,17 @@ import com.jvanev.jxconfig.annotation.ConfigProperty;
 import com.jvanev.jxconfig.annotation.DependsOnProperty;
 import com.jvanev.jxconfig.exception.ConfigurationBuildException;
 import com.jvanev.jxconfig.exception.InvalidDeclarationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -239,4 +245,144 @@ class ConfigurationContainerFactoryTest {
             () -> factory.createConfigContainer(InaccessibleConfigurationContainer.class)
         );
     }
+
+    @ConfigFile(filename = "MissingTestConfiguration.properties")
+    public record MissingFileConfiguration(
+        @ConfigProperty(key = "BooleanProperty")
+        boolean booleanProperty
+    ) {
+    }
+
+    public record FailingConfigurationContainer(
+        NamespaceConfiguration namespaceConfiguration,
+        MissingFileConfiguration missingFileConfiguration,
+        MultipleConstructorsConfiguration multipleConstructorsConfiguration
+    ) {
+    }
+
+    public record FirstFailingConfigurationContainer(
+        MissingFileConfiguration missingFileConfiguration,
+        BaseConfiguration baseConfiguration,
+        NamespaceConfiguration namespaceConfiguration
+    ) {
+    }
+
+    @Nested
+    class ConcurrentBuildTests {
+        @Test
+        void concurrentlyBuiltContainer_ShouldMatchSequentiallyBuiltContainer() {
+            var concurrentFactory = ConfigFactory.builder()
+                .withClasspathDir(TEST_PATH)
+                .withConcurrentContainerBuild()
+                .build();
+
+            assertEquals(
+                factory.createConfigContainer(ConfigurationContainer.class),
+                concurrentFactory.createConfigContainer(ConfigurationContainer.class)
+            );
+        }
+
+        @Test
+        void customExecutor_ShouldBuildEveryConfigurationType() {
+            var executions = new AtomicInteger();
+            var concurrentFactory = ConfigFactory.builder()
+                .withClasspathDir(TEST_PATH)
+                .withConcurrentContainerBuild(task -> {
+                    executions.incrementAndGet();
+                    ForkJoinPool.commonPool().execute(task);
+                })
+                .build();
+
+            concurrentFactory.createConfigContainer(ConfigurationContainer.class);
+
+            assertEquals(4, executions.get());
+        }
+
+        @Test
+        void failures_ShouldBeReportedInDeclarationOrder() {
+            var concurrentFactory = ConfigFactory.builder()
+                .withClasspathDir(TEST_PATH)
+                .withConcurrentContainerBuild()
+                .build();
+
+            var exception = assertThrows(
+                ConfigurationBuildException.class,
+                () -> concurrentFactory.createConfigContainer(FailingConfigurationContainer.class)
+            );
+
+            assertEquals(
+                "Failed to initialize parameter missingFileConfiguration of configuration container " +
+                    "FailingConfigurationContainer",
+                exception.getMessage()
+            );
+        }
+
+        @Test
+        void firstFailure_ShouldCancelFollowingConfigurationTypes() {
+            var validations = new AtomicInteger();
+            var executor = Executors.newSingleThreadExecutor();
+
+            try {
+                var concurrentFactory = ConfigFactory.builder()
+                    .withClasspathDir(TEST_PATH)
+                    .withConcurrentContainerBuild(executor)
+                    .withConfigurationValidator(configuration -> validations.incrementAndGet())
+                    .build();
+
+                assertThrows(
+                    ConfigurationBuildException.class,
+                    () -> concurrentFactory.createConfigContainer(FirstFailingConfigurationContainer.class)
+                );
+                assertEquals(0, validations.get());
+            } finally {
+                executor.shutdown();
+            }
+        }
+
+        @Test
+        void duplicateFilenames_ShouldThrowBeforeBuilding() {
+            var concurrentFactory = ConfigFactory.builder()
+                .withClasspathDir(TEST_PATH)
+                .withConcurrentContainerBuild(task -> {
+                    throw new AssertionError("No configuration type should be built");
+                })
+                .build();
+
+            assertThrows(
+                InvalidDeclarationException.class,
+                () -> concurrentFactory.createConfigContainer(DuplicateConfigFileNameDeclarationContainer.class)
+            );
+        }
+    }
+
+    @Nested
+    class AsyncBuildTests {
+        @Test
+        void asyncContainer_ShouldMatchSynchronousContainer() {
+            assertEquals(
+                factory.createConfigContainer(ConfigurationContainer.class),
+                factory.createConfigContainerAsync(ConfigurationContainer.class).join()
+            );
+        }
+
+        @Test
+        void failures_ShouldCompleteExceptionallyInDeclarationOrder() {
+            var future = factory.createConfigContainerAsync(FailingConfigurationContainer.class);
+            var exception = assertThrows(ExecutionException.class, future::get);
+
+            assertEquals(
+                "Failed to initialize parameter missingFileConfiguration of configuration container " +
+                    "FailingConfigurationContainer",
+                exception.getCause().getMessage()
+            );
+        }
+
+        @Test
+        void incorrectlyConfiguredContainer_ShouldCompleteExceptionally() {
+            var future = factory.createConfigContainerAsync(DuplicateConfigFileNameDeclarationContainer.class);
+            var exception = assertThrows(ExecutionException.class, future::get);
+
+            assertInstanceOf(InvalidDeclarationException.class, exception.getCause());
+        }
+    }
 }
@@ -21,6 +21,10 @@ import com.jvanev.jxconfig.annotation.ConfigProperty;
 import com.jvanev.jxconfig.annotation.DependsOnKey;
 import com.jvanev.jxconfig.annotation.DependsOnProperty;
 import com.jvanev.jxconfig.exception.ConfigurationBuildException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
@@ -191,6 +195,89 @@ class ConfigurationNamespaceTest {
         }
     }
 
+    @Nested
+    class ParallelBuildTests {
+        @ConfigFile(filename = "NamespaceTestConfiguration.properties")
+        public record FailingNamespacesConfiguration(
+            @ConfigNamespace("DevService")
+            FirstNamespace first,
+
+            @ConfigNamespace("ClientService")
+            SecondNamespace second
+        ) {
+            public record FirstNamespace(
+                @ConfigProperty(key = "EncryptionAlgorithm")
+                int encryptionAlgorithm
+            ) {
+            }
+
+            public record SecondNamespace(
+                @ConfigProperty(key = "EncryptionAlgorithm")
+                int encryptionAlgorithm
+            ) {
+            }
+        }
+
+        private ConfigFactory parallelFactory(ForkJoinPool pool, int threshold, List<Thread> threads) {
+            return ConfigFactory.builder()
+                .withClasspathDir(TEST_PATH)
+                .withParallelNamespaceBuild(pool, threshold)
+                .withConfigurationValidator(configuration -> threads.add(Thread.currentThread()))
+                .build();
+        }
+
+        @Test
+        void parallelBuild_ShouldMatchSequentialBuild() {
+            var threads = new CopyOnWriteArrayList<Thread>();
+            var pool = new ForkJoinPool(2);
+
+            try {
+                var config = parallelFactory(pool, 1, threads)
+                    .createConfig(NamespacedGroupTests.NamespacedConfiguration.class);
+
+                assertAll(
+                    () -> assertEquals(
+                        factory.createConfig(NamespacedGroupTests.NamespacedConfiguration.class), config
+                    ),
+                    () -> assertEquals(5, threads.size()),
+                    () -> assertFalse(threads.contains(Thread.currentThread()))
+                );
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        @Test
+        void treesBelowThreshold_ShouldBeBuiltSequentially() {
+            var threads = new CopyOnWriteArrayList<Thread>();
+            var pool = new ForkJoinPool(2);
+
+            try {
+                parallelFactory(pool, 5, threads).createConfig(NamespacedGroupTests.NamespacedConfiguration.class);
+
+                assertEquals(List.of(Thread.currentThread()), List.copyOf(new HashSet<>(threads)));
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        @Test
+        void failures_ShouldBeReportedInDeclarationOrder() {
+            var exception = assertThrows(
+                ConfigurationBuildException.class,
+                () -> parallelFactory(ForkJoinPool.commonPool(), 1, new CopyOnWriteArrayList<>())
+                    .createConfig(FailingNamespacesConfiguration.class)
+            );
+
+            assertTrue(exception.getCause().getMessage().contains("FirstNamespace.encryptionAlgorithm"));
+        }
+
+        @Test
+        void nonPositiveThreshold_ShouldThrow() {
+            assertThrows(IllegalArgumentException.class, () -> ConfigFactory.builder().withParallelNamespaceBuild(0));
+        }
+    }
+
     @Nested
     class IncorrectGroupSetupTests {
         @ConfigFile(filename = "GroupTestConfiguration.properties")
@@ -20,6 +20,7 @@ import com.jvanev.jxconfig.annotation.ConfigNamespace;
 import com.jvanev.jxconfig.annotation.ConfigProperty;
 import com.jvanev.jxconfig.annotation.DependsOnKey;
 import com.jvanev.jxconfig.annotation.DependsOnProperty;
+import com.jvanev.jxconfig.exception.CircularDependencyException;
 import com.jvanev.jxconfig.exception.ConfigurationBuildException;
 import com.jvanev.jxconfig.resolver.DependencyChecker;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,6 +30,7 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -122,6 +124,29 @@ class DependencyConfigurationTest {
         ) {
         }
 
+        @ConfigFile(filename = "DependencyTestConfiguration.properties")
+        public record ReverseOrderedDependencyConfiguration(
+            @ConfigProperty(key = "ConfigurationF", defaultValue = "false")
+            @DependsOnProperty(name = "ConfigurationE")
+            boolean configF,
+
+            @ConfigProperty(key = "ConfigurationE", defaultValue = "false")
+            @DependsOnProperty(name = "ConfigurationD")
+            boolean configE,
+
+            @ConfigProperty(key = "ConfigurationD", defaultValue = "false")
+            @DependsOnProperty(name = "ConfigurationC")
+            boolean configD,
+
+            @ConfigProperty(key = "ConfigurationC", defaultValue = "false")
+            @DependsOnProperty(name = "ConfigurationB")
+            boolean configC,
+
+            @ConfigProperty(key = "ConfigurationB")
+            boolean configB
+        ) {
+        }
+
         @ConfigFile(filename = "DependencyTestConfiguration.properties")
         public record DefaultValueSatisfyingDependencyConfiguration(
             @ConfigProperty(key = "BooleanFalseProperty")
@@ -222,6 +247,19 @@ class DependencyConfigurationTest {
             );
         }
 
+        @Test
+        void dependenciesDeclaredAfterTheirDependents_ShouldBeResolvedFirst() {
+            var config = factory.createConfig(ReverseOrderedDependencyConfiguration.class);
+
+            assertAll(
+                () -> assertTrue(config.configB()),
+                () -> assertTrue(config.configC()),
+                () -> assertFalse(config.configD()),
+                () -> assertFalse(config.configE()),
+                () -> assertFalse(config.configF())
+            );
+        }
+
         @Test
         void dependencySatisfiedByDefaultValue_ShouldReadFromFile() {
             var config = factory.createConfig(DefaultValueSatisfyingDependencyConfiguration.class);
@@ -339,10 +377,19 @@ class DependencyConfigurationTest {
 
         @Test
         void circularDependencyGraph_ShouldThrow() {
-            assertThrows(
+            var exception = assertThrows(
                 ConfigurationBuildException.class,
                 () -> factory.createConfig(CircularDependencyGraph.class)
             );
+
+            assertInstanceOf(CircularDependencyException.class, exception.getCause());
+            assertEquals(
+                "Circular dependency chain detected: " +
+                    "BooleanTrueProperty (CircularDependencyGraph.booleanProperty) depends on -> " +
+                    "IntegerPropertyOne (CircularDependencyGraph.integerProperty) depends on -> " +
+                    "BooleanTrueProperty (CircularDependencyGraph.booleanProperty)",
+                exception.getCause().getMessage()
+            );
         }
     }
 
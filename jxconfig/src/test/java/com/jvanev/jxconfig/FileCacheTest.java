@@ -0,0 +1,148 @@
+/*
+ * Copyright 2025 Georgi Vanev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jvanev.jxconfig;
+
+import com.jvanev.jxconfig.annotation.ConfigFile;
+import com.jvanev.jxconfig.annotation.ConfigProperty;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FileCacheTest {
+    @TempDir
+    Path directory;
+
+    @ConfigFile(filename = "Cached.properties")
+    public record CachedConfiguration(
+        @ConfigProperty(key = "Value")
+        String value
+    ) {
+    }
+
+    @ConfigFile(filename = "Cached.properties")
+    public record SharedFileConfiguration(
+        @ConfigProperty(key = "Other", defaultValue = "none")
+        String other
+    ) {
+    }
+
+    @ConfigFile(filename = "Other.properties")
+    public record OtherConfiguration(
+        @ConfigProperty(key = "Value")
+        String value
+    ) {
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Files.writeString(directory.resolve("Cached.properties"), "Value = first");
+        Files.writeString(directory.resolve("Other.properties"), "Value = other");
+    }
+
+    private ConfigFactory.Builder builder() {
+        return ConfigFactory.builder().withFilesystemDir(directory.toString());
+    }
+
+    @Test
+    void unchangedFiles_ShouldBeLoadedOnce() {
+        var factory = builder().withFileCache(16, 1024 * 1024).build();
+
+        factory.createConfig(CachedConfiguration.class);
+        factory.createConfig(CachedConfiguration.class);
+        factory.createConfig(SharedFileConfiguration.class);
+
+        assertEquals(new ConfigFactory.FileCacheStatistics(2, 1, 0), factory.getFileCacheStatistics());
+    }
+
+    @Test
+    void modifiedFiles_ShouldBeReloaded() throws IOException {
+        var factory = builder().withFileCache(16, 1024 * 1024).build();
+        var file = directory.resolve("Cached.properties");
+
+        factory.createConfig(CachedConfiguration.class);
+        Files.writeString(file, "Value = second");
+
+        assertAll(
+            () -> assertEquals("second", factory.createConfig(CachedConfiguration.class).value()),
+            () -> assertEquals(2, factory.getFileCacheStatistics().misses())
+        );
+    }
+
+    @Test
+    void checksums_ShouldDetectChangesPreservingModificationTimeAndSize() throws IOException {
+        var factory = builder().withFileCache(16, 1024 * 1024).withFileCacheChecksums().build();
+        var file = directory.resolve("Cached.properties");
+
+        factory.createConfig(CachedConfiguration.class);
+
+        var lastModified = Files.getLastModifiedTime(file);
+
+        Files.writeString(file, "Value = third");
+        Files.setLastModifiedTime(file, lastModified);
+
+        assertEquals("third", factory.createConfig(CachedConfiguration.class).value());
+    }
+
+    @Test
+    void leastRecentlyUsedFiles_ShouldBeEvicted() {
+        var factory = builder().withFileCache(1, 1024 * 1024).build();
+
+        factory.createConfig(CachedConfiguration.class);
+        factory.createConfig(OtherConfiguration.class);
+        factory.createConfig(CachedConfiguration.class);
+
+        assertEquals(new ConfigFactory.FileCacheStatistics(0, 3, 2), factory.getFileCacheStatistics());
+    }
+
+    @Test
+    void filesExceedingByteBudget_ShouldNotBeCached() {
+        var factory = builder().withFileCache(16, 1).build();
+
+        factory.createConfig(CachedConfiguration.class);
+        factory.createConfig(CachedConfiguration.class);
+
+        assertEquals(new ConfigFactory.FileCacheStatistics(0, 2, 0), factory.getFileCacheStatistics());
+    }
+
+    @Test
+    void softlyReferencedFiles_ShouldBeReusedAfterEviction() {
+        var factory = builder().withFileCache(1, 1024 * 1024).withSoftFileCache().build();
+
+        factory.createConfig(CachedConfiguration.class);
+        factory.createConfig(OtherConfiguration.class);
+        factory.createConfig(CachedConfiguration.class);
+
+        // Soft references are cleared only under memory pressure
+        assertEquals(new ConfigFactory.FileCacheStatistics(1, 2, 2), factory.getFileCacheStatistics());
+    }
+
+    @Test
+    void disabledCache_ShouldReportNoStatistics() {
+        assertAll(
+            () -> assertNull(builder().build().getFileCacheStatistics()),
+            () -> assertThrows(IllegalStateException.class, () -> builder().withSoftFileCache().build()),
+            () -> assertThrows(IllegalArgumentException.class, () -> builder().withFileCache(0, 1))
+        );
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2025 Georgi Vanev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jvanev.jxconfig;
+
+import com.jvanev.jxconfig.annotation.ConfigFile;
+import com.jvanev.jxconfig.annotation.ConfigNamespace;
+import com.jvanev.jxconfig.annotation.ConfigProperty;
+import com.jvanev.jxconfig.annotation.DependsOnKey;
+import com.jvanev.jxconfig.annotation.Modifier;
+import com.jvanev.jxconfig.exception.ConfigurationBuildException;
+import com.jvanev.jxconfig.exception.InvalidDeclarationException;
+import com.jvanev.jxconfig.exception.ValueConversionException;
+import com.jvanev.jxconfig.modifier.ValueModifier;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class InterfaceConfigurationTest {
+    private static final String TEST_PATH = "config";
+
+    private static final AtomicInteger MODIFICATIONS = new AtomicInteger();
+
+    private final ConfigFactory factory = ConfigFactory.builder()
+        .withClasspathDir(TEST_PATH)
+        .build();
+
+    public static final class CountingModifier implements ValueModifier {
+        @Override
+        public Object modify(Object value) {
+            MODIFICATIONS.incrementAndGet();
+
+            return ((String) value).toUpperCase();
+        }
+    }
+
+    @ConfigFile(filename = "InterfaceTestConfiguration.properties")
+    public interface LazyConfiguration {
+        @ConfigProperty(key = "Name")
+        @Modifier(CountingModifier.class)
+        String name();
+
+        @ConfigProperty(key = "Hosts")
+        List<String> hosts();
+
+        @ConfigProperty(key = "Timeout", defaultValue = "30")
+        @DependsOnKey(name = "Enabled")
+        int timeout();
+
+        @ConfigProperty(key = "Invalid", defaultValue = "0")
+        int invalid();
+
+        @ConfigNamespace("Pool")
+        PoolConfiguration pool();
+
+        default String describe() {
+            return name() + "@" + hosts();
+        }
+
+        interface PoolConfiguration {
+            @ConfigProperty(key = "Size")
+            int size();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        MODIFICATIONS.set(0);
+    }
+
+    @Test
+    void accessors_ShouldReturnResolvedValues() {
+        var config = factory.createConfig(LazyConfiguration.class);
+
+        assertAll(
+            () -> assertEquals("LAZY", config.name()),
+            () -> assertEquals(List.of("alpha", "beta"), config.hosts()),
+            () -> assertEquals(30, config.timeout()),
+            () -> assertEquals(4, config.pool().size()),
+            () -> assertEquals("LAZY@[alpha, beta]", config.describe())
+        );
+    }
+
+    @Test
+    void values_ShouldBeConvertedOnFirstAccessOnly() {
+        var config = factory.createConfig(LazyConfiguration.class);
+
+        assertEquals(0, MODIFICATIONS.get());
+
+        config.name();
+        config.name();
+
+        assertEquals(1, MODIFICATIONS.get());
+    }
+
+    @Test
+    void invalidValues_ShouldFailOnAccess() {
+        var config = factory.createConfig(LazyConfiguration.class);
+
+        assertThrows(ValueConversionException.class, config::invalid);
+    }
+
+    @Test
+    void objectMethods_ShouldBeBasedOnValues() {
+        var config = factory.createConfig(LazyConfiguration.class);
+        var pool = config.pool();
+
+        assertAll(
+            () -> assertEquals(pool, factory.createConfig(LazyConfiguration.class).pool()),
+            () -> assertEquals(pool.hashCode(), factory.createConfig(LazyConfiguration.class).pool().hashCode()),
+            () -> assertNotEquals(pool, config),
+            () -> assertEquals("PoolConfiguration[size=4]", pool.toString())
+        );
+    }
+
+    @Nested
+    class InvalidDeclarations {
+        @ConfigFile(filename = "InterfaceTestConfiguration.properties")
+        public interface UnannotatedConfiguration {
+            String name();
+        }
+
+        @ConfigFile(filename = "InterfaceTestConfiguration.properties")
+        public interface NonAccessorConfiguration {
+            @ConfigProperty(key = "Name")
+            String name(String fallback);
+        }
+
+        @ConfigFile(filename = "IncompleteInterfaceTestConfiguration.properties")
+        public interface IncompleteConfiguration extends LazyConfiguration {
+        }
+
+        @Test
+        void unannotatedAccessor_ShouldThrow() {
+            var exception = assertThrows(
+                ConfigurationBuildException.class,
+                () -> factory.createConfig(UnannotatedConfiguration.class)
+            );
+
+            assertInstanceOf(InvalidDeclarationException.class, exception.getCause());
+        }
+
+        @Test
+        void nonAccessorMethod_ShouldThrow() {
+            var exception = assertThrows(
+                ConfigurationBuildException.class,
+                () -> factory.createConfig(NonAccessorConfiguration.class)
+            );
+
+            assertInstanceOf(InvalidDeclarationException.class, exception.getCause());
+        }
+
+        @Test
+        void missingKey_ShouldFailOnCreation() {
+            assertThrows(ConfigurationBuildException.class, () -> factory.createConfig(IncompleteConfiguration.class));
+        }
+    }
+}
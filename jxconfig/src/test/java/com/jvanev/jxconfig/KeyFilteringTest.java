@@ -0,0 +1,125 @@
+/*
+ * Copyright 2025 Georgi Vanev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jvanev.jxconfig;
+
+import com.jvanev.jxconfig.annotation.ConfigFile;
+import com.jvanev.jxconfig.annotation.ConfigNamespace;
+import com.jvanev.jxconfig.annotation.ConfigProperty;
+import com.jvanev.jxconfig.annotation.DependsOnKey;
+import com.jvanev.jxconfig.exception.ConfigurationBuildException;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class KeyFilteringTest {
+    private static final String TEST_PATH = "config";
+
+    private final ConfigFactory factory = ConfigFactory.builder()
+        .withClasspathDir(TEST_PATH)
+        .withKeyFiltering()
+        .build();
+
+    @ConfigFile(filename = "KeyFilteringTestConfiguration.properties")
+    public record FilteredConfiguration(
+        @ConfigProperty(key = "Name")
+        String name,
+
+        @ConfigProperty(key = "Missing", defaultKey = "Fallback")
+        String missing,
+
+        @ConfigProperty(key = "Escaped Key")
+        String escaped,
+
+        @ConfigProperty(key = "Timeout", defaultValue = "30")
+        @DependsOnKey(name = "Enabled")
+        int timeout,
+
+        @ConfigNamespace("Network")
+        NetworkConfiguration network
+    ) {
+        public record NetworkConfiguration(
+            @ConfigProperty(key = "Port")
+            int port
+        ) {
+        }
+    }
+
+    @ConfigFile(filename = "KeyFilteringTestConfiguration.properties")
+    public record UnreferencedConfiguration(
+        @ConfigProperty(key = "Unreferenced")
+        String unreferenced
+    ) {
+    }
+
+    @Nested
+    class FilteredConfigurations {
+        @Test
+        void filteredConfiguration_ShouldResolveAllReferencedKeys() {
+            var config = factory.createConfig(FilteredConfiguration.class);
+
+            assertAll(
+                () -> assertEquals("Filtered", config.name()),
+                () -> assertEquals("Inherited", config.missing()),
+                () -> assertEquals("Escaped", config.escaped()),
+                () -> assertEquals(30, config.timeout()),
+                () -> assertEquals(8080, config.network().port())
+            );
+        }
+
+        @Test
+        void filteredConfiguration_ShouldBeCreatedAsynchronously() {
+            var config = factory.createConfigAsync(FilteredConfiguration.class).join();
+
+            assertEquals(8080, config.network().port());
+        }
+
+        @Test
+        void referencedMalformedEntries_ShouldStillBeReported() {
+            assertThrows(
+                ConfigurationBuildException.class,
+                () -> factory.createConfig(UnreferencedConfiguration.class)
+            );
+        }
+    }
+
+    @Nested
+    class CachedFiles {
+        private final ConfigFactory cachingFactory = ConfigFactory.builder()
+            .withClasspathDir(TEST_PATH)
+            .withKeyFiltering()
+            .withFileCache(16, 1024 * 1024)
+            .build();
+
+        @Test
+        void cachedFiles_ShouldBeSeparatedByFilter() {
+            cachingFactory.createConfig(FilteredConfiguration.class);
+            cachingFactory.createConfig(FilteredConfiguration.class);
+
+            assertAll(
+                () -> assertThrows(
+                    ConfigurationBuildException.class,
+                    () -> cachingFactory.createConfig(UnreferencedConfiguration.class)
+                ),
+                () -> assertEquals(
+                    new ConfigFactory.FileCacheStatistics(1, 2, 0), cachingFactory.getFileCacheStatistics()
+                )
+            );
+        }
+    }
+}
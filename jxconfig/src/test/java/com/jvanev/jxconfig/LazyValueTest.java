@@ -0,0 +1,182 @@
+/*
+ * Copyright 2025 Georgi Vanev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jvanev.jxconfig;
+
+import com.jvanev.jxconfig.annotation.ConfigFile;
+import com.jvanev.jxconfig.annotation.ConfigProperty;
+import com.jvanev.jxconfig.annotation.Modifier;
+import com.jvanev.jxconfig.exception.ConfigurationBuildException;
+import com.jvanev.jxconfig.exception.InvalidDeclarationException;
+import com.jvanev.jxconfig.exception.ValueConversionException;
+import com.jvanev.jxconfig.modifier.ValueModifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LazyValueTest {
+    private static final String TEST_PATH = "config";
+
+    private static final AtomicInteger MODIFICATIONS = new AtomicInteger();
+
+    private final ConfigFactory factory = ConfigFactory.builder()
+        .withClasspathDir(TEST_PATH)
+        .build();
+
+    public static final class CountingModifier implements ValueModifier {
+        @Override
+        public Object modify(Object value) {
+            MODIFICATIONS.incrementAndGet();
+
+            return ((String) value).toUpperCase();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        MODIFICATIONS.set(0);
+    }
+
+    @Nested
+    class DeferredValues {
+        @ConfigFile(filename = "LazyValueTestConfiguration.properties")
+        public record LazyConfiguration(
+            @ConfigProperty(key = "Limits")
+            Lazy<Map<String, Integer>> limits,
+
+            @ConfigProperty(key = "Name")
+            @Modifier(CountingModifier.class)
+            Supplier<String> name,
+
+            @ConfigProperty(key = "Invalid", defaultValue = "0")
+            Lazy<Integer> invalid,
+
+            @ConfigProperty(key = "Timeout", defaultValue = "30")
+            Supplier<? extends Integer> timeout
+        ) {
+        }
+
+        @ConfigFile(filename = "LazyValueTestConfiguration.properties")
+        public interface LazyInterface {
+            @ConfigProperty(key = "Limits")
+            Lazy<Map<String, Integer>> limits();
+        }
+
+        @Test
+        void lazyValues_ShouldBeConvertedOnFirstAccess() {
+            var config = factory.createConfig(LazyConfiguration.class);
+
+            assertAll(
+                () -> assertFalse(config.limits().isComputed()),
+                () -> assertEquals(Map.of("a", 1, "b", 2), config.limits().get()),
+                () -> assertTrue(config.limits().isComputed()),
+                () -> assertEquals(30, config.timeout().get())
+            );
+        }
+
+        @Test
+        void modifiers_ShouldBeDeferredAndAppliedOnce() throws Exception {
+            var config = factory.createConfig(LazyConfiguration.class);
+
+            assertEquals(0, MODIFICATIONS.get());
+
+            var tasks = new ArrayList<Callable<String>>();
+
+            for (var i = 0; i < 8; i++) {
+                tasks.add(() -> config.name().get());
+            }
+
+            var executor = Executors.newFixedThreadPool(4);
+
+            try {
+                for (var result : executor.invokeAll(tasks)) {
+                    assertEquals("LAZY", result.get());
+                }
+            } finally {
+                executor.shutdown();
+            }
+
+            assertEquals(1, MODIFICATIONS.get());
+        }
+
+        @Test
+        void invalidValues_ShouldFailOnAccess() {
+            var config = factory.createConfig(LazyConfiguration.class);
+
+            assertAll(
+                () -> assertThrows(ValueConversionException.class, config.invalid()::get),
+                () -> assertThrows(ValueConversionException.class, config.invalid()::get),
+                () -> assertFalse(config.invalid().isComputed())
+            );
+        }
+
+        @Test
+        void interfaceAccessors_ShouldReturnLazyValues() {
+            var config = factory.createConfig(LazyInterface.class);
+
+            assertEquals(List.of(1, 2), config.limits().get().values().stream().sorted().toList());
+        }
+    }
+
+    @Nested
+    class InvalidDeclarations {
+        @ConfigFile(filename = "LazyValueTestConfiguration.properties")
+        public record MissingKeyConfiguration(
+            @ConfigProperty(key = "Missing", defaultKey = "MissingFallback")
+            Lazy<Integer> missing
+        ) {
+        }
+
+        @ConfigFile(filename = "LazyValueTestConfiguration.properties")
+        @SuppressWarnings("rawtypes")
+        public record RawConfiguration(
+            @ConfigProperty(key = "Name")
+            Supplier name
+        ) {
+        }
+
+        @Test
+        void missingKeys_ShouldFailOnCreation() {
+            assertThrows(
+                ConfigurationBuildException.class,
+                () -> factory.createConfig(MissingKeyConfiguration.class)
+            );
+        }
+
+        @Test
+        void rawSupplier_ShouldThrow() {
+            var exception = assertThrows(
+                ConfigurationBuildException.class,
+                () -> factory.createConfig(RawConfiguration.class)
+            );
+
+            assertInstanceOf(InvalidDeclarationException.class, exception.getCause());
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2025 Georgi Vanev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jvanev.jxconfig;
+
+import com.jvanev.jxconfig.annotation.ConfigFile;
+import com.jvanev.jxconfig.annotation.ConfigNamespace;
+import com.jvanev.jxconfig.annotation.ConfigProperty;
+import com.jvanev.jxconfig.annotation.DependsOnKey;
+import com.jvanev.jxconfig.properties.KeyMapper;
+import com.jvanev.jxconfig.properties.ValueOrigin;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class OverrideLayersTest {
+    private static final String TEST_PATH = "config";
+
+    private static final String PREFIX = "jxconfig.test.";
+
+    @ConfigFile(filename = "OverrideLayersTestConfiguration.properties")
+    public record LayeredConfiguration(
+        @ConfigProperty(key = "Name")
+        String name,
+
+        @ConfigProperty(key = "Path", defaultValue = "none")
+        String path,
+
+        @ConfigProperty(key = "Missing", defaultKey = "Fallback")
+        String missing,
+
+        @ConfigProperty(key = "Timeout", defaultValue = "30")
+        @DependsOnKey(name = "Enabled")
+        int timeout,
+
+        @ConfigNamespace("Pool")
+        PoolConfiguration pool
+    ) {
+        public record PoolConfiguration(
+            @ConfigProperty(key = "Size", defaultValue = "4")
+            int size
+        ) {
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.getProperties().stringPropertyNames().stream()
+            .filter(name -> name.startsWith(PREFIX))
+            .forEach(System::clearProperty);
+    }
+
+    @Nested
+    class KeyMappers {
+        @Test
+        void environmentMapper_ShouldProduceConventionalNames() {
+            assertAll(
+                () -> assertEquals("POOL_SIZE", KeyMapper.ENVIRONMENT.map("Pool.Size")),
+                () -> assertEquals("POOL_MAX_SIZE", KeyMapper.ENVIRONMENT.map("Pool.MaxSize")),
+                () -> assertEquals("MAX_CONNECTIONS", KeyMapper.ENVIRONMENT.map("max-connections")),
+                () -> assertEquals("APP_POOL_SIZE", KeyMapper.ENVIRONMENT.withPrefix("APP_").map("Pool.Size"))
+            );
+        }
+    }
+
+    @Nested
+    class SystemPropertyOverrides {
+        private ConfigFactory factory;
+
+        // Overrides are read when the factory is built, so the properties are set beforehand
+        @BeforeEach
+        void setUp() {
+            System.setProperty(PREFIX + "Name", "Property");
+            System.setProperty(PREFIX + "Fallback", "Property");
+            System.setProperty(PREFIX + "Enabled", "true");
+            System.setProperty(PREFIX + "Pool.Size", "16");
+
+            factory = ConfigFactory.builder()
+                .withClasspathDir(TEST_PATH)
+                .withSystemPropertyOverrides(KeyMapper.IDENTITY.withPrefix(PREFIX))
+                .build();
+        }
+
+        @Test
+        void systemProperties_ShouldOverrideFileValues() {
+            var traced = factory.createTracedConfig(LayeredConfiguration.class);
+            var config = traced.config();
+
+            assertAll(
+                () -> assertEquals("Property", config.name()),
+                () -> assertEquals("Property", config.missing()),
+                () -> assertEquals(30, config.timeout()),
+                () -> assertEquals(16, config.pool().size()),
+                () -> assertEquals(
+                    Map.of(
+                        "Name", ValueOrigin.SYSTEM_PROPERTY,
+                        "Path", ValueOrigin.DEFAULT,
+                        "Missing", ValueOrigin.SYSTEM_PROPERTY,
+                        "Timeout", ValueOrigin.DEFAULT,
+                        "Pool.Size", ValueOrigin.SYSTEM_PROPERTY
+                    ),
+                    traced.origins()
+                )
+            );
+        }
+
+        @Test
+        void overrides_ShouldBeReadWhenFactoryIsBuilt() {
+            System.setProperty(PREFIX + "Path", "Property");
+
+            assertEquals("none", factory.createConfig(LayeredConfiguration.class).path());
+        }
+    }
+
+    @Nested
+    class EnvironmentOverrides {
+        private final ConfigFactory factory = ConfigFactory.builder()
+            .withClasspathDir(TEST_PATH)
+            .withEnvironmentOverrides()
+            .build();
+
+        @Test
+        void environmentVariables_ShouldOverrideFileValues() {
+            // PATH is set in every environment the tests run in
+            var traced = factory.createTracedConfig(LayeredConfiguration.class);
+
+            assertAll(
+                () -> assertEquals(System.getenv("PATH"), traced.config().path()),
+                () -> assertEquals("File", traced.config().name()),
+                () -> assertEquals(ValueOrigin.ENVIRONMENT, traced.origins().get("Path")),
+                () -> assertEquals(ValueOrigin.FILE, traced.origins().get("Name")),
+                () -> assertEquals(ValueOrigin.FILE, traced.origins().get("Missing")),
+                () -> assertEquals(ValueOrigin.DEFAULT, traced.origins().get("Pool.Size"))
+            );
+        }
+
+        @Test
+        void systemProperties_ShouldTakePrecedenceOverEnvironmentVariables() {
+            System.setProperty(PREFIX + "Path", "Property");
+
+            var layeredFactory = ConfigFactory.builder()
+                .withClasspathDir(TEST_PATH)
+                .withEnvironmentOverrides()
+                .withSystemPropertyOverrides(KeyMapper.IDENTITY.withPrefix(PREFIX))
+                .build();
+            var traced = layeredFactory.createTracedConfig(LayeredConfiguration.class);
+
+            assertAll(
+                () -> assertEquals("Property", traced.config().path()),
+                () -> assertEquals(ValueOrigin.SYSTEM_PROPERTY, traced.origins().get("Path"))
+            );
+        }
+    }
+}
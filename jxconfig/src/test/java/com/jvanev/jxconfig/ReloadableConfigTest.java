@@ -0,0 +1,693 @@
+/*
+ * Copyright 2025 Georgi Vanev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jvanev.jxconfig;
+
+import com.jvanev.jxconfig.annotation.ConfigFile;
+import com.jvanev.jxconfig.annotation.ConfigNamespace;
+import com.jvanev.jxconfig.annotation.ConfigProperty;
+import com.jvanev.jxconfig.annotation.DependsOnKey;
+import com.jvanev.jxconfig.annotation.DependsOnProperty;
+import com.jvanev.jxconfig.exception.ConfigurationBuildException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReloadableConfigTest {
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    @TempDir
+    Path directory;
+
+    private Path file;
+
+    @ConfigFile(filename = "Reloadable.properties")
+    public record ReloadableConfiguration(
+        @ConfigProperty(key = "Size")
+        int size
+    ) {
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = directory.resolve("Reloadable.properties");
+        Files.writeString(file, "Size = 1");
+    }
+
+    private ConfigFactory factory() {
+        return ConfigFactory.builder()
+            .withFilesystemDir(directory.toString())
+            .withReloadDebounce(Duration.ofMillis(20))
+            .build();
+    }
+
+    private static boolean await(BooleanSupplier condition) throws InterruptedException {
+        var deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                return false;
+            }
+
+            Thread.sleep(10);
+        }
+
+        return true;
+    }
+
+    @Test
+    void changedFile_ShouldBePublished() throws Exception {
+        try (var config = factory().createReloadableConfig(ReloadableConfiguration.class)) {
+            assertEquals(1, config.get().size());
+
+            Files.writeString(file, "Size = 2");
+
+            assertTrue(await(() -> config.get().size() == 2));
+        }
+    }
+
+    @Test
+    void failedRebuild_ShouldKeepLastGoodSnapshot() throws Exception {
+        var failure = new CompletableFuture<RuntimeException>();
+
+        try (var config = factory().createReloadableConfig(ReloadableConfiguration.class)) {
+            var initial = config.get();
+
+            config.addFailureListener(failure::complete);
+            Files.writeString(file, "Size = invalid");
+
+            assertAll(
+                () -> assertInstanceOf(
+                    ConfigurationBuildException.class, failure.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)
+                ),
+                () -> assertSame(initial, config.get()),
+                () -> assertThrows(ConfigurationBuildException.class, config::reload),
+                () -> assertSame(initial, config.get())
+            );
+        }
+    }
+
+    @Test
+    void validator_ShouldRejectRebuiltInstances() throws Exception {
+        var failures = new AtomicInteger();
+        var factory = ConfigFactory.builder()
+            .withFilesystemDir(directory.toString())
+            .withReloadDebounce(Duration.ofMillis(20))
+            .withConfigurationValidator(config -> {
+                if (((ReloadableConfiguration) config).size() < 0) {
+                    throw new IllegalStateException("Negative size");
+                }
+            })
+            .build();
+
+        try (var config = factory.createReloadableConfig(ReloadableConfiguration.class)) {
+            config.addFailureListener(e -> failures.incrementAndGet());
+            Files.writeString(file, "Size = -1");
+
+            assertAll(
+                () -> assertTrue(await(() -> failures.get() > 0)),
+                () -> assertEquals(1, config.get().size())
+            );
+        }
+    }
+
+    @Test
+    void closing_ShouldNotInterruptReloadInProgress() throws Exception {
+        var entered = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var interrupted = new CompletableFuture<Boolean>();
+        var factory = ConfigFactory.builder()
+            .withFilesystemDir(directory.toString())
+            .withReloadDebounce(Duration.ofMillis(20))
+            .withConfigurationValidator(config -> {
+                if (((ReloadableConfiguration) config).size() == 2) {
+                    entered.countDown();
+
+                    try {
+                        release.await();
+                        interrupted.complete(Thread.currentThread().isInterrupted());
+                    } catch (InterruptedException e) {
+                        interrupted.complete(true);
+                    }
+                }
+            })
+            .build();
+
+        var config = factory.createReloadableConfig(ReloadableConfiguration.class);
+
+        Files.writeString(file, "Size = 2");
+
+        assertTrue(entered.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+
+        config.close();
+        release.countDown();
+
+        assertFalse(interrupted.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void manualReload_ShouldPublishImmediately() throws Exception {
+        var factory = ConfigFactory.builder()
+            .withFilesystemDir(directory.toString())
+            .withReloadDebounce(Duration.ofHours(1))
+            .build();
+
+        try (var config = factory.createReloadableConfig(ReloadableConfiguration.class)) {
+            Files.writeString(file, "Size = 3");
+            config.reload();
+
+            assertEquals(3, config.get().size());
+        }
+    }
+
+    @Test
+    void swappedSymlinkedDirectory_ShouldBePublished() throws Exception {
+        // The layout of a Kubernetes ConfigMap volume, whose files are replaced by swapping the ..data link
+        var mount = Files.createDirectory(directory.resolve("mount"));
+
+        Files.writeString(Files.createDirectory(mount.resolve("..v1")).resolve("Reloadable.properties"), "Size = 1");
+        Files.writeString(Files.createDirectory(mount.resolve("..v2")).resolve("Reloadable.properties"), "Size = 2");
+        Files.createSymbolicLink(mount.resolve("..data"), Path.of("..v1"));
+        Files.createSymbolicLink(mount.resolve("Reloadable.properties"), Path.of("..data", "Reloadable.properties"));
+
+        var factory = ConfigFactory.builder()
+            .withFilesystemDir(mount.toString())
+            .withReloadDebounce(Duration.ofMillis(20))
+            .build();
+
+        try (var config = factory.createReloadableConfig(ReloadableConfiguration.class)) {
+            assertEquals(1, config.get().size());
+
+            Files.createSymbolicLink(mount.resolve("..data_tmp"), Path.of("..v2"));
+            Files.move(mount.resolve("..data_tmp"), mount.resolve("..data"), StandardCopyOption.ATOMIC_MOVE);
+
+            assertTrue(await(() -> config.get().size() == 2));
+        }
+    }
+
+    @Test
+    void negativeDebounce_ShouldBeRejected() {
+        var builder = ConfigFactory.builder();
+
+        assertThrows(IllegalArgumentException.class, () -> builder.withReloadDebounce(Duration.ofMillis(-1)));
+    }
+
+    @Nested
+    class IncrementalReloadTests {
+        private static final String SOURCE = "Name = Root\nEnabled = true\nCache.Size = 1\nPool.Size = 1\n" +
+            "Pool.Threads.Count = 1\nUnreferenced = 1";
+
+        @ConfigFile(filename = "Incremental.properties")
+        public record IncrementalConfiguration(
+            @ConfigProperty(key = "Name")
+            String name,
+
+            @ConfigProperty(key = "Enabled")
+            boolean enabled,
+
+            @ConfigNamespace("Cache")
+            CacheConfiguration cache,
+
+            @ConfigNamespace("Pool")
+            @DependsOnProperty(name = "Enabled")
+            PoolConfiguration pool
+        ) {
+            public record CacheConfiguration(
+                @ConfigProperty(key = "Size")
+                int size
+            ) {
+            }
+
+            public record PoolConfiguration(
+                @ConfigProperty(key = "Size", defaultValue = "0")
+                int size,
+
+                @ConfigNamespace("Threads")
+                ThreadsConfiguration threads
+            ) {
+            }
+
+            public record ThreadsConfiguration(
+                @ConfigProperty(key = "Count", defaultValue = "0")
+                int count
+            ) {
+            }
+        }
+
+        private final AtomicInteger validations = new AtomicInteger();
+
+        private Path incrementalFile;
+
+        private ReloadableConfig<IncrementalConfiguration> config;
+
+        @BeforeEach
+        void setUp() throws IOException {
+            incrementalFile = directory.resolve("Incremental.properties");
+            Files.writeString(incrementalFile, SOURCE);
+
+            config = ConfigFactory.builder()
+                .withFilesystemDir(directory.toString())
+                .withReloadDebounce(Duration.ofHours(1))
+                .withIncrementalReload()
+                .withConfigurationValidator(configuration -> validations.incrementAndGet())
+                .build()
+                .createReloadableConfig(IncrementalConfiguration.class);
+        }
+
+        @AfterEach
+        void tearDown() {
+            config.close();
+        }
+
+        private IncrementalConfiguration reload(String target, String replacement) throws IOException {
+            Files.writeString(incrementalFile, SOURCE.replace(target, replacement));
+            validations.set(0);
+            config.reload();
+
+            return config.get();
+        }
+
+        @Test
+        void unchangedKeys_ShouldReuseWholeTree() throws IOException {
+            var initial = config.get();
+            var reloaded = reload("Unreferenced = 1", "Unreferenced = 2");
+
+            assertAll(
+                () -> assertSame(initial, reloaded),
+                () -> assertEquals(0, validations.get())
+            );
+        }
+
+        @Test
+        void changedNamespace_ShouldRebuildOnlyItsAncestors() throws IOException {
+            var initial = config.get();
+            var reloaded = reload("Pool.Threads.Count = 1", "Pool.Threads.Count = 2");
+
+            assertAll(
+                () -> assertEquals(2, reloaded.pool().threads().count()),
+                () -> assertNotSame(initial.pool(), reloaded.pool()),
+                () -> assertSame(initial.cache(), reloaded.cache()),
+                () -> assertEquals(3, validations.get())
+            );
+        }
+
+        @Test
+        void changedDependency_ShouldRebuildGatedNamespaces() throws IOException {
+            var initial = config.get();
+            var reloaded = reload("Enabled = true", "Enabled = false");
+
+            assertAll(
+                () -> assertEquals(0, reloaded.pool().size()),
+                () -> assertEquals(0, reloaded.pool().threads().count()),
+                () -> assertSame(initial.cache(), reloaded.cache()),
+                () -> assertEquals(reload("Enabled = true", "Enabled = true"), initial)
+            );
+        }
+    }
+
+    @Nested
+    class KeyListenerTests {
+        private static final String SOURCE = "Enabled = true\nDefaultTimeout = 10\nCache.Size = 1\nPool.Size = 1";
+
+        @ConfigFile(filename = "Listened.properties")
+        public record ListenedConfiguration(
+            @ConfigProperty(key = "Timeout", defaultKey = "DefaultTimeout")
+            int timeout,
+
+            @ConfigNamespace("Cache")
+            CacheConfiguration cache,
+
+            @ConfigNamespace("Pool")
+            @DependsOnKey(name = "Enabled")
+            PoolConfiguration pool
+        ) {
+            public record CacheConfiguration(
+                @ConfigProperty(key = "Size")
+                int size
+            ) {
+            }
+
+            public record PoolConfiguration(
+                @ConfigProperty(key = "Size", defaultValue = "0")
+                int size
+            ) {
+            }
+        }
+
+        private final List<String> notifications = new CopyOnWriteArrayList<>();
+
+        private Path listenedFile;
+
+        private ReloadableConfig<ListenedConfiguration> config;
+
+        @BeforeEach
+        void setUp() throws IOException {
+            listenedFile = directory.resolve("Listened.properties");
+            Files.writeString(listenedFile, SOURCE);
+
+            config = ConfigFactory.builder()
+                .withFilesystemDir(directory.toString())
+                .withReloadDebounce(Duration.ofHours(1))
+                .build()
+                .createReloadableConfig(ListenedConfiguration.class)
+                .addKeyListener("Timeout", (key, previous, current) -> notifications.add(key))
+                .addKeyListener(
+                    "Pool.Size",
+                    (key, previous, current) -> notifications.add(key + "=" + current.pool().size())
+                );
+        }
+
+        @AfterEach
+        void tearDown() {
+            config.close();
+        }
+
+        private List<String> reload(String target, String replacement) throws IOException {
+            Files.writeString(listenedFile, Files.readString(listenedFile).replace(target, replacement));
+            notifications.clear();
+            config.reload();
+
+            return List.copyOf(notifications);
+        }
+
+        @Test
+        void changedKeys_ShouldNotifyListenersOfFedProperties() throws IOException {
+            // Each change is applied on top of the previous one
+            assertEquals(List.of("Pool.Size=2"), reload("Pool.Size = 1", "Pool.Size = 2"));
+            assertEquals(List.of("Timeout"), reload("DefaultTimeout = 10", "DefaultTimeout = 20"));
+            assertEquals(List.of("Pool.Size=0"), reload("Enabled = true", "Enabled = false"));
+            assertEquals(List.of(), reload("Cache.Size = 1", "Cache.Size = 2"));
+        }
+
+        @Test
+        void unknownKeys_ShouldBeRejected() {
+            assertAll(
+                () -> assertThrows(
+                    IllegalArgumentException.class,
+                    () -> config.addKeyListener("Size", (key, previous, current) -> {})
+                ),
+                () -> assertThrows(
+                    IllegalArgumentException.class,
+                    () -> config.addKeyListener("Pool", (key, previous, current) -> {})
+                )
+            );
+        }
+
+        @Test
+        void failingListeners_ShouldBeReported() throws IOException {
+            var failures = new CopyOnWriteArrayList<RuntimeException>();
+
+            config.addFailureListener(failures::add);
+            config.addKeyListener("Cache.Size", (key, previous, current) -> {
+                throw new IllegalStateException(key);
+            });
+
+            reload("Cache.Size = 1", "Cache.Size = 2");
+
+            assertAll(
+                () -> assertEquals(1, failures.size()),
+                () -> assertEquals(2, config.get().cache().size())
+            );
+        }
+    }
+
+    @Nested
+    class ChangeEventTests {
+        private static final Object COMPLETE = new Object();
+
+        private final BlockingQueue<Object> signals = new LinkedBlockingQueue<>();
+
+        private Flow.Subscription subscription;
+
+        private ReloadableConfig<ReloadableConfiguration> subscribe(Duration coalescing) {
+            var config = ConfigFactory.builder()
+                .withFilesystemDir(directory.toString())
+                .withReloadDebounce(Duration.ofHours(1))
+                .withChangeCoalescing(coalescing)
+                .build()
+                .createReloadableConfig(ReloadableConfiguration.class);
+
+            config.changes().subscribe(new Flow.Subscriber<>() {
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    ChangeEventTests.this.subscription = subscription;
+                }
+
+                @Override
+                public void onNext(ReloadableConfig.ConfigChange<ReloadableConfiguration> item) {
+                    signals.add(item);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    signals.add(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                    signals.add(COMPLETE);
+                }
+            });
+
+            return config;
+        }
+
+        private void reload(ReloadableConfig<?> config, int size) throws IOException {
+            Files.writeString(file, "Size = " + size);
+            config.reload();
+        }
+
+        private Object nextSignal() throws InterruptedException {
+            return signals.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        }
+
+        @SuppressWarnings("unchecked")
+        private ReloadableConfig.ConfigChange<ReloadableConfiguration> nextChange() throws InterruptedException {
+            return assertInstanceOf(ReloadableConfig.ConfigChange.class, nextSignal());
+        }
+
+        @Test
+        void changes_ShouldBeDeliveredOnDemand() throws Exception {
+            try (var config = subscribe(Duration.ZERO)) {
+                subscription.request(Long.MAX_VALUE);
+                // Rebuilds which haven't changed any values publish no events
+                config.reload();
+                reload(config, 2);
+
+                var change = nextChange();
+
+                assertAll(
+                    () -> assertEquals(1, change.previous().size()),
+                    () -> assertSame(config.get(), change.current()),
+                    () -> assertEquals(Set.of("Size"), change.changedKeys())
+                );
+            }
+
+            assertSame(COMPLETE, nextSignal());
+        }
+
+        @Test
+        void changesWithoutDemand_ShouldBeMerged() throws Exception {
+            try (var config = subscribe(Duration.ZERO)) {
+                reload(config, 2);
+                reload(config, 3);
+                subscription.request(1);
+
+                var change = nextChange();
+
+                assertAll(
+                    () -> assertEquals(1, change.previous().size()),
+                    () -> assertEquals(3, change.current().size())
+                );
+
+                reload(config, 4);
+
+                assertNull(signals.poll(50, TimeUnit.MILLISECONDS));
+
+                subscription.request(1);
+
+                assertEquals(4, nextChange().current().size());
+            }
+        }
+
+        @Test
+        void changesWithinCoalescingWindow_ShouldBeMerged() throws Exception {
+            try (var config = subscribe(Duration.ofHours(1))) {
+                subscription.request(Long.MAX_VALUE);
+                reload(config, 2);
+                reload(config, 3);
+            }
+
+            // Closing the handle publishes the changes accumulated within the open window
+            var change = nextChange();
+
+            assertAll(
+                () -> assertEquals(1, change.previous().size()),
+                () -> assertEquals(3, change.current().size()),
+                () -> assertSame(COMPLETE, nextSignal())
+            );
+        }
+
+        @Test
+        void nonPositiveRequests_ShouldFailSubscription() throws Exception {
+            try (var config = subscribe(Duration.ZERO)) {
+                subscription.request(0);
+
+                assertInstanceOf(IllegalArgumentException.class, nextSignal());
+            }
+        }
+
+        @Test
+        void negativeCoalescingWindow_ShouldBeRejected() {
+            var builder = ConfigFactory.builder();
+
+            assertThrows(IllegalArgumentException.class, () -> builder.withChangeCoalescing(Duration.ofMillis(-1)));
+        }
+    }
+
+    @Nested
+    class ContainerReloadTests {
+        @ConfigFile(filename = "Limits.properties")
+        public record LimitsConfiguration(
+            @ConfigProperty(key = "Size")
+            int size
+        ) {
+        }
+
+        public record ReloadableContainer(ReloadableConfiguration config, LimitsConfiguration limits) {
+        }
+
+        private final List<String> notifications = new CopyOnWriteArrayList<>();
+
+        private Path limitsFile;
+
+        private ReloadableConfig<ReloadableContainer> container;
+
+        @BeforeEach
+        void setUp() throws IOException {
+            limitsFile = directory.resolve("Limits.properties");
+            Files.writeString(limitsFile, "Size = 10");
+
+            container = ConfigFactory.builder()
+                .withFilesystemDir(directory.toString())
+                .withReloadDebounce(Duration.ofHours(1))
+                .withConfigurationValidator(config -> {
+                    if (config instanceof ReloadableContainer c && c.config().size() > c.limits().size()) {
+                        throw new IllegalStateException("Size exceeds the limit");
+                    }
+                })
+                .build()
+                .createReloadableConfigContainer(ReloadableContainer.class)
+                .addKeyListener("config.Size", (key, previous, current) -> notifications.add(key))
+                .addKeyListener("limits.Size", (key, previous, current) -> notifications.add(key));
+        }
+
+        @AfterEach
+        void tearDown() {
+            container.close();
+        }
+
+        @Test
+        void changedFiles_ShouldBePublishedTogether() throws IOException {
+            var initial = container.get();
+
+            Files.writeString(file, "Size = 20");
+            Files.writeString(limitsFile, "Size = 30");
+            container.reload();
+
+            var reloaded = container.get();
+
+            assertAll(
+                () -> assertEquals(20, reloaded.config().size()),
+                () -> assertEquals(30, reloaded.limits().size()),
+                () -> assertNotSame(initial.config(), reloaded.config()),
+                () -> assertEquals(List.of("config.Size", "limits.Size"), notifications.stream().sorted().toList())
+            );
+        }
+
+        @Test
+        void unchangedMembers_ShouldBeReused() throws IOException {
+            var initial = container.get();
+
+            container.reload();
+
+            assertSame(initial, container.get());
+
+            Files.writeString(limitsFile, "Size = 30");
+            container.reload();
+
+            assertAll(
+                () -> assertSame(initial.config(), container.get().config()),
+                () -> assertEquals(30, container.get().limits().size()),
+                () -> assertEquals(List.of("limits.Size"), notifications)
+            );
+        }
+
+        @Test
+        void failedMember_ShouldKeepPreviousContainer() throws IOException {
+            var initial = container.get();
+
+            Files.writeString(file, "Size = 5");
+            Files.writeString(limitsFile, "Size = invalid");
+
+            assertAll(
+                () -> assertThrows(ConfigurationBuildException.class, container::reload),
+                () -> assertSame(initial, container.get()),
+                () -> assertEquals(List.of(), notifications)
+            );
+        }
+
+        @Test
+        void invalidContainer_ShouldKeepPreviousContainer() throws IOException {
+            var initial = container.get();
+
+            // Each member is valid on its own, but the container as a whole is not
+            Files.writeString(file, "Size = 20");
+
+            assertAll(
+                () -> assertThrows(ConfigurationBuildException.class, container::reload),
+                () -> assertSame(initial, container.get())
+            );
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2025 Georgi Vanev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jvanev.jxconfig;
+
+import com.jvanev.jxconfig.annotation.ConfigFile;
+import com.jvanev.jxconfig.annotation.ConfigProperty;
+import com.jvanev.jxconfig.properties.SnapshotWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SnapshotTest {
+    @TempDir
+    Path directory;
+
+    private Path file;
+
+    @ConfigFile(filename = "Snapshot.properties")
+    public record SnapshotConfiguration(
+        @ConfigProperty(key = "Value")
+        String value,
+
+        @ConfigProperty(key = "Ports")
+        int[] ports
+    ) {
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = directory.resolve("Snapshot.properties");
+
+        Files.writeString(file, "Value = first\nPorts = 80, \\\n    443");
+    }
+
+    private ConfigFactory.Builder builder() {
+        return ConfigFactory.builder().withFilesystemDir(directory.toString());
+    }
+
+    /**
+     * Replaces the specified value in the string table of the snapshot, so loaded snapshots can be told apart
+     * from parsed files.
+     */
+    private static void tamper(Path snapshot, String value, String replacement) throws IOException {
+        var contents = new String(Files.readAllBytes(snapshot), StandardCharsets.ISO_8859_1);
+
+        Files.write(snapshot, contents.replace(value, replacement).getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    @Test
+    void matchingSnapshot_ShouldBeLoadedInsteadOfFile() throws IOException {
+        var snapshot = SnapshotWriter.write(file, StandardCharsets.ISO_8859_1);
+
+        tamper(snapshot, "first", "fixed");
+
+        var config = builder().withSnapshots().build().createConfig(SnapshotConfiguration.class);
+
+        assertAll(
+            () -> assertEquals(directory.resolve("Snapshot.properties" + SnapshotWriter.EXTENSION), snapshot),
+            () -> assertEquals("fixed", config.value()),
+            () -> assertEquals(443, config.ports()[1]),
+            () -> assertEquals("first", builder().build().createConfig(SnapshotConfiguration.class).value())
+        );
+    }
+
+    @Test
+    void outdatedSnapshot_ShouldBeIgnored() throws IOException {
+        var snapshot = SnapshotWriter.write(file, StandardCharsets.ISO_8859_1);
+
+        tamper(snapshot, "first", "fixed");
+        Files.writeString(file, "Value = second\nPorts = 8080");
+
+        var config = builder().withSnapshots().build().createConfig(SnapshotConfiguration.class);
+
+        assertEquals("second", config.value());
+    }
+
+    @Test
+    void snapshotOfAnotherCharset_ShouldBeIgnored() throws IOException {
+        var snapshot = SnapshotWriter.write(file, StandardCharsets.UTF_8);
+
+        tamper(snapshot, "first", "fixed");
+
+        var config = builder().withSnapshots().build().createConfig(SnapshotConfiguration.class);
+
+        assertEquals("first", config.value());
+    }
+
+    @Test
+    void malformedFile_ShouldNotBeWritten() throws IOException {
+        Files.writeString(file, "Value = \\u00");
+
+        assertThrows(IllegalArgumentException.class, () -> SnapshotWriter.write(file, StandardCharsets.ISO_8859_1));
+    }
+}
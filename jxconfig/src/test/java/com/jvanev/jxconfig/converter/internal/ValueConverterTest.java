@@ -15,6 +15,7 @@
  */
 package com.jvanev.jxconfig.converter.internal;
 
+import com.jvanev.jxconfig.converter.ValueConverter;
 import com.jvanev.jxconfig.exception.UnsupportedTypeConversionException;
 import com.jvanev.jxconfig.exception.ValueConversionException;
 import java.math.BigInteger;
@@ -34,11 +35,13 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class ValueConverterTest {
@@ -144,6 +147,48 @@ class ValueConverterTest {
         }
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "0", "-0", "+7", "010", "-010", "0x7fffffffffffffff", "-0x8000000000000000", "#FF", "-#ff",
+        "9223372036854775807", "-9223372036854775808"
+    })
+    void integralArrayElements_ShouldMatchDecode(String element) {
+        var input = element + ", " + element;
+
+        assertAll(
+            () -> assertArrayEquals(
+                new long[] {Long.decode(element), Long.decode(element)},
+                (long[]) converter.convert(long[].class, input)
+            ),
+            () -> assertArrayEquals(
+                new Long[] {Long.decode(element), Long.decode(element)},
+                (Long[]) converter.convert(Long[].class, input)
+            )
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "-", "+", "0x", "#", "+-1", "0x-1", "08", "1_000", "9223372036854775808", "-9223372036854775809"
+    })
+    void invalidIntegralArrayElements_ShouldThrow(String element) {
+        assertAll(
+            () -> assertThrows(NumberFormatException.class, () -> Long.decode(element)),
+            () -> assertThrows(NumberFormatException.class, () -> converter.convert(long[].class, "1, " + element))
+        );
+    }
+
+    @Test
+    void outOfRangeArrayElements_ShouldThrow() {
+        assertAll(
+            () -> assertArrayEquals(new byte[] {-128, 127}, (byte[]) converter.convert(byte[].class, "-128, 0x7F")),
+            () -> assertThrows(NumberFormatException.class, () -> converter.convert(byte[].class, "128")),
+            () -> assertThrows(NumberFormatException.class, () -> converter.convert(short[].class, "-32769")),
+            () -> assertThrows(NumberFormatException.class, () -> converter.convert(int[].class, "0x80000000")),
+            () -> assertThrows(IllegalArgumentException.class, () -> converter.convert(int[].class, "1, , 2"))
+        );
+    }
+
     @Test
     void shouldThrowOnInvalidCharArrayElement() {
         var invalidCharValues = "a, bc, d"; // 'bc' is not a single character
@@ -220,6 +265,63 @@ class ValueConverterTest {
                 () -> assertEquals(Map.of(), converter.convert(type, ""))
             );
         }
+
+        @Test
+        void shouldIgnoreTrailingEmptyEntries() throws NoSuchFieldException {
+            var type = ExampleType.class.getDeclaredField("list").getGenericType();
+
+            assertAll(
+                () -> assertIterableEquals(List.of(1, 2), (List<?>) converter.convert(type, " 1 ,2, , ")),
+                () -> assertIterableEquals(List.of(), (List<?>) converter.convert(type, " , ")),
+                () -> assertArrayEquals(new int[] {1, 2}, (int[]) converter.convert(int[].class, "1,2,"))
+            );
+        }
+
+        @Test
+        void shouldSplitUsingCustomDelimiters() throws NoSuchFieldException {
+            var type = ExampleType.class.getDeclaredField("map").getGenericType();
+            var conversion = converter.getConversion(type, ';', '=');
+
+            assertAll(
+                () -> assertEquals(Map.of("a", 1, "b", 2), conversion.apply("a = 1; b=2;")),
+                () -> assertSame(converter.getConversion(type), converter.getConversion(type, ',', ':')),
+                () -> assertThrows(IllegalArgumentException.class, () -> conversion.apply("a:1"))
+            );
+        }
+    }
+
+    @Nested
+    class ConversionCacheTests {
+        @Test
+        void equalTypes_ShouldShareCompiledConversion() throws NoSuchFieldException {
+            var type = ExampleType.class.getDeclaredField("map").getGenericType();
+
+            assertAll(
+                () -> assertSame(converter.getConversion(type), converter.getConversion(type)),
+                () -> assertSame(converter.getConversion(int.class), converter.getConversion(int.class))
+            );
+        }
+
+        @Test
+        void customConvertersRegisteredLater_ShouldNotAffectConverter() {
+            var converters = new LinkedHashMap<Class<?>, ValueConverter>();
+            var customConverter = new Converter(converters);
+
+            assertEquals(1, customConverter.convert(int.class, "1"));
+
+            converters.put(int.class, (conv, type, typeArguments, value) -> -1);
+
+            assertEquals(2, customConverter.convert(int.class, "2"));
+        }
+
+        @Test
+        void unsupportedTypes_ShouldThrowOnlyWhenConverting() throws NoSuchFieldException {
+            var type = UnsupportedConversionTests.TypeHolder.class.getDeclaredField("typeVariableField")
+                .getGenericType();
+            var conversion = converter.getConversion(type);
+
+            assertThrows(UnsupportedTypeConversionException.class, () -> conversion.apply("test"));
+        }
     }
 
     @Nested
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025 Georgi Vanev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jvanev.jxconfig.internal;
+
+import java.lang.reflect.InvocationTargetException;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class InstantiatorTest {
+    public record Sample(String name, int value) {
+        public Sample {
+            if (value < 0) {
+                throw new ClassCastException("Negative value");
+            }
+
+            if (value == 0) {
+                throw new StackOverflowError("Zero value");
+            }
+        }
+    }
+
+    private final Instantiator instantiator = Instantiator.of(Sample.class.getDeclaredConstructors()[0]);
+
+    @Test
+    void createsInstanceFromArguments() throws ReflectiveOperationException {
+        assertEquals(new Sample("Sample", 1), instantiator.newInstance(new Object[] {"Sample", 1}));
+    }
+
+    @Nested
+    class Failures {
+        @Test
+        void argumentsWhichCannotBePassed_ShouldThrowIllegalArgumentException() {
+            assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> instantiator.newInstance(new Object[] {"A"})),
+                () -> assertThrows(
+                    IllegalArgumentException.class, () -> instantiator.newInstance(new Object[] {1, 1})
+                ),
+                () -> assertThrows(
+                    IllegalArgumentException.class, () -> instantiator.newInstance(new Object[] {"A", 1L})
+                ),
+                () -> assertThrows(
+                    IllegalArgumentException.class, () -> instantiator.newInstance(new Object[] {"A", null})
+                )
+            );
+        }
+
+        @Test
+        void exceptionThrownByConstructor_ShouldBeWrapped() {
+            var exception = assertThrows(
+                InvocationTargetException.class, () -> instantiator.newInstance(new Object[] {"A", -1})
+            );
+
+            assertInstanceOf(ClassCastException.class, exception.getCause());
+        }
+
+        @Test
+        void errorThrownByConstructor_ShouldPropagateUnchanged() {
+            assertThrows(StackOverflowError.class, () -> instantiator.newInstance(new Object[] {"A", 0}));
+        }
+    }
+}
@@ -0,0 +1,344 @@
+/*
+ * Copyright 2025 Georgi Vanev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jvanev.jxconfig.properties.internal;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PropertiesParserTest {
+    private static Map<String, String> parse(String source) {
+        return parse(source.getBytes(StandardCharsets.ISO_8859_1), StandardCharsets.ISO_8859_1);
+    }
+
+    private static Map<String, String> parse(byte[] source, Charset charset) {
+        var builder = PropertyMap.builder();
+        var properties = new HashMap<String, String>();
+
+        PropertiesParser.parse(source, 0, source.length, charset, builder);
+        builder.build().forEach(properties::put);
+
+        return properties;
+    }
+
+    private static Map<String, String> load(String source) throws IOException {
+        var properties = new Properties();
+        var map = new HashMap<String, String>();
+
+        properties.load(new StringReader(source));
+        properties.forEach((key, value) -> map.put((String) key, (String) value));
+
+        return map;
+    }
+
+    @Nested
+    class GrammarTests {
+        @ParameterizedTest
+        @ValueSource(strings = {
+            "Key = Value",
+            "Key=Value\nOther:Value2\r\nThird Value3\rFourth\t\f=  \tValue4  ",
+            "  # Comment\n! Other comment\n\n   \nKey = Value # Not a comment",
+            "Key = First \\\n    Second \\\r\n\tThird\\\r    Fourth",
+            "# Comments are not continued \\\nKey = Value",
+            "Key = Trailing backslashes \\\\\nOther = Value\\\\\\\n  continued",
+            "Key = Backslash at the end \\",
+            "Escaped\\ Key\\=\\: = \\t\\n\\r\\f\\\\ \\a\\b",
+            "Unicode\\u0041 = \\u00e9\\u4E2D",
+            "Key == Value\nOther :=Value\nThird = :Value",
+            "KeyOnly\nWhitespaceKey   \nSeparatorKey =\n=EmptyKey",
+            "Duplicate = First\nDuplicate = Second",
+            "Key = Value \\\n\nOther = Value",
+            "Key = \\\n",
+            "\\\nContinued = Value",
+            "\\\n# Comment after an empty continued line\nKey = Value",
+            "Key = Value\n\\\n",
+            "Key = Value\\\n",
+            "\\#NotAComment = Value\n  !Comment",
+            ""
+        })
+        void parsedProperties_ShouldMatchJavaUtilProperties(String source) throws IOException {
+            assertEquals(load(source), parse(source));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"Key = \\u00", "Key = \\u00G1", "Key\\u12 = Value"})
+        void malformedUnicodeEscape_ShouldThrow(String source) {
+            assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> load(source)),
+                () -> assertThrows(IllegalArgumentException.class, () -> parse(source))
+            );
+        }
+
+        @Test
+        void directBuffers_ShouldBeParsedLikeArrays() {
+            var source = "Key = Value\nEscaped = \\u0041\nContinued = A\\\n  B\nEmpty =\n"
+                .getBytes(StandardCharsets.ISO_8859_1);
+            var buffer = ByteBuffer.allocateDirect(source.length + 2).put((byte) 'X').put(source).put((byte) 'X');
+            var builder = PropertyMap.builder();
+            var properties = new HashMap<String, String>();
+
+            // The bytes outside of the position and limit would otherwise change the first key and add another
+            PropertiesParser.parse(buffer.position(1).limit(source.length + 1), StandardCharsets.ISO_8859_1, builder);
+            builder.build().forEach(properties::put);
+
+            assertAll(
+                () -> assertEquals(parse(new String(source, StandardCharsets.ISO_8859_1)), properties),
+                () -> assertEquals(1, buffer.position())
+            );
+        }
+
+        @Test
+        void parsedProperties_ShouldOverrideExistingKeys() {
+            var builder = PropertyMap.builder().put("Key", "Classpath").put("Other", "Classpath");
+            var source = "Key = Filesystem".getBytes(StandardCharsets.ISO_8859_1);
+
+            PropertiesParser.parse(source, 0, source.length, StandardCharsets.ISO_8859_1, builder);
+
+            var properties = builder.build();
+
+            assertAll(
+                () -> assertEquals("Filesystem", properties.get("Key")),
+                () -> assertEquals("Classpath", properties.get("Other"))
+            );
+        }
+    }
+
+    @Nested
+    class Utf8Tests {
+        @ParameterizedTest
+        @ValueSource(strings = {
+            "Ключ = Стойност\nЕще: значение",
+            "Emoji\uD83D\uDE00 = \uD83C\uDF89 party \u00e9\\\n   continued é",
+            "# Коментар \\\nKey = 中文 ",
+            "Key = Trailing backslash ü\\"
+        })
+        void parsedProperties_ShouldMatchUtf8Reader(String escapedSource) throws IOException {
+            // The sources are written with escapes, so the test reads the same with any source encoding
+            var source = load("Source = " + escapedSource).get("Source");
+            var expected = new Properties();
+            var expectedMap = new HashMap<String, String>();
+
+            expected.load(new StringReader(source));
+            expected.forEach((key, value) -> expectedMap.put((String) key, (String) value));
+
+            assertEquals(expectedMap, parse(source.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8));
+        }
+
+        @Test
+        void byteOrderMark_ShouldBeSkipped() {
+            var source = "\uFEFFKey = Value".getBytes(StandardCharsets.UTF_8);
+
+            assertEquals(Map.of("Key", "Value"), parse(source, StandardCharsets.UTF_8));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"C0AF", "E282", "ED A0 80", "F4 90 80 80", "80", "FF"})
+        void malformedInput_ShouldThrow(String hexBytes) {
+            var hex = hexBytes.replace(" ", "");
+            var source = new byte[4 + hex.length() / 2];
+
+            System.arraycopy("K = ".getBytes(StandardCharsets.US_ASCII), 0, source, 0, 4);
+
+            for (var i = 0; i < hex.length() / 2; i++) {
+                source[4 + i] = (byte) Integer.parseInt(hex.substring(i * 2, i * 2 + 2), 16);
+            }
+
+            assertThrows(IllegalArgumentException.class, () -> parse(source, StandardCharsets.UTF_8));
+        }
+
+        @Test
+        void unsupportedCharset_ShouldThrow() {
+            assertThrows(IllegalArgumentException.class, () -> parse(new byte[0], StandardCharsets.UTF_16));
+        }
+    }
+
+    @Nested
+    class PropertyMapTests {
+        @Test
+        void emptyMap_ShouldBeShared() {
+            var map = PropertyMap.of(Map.of());
+
+            assertAll(
+                () -> assertSame(PropertyMap.EMPTY, map),
+                () -> assertNull(map.get("Key")),
+                () -> assertEquals("Default", map.getOrDefault("Key", "Default"))
+            );
+        }
+
+        @Test
+        void map_ShouldContainAllEntries() {
+            var entries = new HashMap<String, String>();
+
+            // Colliding keys ("Aa" and "BB" share a hash code) must be found through probing
+            entries.put("Aa", "1");
+            entries.put("BB", "2");
+            IntStream.range(0, 1000).forEach(i -> entries.put("Key" + i, "Value" + i));
+
+            var map = PropertyMap.of(entries);
+            var visited = new HashMap<String, String>();
+
+            map.forEach(visited::put);
+
+            assertAll(
+                () -> assertEquals(entries.size(), map.size()),
+                () -> assertEquals(entries, visited),
+                () -> assertEquals("1", map.get("Aa")),
+                () -> assertEquals("2", map.get("BB")),
+                () -> assertEquals("Value999", map.get("Key999")),
+                () -> assertTrue(map.containsKey("Key0")),
+                () -> assertFalse(map.containsKey("Key1000")),
+                () -> assertEquals("", map.getOrDefault("Key1000", ""))
+            );
+        }
+    }
+
+    @Nested
+    class SnapshotTests {
+        private static final String SOURCE = "Key = Value\nEscaped\\ Key = \\u00e9 \\\n  continued\nSame = Value\n" +
+            "Unicode = \u4E2D\u00e9\nEmpty =\nDuplicate = First\nDuplicate = Second";
+
+        private static Map<String, String> read(byte[] snapshot, byte[] source, Charset charset) {
+            var builder = PropertyMap.builder();
+            var properties = new HashMap<String, String>();
+
+            if (PropertiesSnapshot.read(snapshot, ByteBuffer.wrap(source), charset, builder)) {
+                builder.build().forEach(properties::put);
+
+                return properties;
+            }
+
+            builder.build().forEach(properties::put);
+            assertTrue(properties.isEmpty());
+
+            return null;
+        }
+
+        @Test
+        void snapshot_ShouldMatchParsedSource() {
+            var source = SOURCE.getBytes(StandardCharsets.UTF_8);
+            var snapshot = PropertiesSnapshot.write(source, StandardCharsets.UTF_8);
+
+            assertEquals(parse(source, StandardCharsets.UTF_8), read(snapshot, source, StandardCharsets.UTF_8));
+        }
+
+        @Test
+        void mismatchedSnapshot_ShouldNotBeLoaded() {
+            var source = SOURCE.getBytes(StandardCharsets.UTF_8);
+            var snapshot = PropertiesSnapshot.write(source, StandardCharsets.UTF_8);
+            var editedSource = SOURCE.replace("First", "Fixed").getBytes(StandardCharsets.UTF_8);
+
+            assertAll(
+                () -> assertNull(read(snapshot, editedSource, StandardCharsets.UTF_8)),
+                () -> assertNull(read(snapshot, source, StandardCharsets.ISO_8859_1))
+            );
+        }
+
+        @Test
+        void malformedSnapshot_ShouldNotBeLoaded() {
+            var source = SOURCE.getBytes(StandardCharsets.UTF_8);
+            var snapshot = PropertiesSnapshot.write(source, StandardCharsets.UTF_8);
+
+            // Points the value of the first entry past the end of the snapshot
+            var corrupted = snapshot.clone();
+            ByteBuffer.wrap(corrupted).putInt(28 + 8, snapshot.length);
+
+            assertAll(
+                () -> assertNull(read(new byte[0], source, StandardCharsets.UTF_8)),
+                () -> assertNull(read(Arrays.copyOf(snapshot, 30), source, StandardCharsets.UTF_8)),
+                () -> assertNull(read(corrupted, source, StandardCharsets.UTF_8))
+            );
+        }
+    }
+
+    @Nested
+    class KeyFilterTests {
+        private static final String SOURCE = "Key = Value\nEscaped\\ Key = Escaped \\\n  continued\n" +
+            "Skipped = \\uxxxx\nSkipped\\ Escaped = \\\n  Value\n#Key = Comment";
+
+        private static final KeyFilter FILTER = new KeyFilter(List.of("Key", "Escaped Key", "Missing"));
+
+        @Test
+        void filter_ShouldAcceptOnlyItsKeys() {
+            var chars = "_Escaped Key_".toCharArray();
+
+            assertAll(
+                () -> assertTrue(FILTER.accepts("Key")),
+                () -> assertFalse(FILTER.accepts("key")),
+                () -> assertTrue(FILTER.accepts(chars, 1, 12)),
+                () -> assertFalse(FILTER.accepts(chars, 1, 8)),
+                () -> assertEquals(new KeyFilter(List.of("Missing", "Key", "Escaped Key")), FILTER),
+                () -> assertFalse(new KeyFilter(List.of()).accepts(""))
+            );
+        }
+
+        @Test
+        void filteredParse_ShouldSkipRejectedEntries() {
+            var source = SOURCE.getBytes(StandardCharsets.ISO_8859_1);
+            var builder = PropertyMap.builder(FILTER);
+            var properties = new HashMap<String, String>();
+
+            // The malformed escape of the skipped entry is never unescaped
+            PropertiesParser.parse(source, 0, source.length, StandardCharsets.ISO_8859_1, builder);
+            builder.build().forEach(properties::put);
+
+            assertEquals(Map.of("Key", "Value", "Escaped Key", "Escaped continued"), properties);
+        }
+
+        @Test
+        void filteredMapFootprint_ShouldIncludeRetainedSource() {
+            var source = ("Key = Value\nSkipped = " + "x".repeat(64 * 1024)).getBytes(StandardCharsets.ISO_8859_1);
+            var builder = PropertyMap.builder(FILTER);
+
+            PropertiesParser.parse(source, 0, source.length, StandardCharsets.ISO_8859_1, builder);
+
+            // The single retained value pins the whole source
+            assertTrue(builder.build().estimateSize() > source.length);
+        }
+
+        @Test
+        void filteredSnapshot_ShouldSkipRejectedEntries() {
+            var source = "Key = Value\nEscaped\\ Key = Escaped\nSkipped = Value".getBytes(StandardCharsets.UTF_8);
+            var snapshot = PropertiesSnapshot.write(source, StandardCharsets.UTF_8);
+            var builder = PropertyMap.builder(FILTER);
+            var properties = new HashMap<String, String>();
+
+            assertTrue(PropertiesSnapshot.read(snapshot, ByteBuffer.wrap(source), StandardCharsets.UTF_8, builder));
+            builder.build().forEach(properties::put);
+
+            assertEquals(Map.of("Key", "Value", "Escaped Key", "Escaped"), properties);
+        }
+    }
+}